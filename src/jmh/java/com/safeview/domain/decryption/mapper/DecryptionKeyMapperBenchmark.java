@@ -0,0 +1,91 @@
+package com.safeview.domain.decryption.mapper;
+
+import com.safeview.domain.decryption.dto.KeyDetailResponseDto;
+import com.safeview.domain.decryption.dto.KeyIssuanceResponseDto;
+import com.safeview.domain.decryption.dto.KeyListResponseDto;
+import com.safeview.domain.decryption.dto.KeyVerificationResponseDto;
+import com.safeview.domain.decryption.entity.DecryptionKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복호화 키 DTO 변환 벤치마크
+ *
+ * 키 발급(사용 이력 문자열 분리 포함), 목록, 상세, 검증 응답 변환 비용을 측정합니다.
+ * usedCount: 사용 이력(usageHistory)에 기록된 사용 횟수
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=DecryptionKeyMapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DecryptionKeyMapperBenchmark {
+
+    @Param({"0", "90"})
+    private int usedCount;
+
+    private DecryptionKeyMapper mapper;
+    private DecryptionKey key;
+    private List<DecryptionKey> page;
+
+    @Setup
+    public void setUp() {
+        mapper = new DecryptionKeyMapper();
+        StringBuilder history = new StringBuilder();
+        for (int i = 0; i < usedCount; i++) {
+            if (i > 0) {
+                history.append(',');
+            }
+            history.append(LocalDateTime.now().minusHours(i));
+        }
+        key = DecryptionKey.builder()
+                .id(1L)
+                .userId(1L)
+                .encryptedKey("ZW5jcnlwdGVkLWtleQ==")
+                .keyHash("n4bQgYhMfWWaL+qgxVrQFaO/TxsrC4Is0V1sFbDwCgg=")
+                .blockchainTxHash("0x" + "a".repeat(64))
+                .accessToken("YWNjZXNzLXRva2Vu")
+                .keyType("CCTV_AES256")
+                .status("ACTIVE")
+                .issuedAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .remainingUses(90 - usedCount)
+                .usageHistory(usedCount > 0 ? history.toString() : null)
+                .build();
+        page = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            page.add(key);
+        }
+    }
+
+    @Benchmark
+    public KeyIssuanceResponseDto toKeyIssuanceResponse() {
+        return mapper.toKeyIssuanceResponse(key, "YWNjZXNzLXRva2Vu");
+    }
+
+    @Benchmark
+    public KeyListResponseDto toKeyListResponse() {
+        return mapper.toKeyListResponse(page, 100, 0, 20);
+    }
+
+    @Benchmark
+    public KeyDetailResponseDto toKeyDetailResponse() {
+        return mapper.toKeyDetailResponse(key);
+    }
+
+    @Benchmark
+    public KeyVerificationResponseDto toKeyVerificationResponse() {
+        return mapper.toKeyVerificationResponse(key, true, "키 검증 성공", "ZGVjcnlwdGlvbi10b2tlbg==", "CAM-001", true);
+    }
+}
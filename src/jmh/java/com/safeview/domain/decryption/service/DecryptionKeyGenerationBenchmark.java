@@ -0,0 +1,68 @@
+package com.safeview.domain.decryption.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safeview.domain.decryption.config.DecryptionConfig;
+import com.safeview.domain.decryption.entity.DecryptionKey;
+import com.safeview.global.util.CryptoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복호화 키/토큰 생성 벤치마크
+ *
+ * 키 발급과 키 검증 과정에서 호출되는 난수 키·토큰 생성, 복호화 토큰(Ed25519) 서명과
+ * 키 해시(SHA-256) 생성 비용을 측정합니다.
+ * 저장소, 블록체인 연동은 사용하지 않으므로 해당 의존성은 비워 둡니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=DecryptionKeyGenerationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DecryptionKeyGenerationBenchmark {
+
+    private DecryptionServiceImpl service;
+    private DecryptionKey key;
+    private String rawKey;
+
+    @Setup
+    public void setUp() {
+        DecryptionConfig config = new DecryptionConfig();
+        CryptoUtil cryptoUtil = new CryptoUtil();
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.setActiveProfiles("test"); // 임시 서명 키 사용
+        DecryptionTokenSigner signer = new DecryptionTokenSigner(config, new ObjectMapper(), cryptoUtil, environment);
+        service = new DecryptionServiceImpl(null, null, config, null, null, null, null, cryptoUtil, signer, null, null);
+        key = DecryptionKey.builder().id(1L).expiresAt(LocalDateTime.now().plusDays(30)).build();
+        rawKey = service.generateCCTVDecryptionKey();
+    }
+
+    @Benchmark
+    public String generateCCTVDecryptionKey() {
+        return service.generateCCTVDecryptionKey();
+    }
+
+    @Benchmark
+    public String generateSecureToken() {
+        return service.generateSecureToken();
+    }
+
+    @Benchmark
+    public String generateDecryptionToken() {
+        return service.generateDecryptionToken(key, "CAM-001");
+    }
+
+    @Benchmark
+    public String generateKeyHash() {
+        return service.generateKeyHash(rawKey);
+    }
+}
@@ -0,0 +1,126 @@
+package com.safeview.domain.user.repository;
+
+import com.safeview.domain.user.entity.Gender;
+import com.safeview.domain.user.entity.Role;
+import com.safeview.domain.user.entity.User;
+import com.safeview.global.config.EntityCacheConfig;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.cache.CacheManager;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 사용자 2차 캐시 벤치마크
+ *
+ * 인증된 요청의 사용자 조회(ID)와 로그인/회원가입의 사용자 조회(이메일)를
+ * 요청 하나 = 세션/트랜잭션 하나로 실행해 캐시 사용 전후의 요청당 시간과 SQL 수(statements / requests)를 비교합니다.
+ * DB는 임베디드 H2이므로 실제 MySQL에서는 캐시 미적중 비용(네트워크 왕복)이 더 큽니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=UserCacheBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserCacheBenchmark {
+
+    private static final String EMAIL = "user@safeview.com";
+
+    @Param({"false", "true"})
+    private boolean secondLevelCache;
+
+    private SessionFactory sessionFactory;
+    private CacheManager cacheManager;
+    private Statistics statistics;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(User.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:user-cache-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .setProperty(AvailableSettings.LOG_SESSION_METRICS, "false")
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, String.valueOf(secondLevelCache));
+        if (secondLevelCache) {
+            cacheManager = EntityCacheConfig.createCacheManager(10000, 300);
+            configuration.setProperty(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            configuration.getProperties().put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        }
+        sessionFactory = configuration.buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+
+        LocalDateTime now = LocalDateTime.now();
+        User user = User.builder()
+                .email(EMAIL).password("encoded").name("사용자").address("서울").phone("010-1234-5678")
+                .gender(Gender.MALE).birthday("1990-01-01").role(Role.USER)
+                .createdAt(now).updatedAt(now)
+                .build();
+        userId = sessionFactory.fromTransaction(session -> {
+            session.persist(user);
+            return user.getId();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    /*
+     * 측정 구간의 요청 수와 실행한 SQL 수 (statements / requests = 요청당 SQL 수)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Queries {
+
+        public long requests;
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+            statements = 0;
+        }
+    }
+
+    @Benchmark
+    public User findById(Queries queries) {
+        return request(queries, session -> session.find(User.class, userId));
+    }
+
+    @Benchmark
+    public User findByEmail(Queries queries) {
+        return request(queries, session -> session.bySimpleNaturalId(User.class).load(EMAIL));
+    }
+
+    private User request(Queries queries, Function<Session, User> lookup) {
+        long before = statistics.getPrepareStatementCount();
+        User user = sessionFactory.fromTransaction(lookup);
+        queries.requests++;
+        queries.statements += statistics.getPrepareStatementCount() - before;
+        return user;
+    }
+}
@@ -0,0 +1,79 @@
+package com.safeview.domain.user.service;
+
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일 본문 렌더링 벤치마크
+ *
+ * 기존 방식(String.format + multipart MimeMessageHelper)과
+ * 사전 컴파일 템플릿 + 단일 파트 메시지 방식의 초당 처리량과 메시지당 할당량을 비교합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=EmailTemplateBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmailTemplateBenchmark {
+
+    private static final String CODE = "482913";
+
+    private String formatSource;
+    private EmailTemplate template;
+    private JavaMailSenderImpl mailSender;
+
+    @Setup
+    public void setUp() throws Exception {
+        String html = new ClassPathResource("templates/email/verification-code.html")
+                .getContentAsString(StandardCharsets.UTF_8);
+        formatSource = html.replace("{{verificationCode}}", "%s");
+        template = EmailTemplate.compile(html);
+        mailSender = new JavaMailSenderImpl();
+    }
+
+    @Benchmark
+    public String renderWithStringFormat() {
+        return String.format(formatSource, CODE);
+    }
+
+    @Benchmark
+    public String renderWithCompiledTemplate() {
+        return template.render(CODE);
+    }
+
+    @Benchmark
+    public MimeMessage buildMultipartMessageWithStringFormat() throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo("user@safeview.com");
+        helper.setFrom("noreply@safeview.com");
+        helper.setSubject("[SafeView] 회원가입 인증번호");
+        helper.setText(String.format(formatSource, CODE), true);
+        message.saveChanges();
+        return message;
+    }
+
+    @Benchmark
+    public MimeMessage buildSinglePartMessageWithCompiledTemplate() throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setTo("user@safeview.com");
+        helper.setFrom("noreply@safeview.com");
+        helper.setSubject("[SafeView] 회원가입 인증번호");
+        helper.setText(template.render(CODE), true);
+        message.saveChanges();
+        return message;
+    }
+}
@@ -0,0 +1,138 @@
+package com.safeview.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safeview.domain.user.dto.UserInfoResponseDto;
+import com.safeview.domain.user.entity.Gender;
+import com.safeview.domain.user.entity.Role;
+import com.safeview.domain.user.entity.User;
+import com.safeview.domain.user.mapper.UserMapper;
+import com.safeview.global.response.ApiResponse;
+import com.safeview.global.util.CryptoUtil;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내 정보(/api/users/me) 응답 캐시 벤치마크
+ *
+ * 컨트롤러가 응답 본문을 만드는 세 경로의 요청당 시간, SQL 수, 본문 바이트를 비교합니다.
+ * - uncached: 사용자 조회(세션/트랜잭션 하나) + DTO 변환 + JSON 직렬화 (캐시 도입 전)
+ * - cached: 캐시 적중, 직렬화된 본문 그대로 반환
+ * - notModified: 캐시 적중 + If-None-Match 일치, 본문 없이 304
+ * DB는 임베디드 H2이고 2차 캐시는 끈 상태이므로 uncached의 SQL 수는 캐시 미적중 시의 값입니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=UserProfileCacheBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserProfileCacheBenchmark {
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private ObjectMapper objectMapper;
+    private UserMapper userMapper;
+    private UserProfileCache userProfileCache;
+    private Long userId;
+    private String etag;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:user-profile-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .setProperty(AvailableSettings.LOG_SESSION_METRICS, "false")
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+                .buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+        objectMapper = new ObjectMapper();
+        userMapper = new UserMapper(null);
+        userProfileCache = new UserProfileCache(objectMapper, new CryptoUtil(), 10000, 60);
+
+        LocalDateTime now = LocalDateTime.now();
+        User user = User.builder()
+                .email("user@safeview.com").password("encoded").name("사용자").address("서울").phone("01012345678")
+                .gender(Gender.MALE).birthday("1990-01-01").role(Role.USER)
+                .createdAt(now).updatedAt(now)
+                .build();
+        userId = sessionFactory.fromTransaction(session -> {
+            session.persist(user);
+            return user.getId();
+        });
+        etag = userProfileCache.get(userId, this::loadUserInfo).etag();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    /*
+     * 측정 구간의 요청 수, 실행한 SQL 수, 응답 본문 바이트 (statements / requests = 요청당 SQL 수)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Requests {
+
+        public long requests;
+        public long statements;
+        public long bodyBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+            statements = 0;
+            bodyBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public byte[] uncached(Requests requests) throws Exception {
+        long before = statistics.getPrepareStatementCount();
+        byte[] body = objectMapper.writeValueAsBytes(ApiResponse.onSuccess(loadUserInfo(userId)));
+        return record(requests, before, body);
+    }
+
+    @Benchmark
+    public byte[] cached(Requests requests) {
+        long before = statistics.getPrepareStatementCount();
+        byte[] body = userProfileCache.get(userId, this::loadUserInfo).body();
+        return record(requests, before, body);
+    }
+
+    @Benchmark
+    public byte[] notModified(Requests requests) {
+        long before = statistics.getPrepareStatementCount();
+        UserProfileCache.Profile profile = userProfileCache.get(userId, this::loadUserInfo);
+        byte[] body = profile.matches(etag) ? new byte[0] : profile.body();
+        return record(requests, before, body);
+    }
+
+    private UserInfoResponseDto loadUserInfo(Long id) {
+        return userMapper.toUserInfoResponseDto(sessionFactory.fromTransaction(session -> session.find(User.class, id)));
+    }
+
+    private byte[] record(Requests requests, long statementsBefore, byte[] body) {
+        requests.requests++;
+        requests.statements += statistics.getPrepareStatementCount() - statementsBefore;
+        requests.bodyBytes += body.length;
+        return body;
+    }
+}
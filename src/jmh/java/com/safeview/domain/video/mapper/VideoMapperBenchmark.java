@@ -0,0 +1,55 @@
+package com.safeview.domain.video.mapper;
+
+import com.safeview.domain.video.dto.VideoListResponseDto;
+import com.safeview.domain.video.entity.Video;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영상 목록 DTO 변환 벤치마크
+ *
+ * 영상 목록 조회(사용자/관리자)의 응답 변환 비용을 영상 수별로 측정합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=VideoMapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int videoCount;
+
+    private VideoMapper mapper;
+    private List<Video> videos;
+
+    @Setup
+    public void setUp() {
+        mapper = new VideoMapper();
+        videos = new ArrayList<>(videoCount);
+        for (int i = 0; i < videoCount; i++) {
+            String filename = "recording_20250101_" + String.format("%06d", i) + ".mp4";
+            videos.add(Video.builder()
+                    .id((long) i)
+                    .userId(1L)
+                    .filename(filename)
+                    .s3Url("https://safeview-recordings.s3.ap-northeast-2.amazonaws.com/" + filename)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public VideoListResponseDto toVideoListResponseDto() {
+        return mapper.toVideoListResponseDto(1L, videos);
+    }
+}
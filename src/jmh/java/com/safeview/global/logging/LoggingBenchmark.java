@@ -0,0 +1,107 @@
+package com.safeview.global.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 출력 방식별 요청 처리량 벤치마크
+ *
+ * 요청 1건에서 INFO 로그 3줄을 남기는 경우를 기준으로 비교합니다.
+ * - sync: 요청 스레드가 직접 파일에 기록 (기존 기본 설정과 같은 방식)
+ * - async: logback-spring.xml과 같은 AsyncAppender(neverBlock) 경유, 요청 스레드는 큐 적재만 수행
+ *
+ * 출력 대상은 임시 파일이며 콘솔 출력도 같은 경향을 보입니다.
+ * async는 큐가 가득 차면 INFO 로그를 버리므로, 처리량과 함께 버려진 로그가 없는지 결과 파일 크기로 확인합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=LoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoggingBenchmark {
+
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %t --- %-40.40logger{39} : %m%n";
+
+    @Param({"sync", "async"})
+    private String mode;
+
+    private LoggerContext context;
+    private Logger logger;
+    private File file;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() throws IOException {
+        context = new LoggerContext();
+        file = Files.createTempFile("safeview-logging-benchmark", ".log").toFile();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setName("FILE");
+        fileAppender.setFile(file.getAbsolutePath());
+        fileAppender.setAppend(false);
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> appender = fileAppender;
+        if ("async".equals(mode)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(819);
+            async.setNeverBlock(true);
+            async.addAppender(fileAppender);
+            async.start();
+            appender = async;
+        }
+
+        logger = context.getLogger("com.safeview.domain.decryption.service.DecryptionServiceImpl");
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDown() {
+        context.stop();
+        file.delete();
+    }
+
+    /*
+     * INFO 로그 3줄을 남기는 요청 1건
+     */
+    @Benchmark
+    public long requestWithInfoLogs() {
+        long keyId = System.nanoTime() & 0xFFFF;
+        logger.info("복호화 키 검증 시작: keyId={}", keyId);
+        logger.info("블록체인 키 유효성 확인 완료: keyId={}, valid={}", keyId, true);
+        logger.info("복호화 키 검증 완료: keyId={}, videoId={}", keyId, keyId + 1);
+        return keyId;
+    }
+}
@@ -0,0 +1,91 @@
+package com.safeview.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safeview.domain.decryption.dto.KeyVerificationResponseDto;
+import com.safeview.domain.video.dto.VideoListResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse JSON 직렬화 벤치마크
+ *
+ * 응답 본문 직렬화 비용을 측정합니다. ObjectMapper는 Spring Boot 기본 설정과 같은
+ * Jackson2ObjectMapperBuilder로 생성합니다. (JavaTimeModule, 날짜 문자열 출력)
+ * - message: 문자열 데이터 (로그아웃, 재발급 응답)
+ * - keyVerification: 키 검증 응답
+ * - videoList: 영상 100건 목록 응답
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ApiResponseSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<String> messageResponse;
+    private ApiResponse<KeyVerificationResponseDto> keyVerificationResponse;
+    private ApiResponse<VideoListResponseDto> videoListResponse;
+    private ApiResponse<Object> failureResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        messageResponse = ApiResponse.onSuccess("Access Token이 재발급되었습니다.");
+        keyVerificationResponse = ApiResponse.onSuccess(KeyVerificationResponseDto.builder()
+                .isValid(true)
+                .message("키 검증 성공")
+                .canDecrypt(true)
+                .verifiedAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .decryptionToken("ZGVjcnlwdGlvbi10b2tlbi0wMTIzNDU2Nzg5YWJjZGVm")
+                .remainingUses(89)
+                .cameraId("CAM-001")
+                .blockchainTxHash("0x" + "a".repeat(64))
+                .blockchainVerified(true)
+                .build());
+
+        List<String> filenames = new ArrayList<>();
+        List<String> s3Urls = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String filename = "recording_20250101_" + String.format("%06d", i) + ".mp4";
+            filenames.add(filename);
+            s3Urls.add("https://safeview-recordings.s3.ap-northeast-2.amazonaws.com/" + filename);
+        }
+        videoListResponse = ApiResponse.onSuccess(new VideoListResponseDto(1L, filenames, s3Urls));
+        failureResponse = ApiResponse.onFailure(ErrorCode.INVALID_JWT_TOKEN);
+    }
+
+    @Benchmark
+    public byte[] message() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(messageResponse);
+    }
+
+    @Benchmark
+    public byte[] keyVerification() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(keyVerificationResponse);
+    }
+
+    @Benchmark
+    public byte[] videoList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(videoListResponse);
+    }
+
+    @Benchmark
+    public byte[] failure() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(failureResponse);
+    }
+}
@@ -0,0 +1,63 @@
+package com.safeview.global.security;
+
+import com.safeview.domain.auth.entity.AccessTokenDenial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token 차단 목록 확인 벤치마크
+ *
+ * 인증 필터가 요청마다 수행하는 차단 여부 확인 비용을 측정합니다. (목표: 요청당 1µs 미만)
+ * 차단 항목 수별로 통과하는 토큰(대부분의 요청)과 차단된 토큰을 확인합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=AccessTokenDenylistBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessTokenDenylistBenchmark {
+
+    @Param({"0", "10000", "100000"})
+    private int deniedEntries;
+
+    private AccessTokenDenylist denylist;
+    private String allowedTokenId;
+    private String deniedTokenId;
+    private Instant issuedAt;
+
+    @Setup
+    public void setUp() {
+        denylist = new AccessTokenDenylist(null, null);
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+        for (int i = 0; i < deniedEntries; i++) {
+            deniedTokenId = UUID.randomUUID().toString();
+            denylist.apply(AccessTokenDenial.ofToken(deniedTokenId, (long) i, expiresAt));
+            if (i % 10 == 0) {
+                denylist.apply(AccessTokenDenial.ofUser((long) i, LocalDateTime.now(), expiresAt));
+            }
+        }
+        allowedTokenId = UUID.randomUUID().toString();
+        issuedAt = Instant.now();
+    }
+
+    @Benchmark
+    public boolean allowedToken() {
+        return denylist.isDenied(allowedTokenId, 7L, issuedAt);
+    }
+
+    @Benchmark
+    public boolean deniedToken() {
+        return denylist.isDenied(deniedTokenId, 7L, issuedAt);
+    }
+}
@@ -0,0 +1,63 @@
+package com.safeview.global.security;
+
+import com.safeview.domain.user.entity.Role;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 토큰 생성/파싱 벤치마크
+ *
+ * 로그인·재발급 시의 토큰 생성과, 인증 필터가 요청마다 수행하는 서명 검증 포함 파싱 비용을 측정합니다.
+ * - parseClaims: 필터가 사용하는 1회 파싱 (getClaims)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtTokenProviderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        setField( "secretKey", "safeview-benchmark-secret-key-0123456789abcdef");
+        setField( "accessTokenExpirationTime", 3_600_000L);
+        setField( "refreshTokenExpirationTime", 604_800_000L);
+        provider.init();
+        accessToken = provider.generateAccessToken(1L, Role.USER);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return provider.generateAccessToken(1L, Role.USER);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return provider.generateRefreshToken(1L, "token-id", "family-id");
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return provider.getClaims(accessToken);
+    }
+
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtTokenProvider.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, provider, value);
+    }
+}
@@ -0,0 +1,78 @@
+package com.safeview.global.trace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 구간 기록 오버헤드 벤치마크
+ *
+ * verify/ai 요청과 같은 구성(DB 조회, 블록체인 확인, DB 저장, 커밋, 기타 처리)의 모의 요청을
+ * 구간 기록 없이/기록하여(JSON 레코드 생성 포함, 로그 출력 제외) 처리하는 시간을 비교합니다. (목표: 1% 미만)
+ * 각 구간의 작업량(stageWork)은 실제 I/O 대신 CPU 작업으로 대체하며, 기본값은 요청당 수십 µs 수준으로
+ * 실제 요청(DB 왕복 포함 수 ms)보다 짧게 잡아 오버헤드 비율을 보수적으로 측정합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=RequestTraceBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestTraceBenchmark {
+
+    private static final String FIND_SPAN = "db:DecryptionKeyRepository.findByAccessToken";
+    private static final String CHAIN_SPAN = "chain:BlockchainService.isKeyValid";
+    private static final String SAVE_SPAN = "db:DecryptionKeyRepository.save";
+    private static final String COMMIT_SPAN = "tx:commit";
+
+    @Param({"2000", "20000"})
+    private int stageWork;
+
+    @Benchmark
+    public void untracedRequest() {
+        simulateRequest();
+    }
+
+    @Benchmark
+    public String tracedRequest() {
+        RequestTrace trace = RequestTrace.begin("POST", "/api/decryption/keys/verify/ai");
+        simulateRequest();
+        trace.finish();
+        return trace.toRecord(200);
+    }
+
+    /*
+     * 구간 기록 자체 비용 (작업 없이 begin, 구간 4개, finish, 레코드 생성)
+     */
+    @Benchmark
+    public String traceOverheadOnly() {
+        RequestTrace trace = RequestTrace.begin("POST", "/api/decryption/keys/verify/ai");
+        RequestTrace.endSpan(FIND_SPAN, RequestTrace.startSpan());
+        RequestTrace.endSpan(CHAIN_SPAN, RequestTrace.startSpan());
+        RequestTrace.endSpan(SAVE_SPAN, RequestTrace.startSpan());
+        RequestTrace.endSpan(COMMIT_SPAN, RequestTrace.startSpan());
+        trace.finish();
+        return trace.toRecord(200);
+    }
+
+    private void simulateRequest() {
+        stage(FIND_SPAN);
+        stage(CHAIN_SPAN);
+        stage(SAVE_SPAN);
+        stage(COMMIT_SPAN);
+        // 컨트롤러, 직렬화 등 구간 밖 처리
+        Blackhole.consumeCPU(stageWork);
+    }
+
+    private void stage(String name) {
+        long start = RequestTrace.startSpan();
+        Blackhole.consumeCPU(stageWork);
+        RequestTrace.endSpan(name, start);
+    }
+}
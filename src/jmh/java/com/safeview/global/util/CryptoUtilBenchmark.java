@@ -0,0 +1,61 @@
+package com.safeview.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 난수 토큰/키 해시 생성 방식 비교 벤치마크
+ *
+ * - legacy*: 기존 방식 (호출마다 new SecureRandom(), MessageDigest.getInstance(), encodeToString)
+ * - cryptoUtil*: CryptoUtil (스레드별 DRBG, MessageDigest, 인코딩 버퍼 재사용)
+ * 연산당 할당량은 -prof gc의 gc.alloc.rate.norm으로 비교합니다.
+ * 동시 요청 상황은 -t 4 등 스레드 수를 늘려 확인합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=CryptoUtilBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(1)
+public class CryptoUtilBenchmark {
+
+    private static final int TOKEN_SIZE = 32;
+    private static final String RAW_KEY = "q3Jx0H2oV6mJp8sT1cYw5dLk9fGb4nRz7aUe2iOvXyM=";
+
+    private final CryptoUtil cryptoUtil = new CryptoUtil();
+
+    @Benchmark
+    public String legacyToken() {
+        SecureRandom secureRandom = new SecureRandom();
+        byte[] tokenBytes = new byte[TOKEN_SIZE];
+        secureRandom.nextBytes(tokenBytes);
+        return Base64.getEncoder().encodeToString(tokenBytes);
+    }
+
+    @Benchmark
+    public String cryptoUtilToken() {
+        return cryptoUtil.randomUrlSafe(TOKEN_SIZE);
+    }
+
+    @Benchmark
+    public String legacyKeyHash() throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] hash = digest.digest(RAW_KEY.getBytes("UTF-8"));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    @Benchmark
+    public String cryptoUtilKeyHash() {
+        return cryptoUtil.sha256Base64(RAW_KEY);
+    }
+}
@@ -0,0 +1,41 @@
+package com.safeview.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 서버 대체 서버
+ *
+ * - POST /start_recording, POST /stop_recording: 녹화 파일명과 S3 URL 반환
+ * - GET /recordings/{name}: 다운로드 URL 반환
+ */
+class AiServerStub extends StubHttpHandler {
+
+    private final String s3BaseUrl;
+    private final AtomicLong sequence = new AtomicLong();
+
+    AiServerStub(StubBehavior behavior, String s3BaseUrl) {
+        super(behavior);
+        this.s3BaseUrl = s3BaseUrl;
+    }
+
+    @Override
+    protected void success(HttpExchange exchange, String body) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+
+        if ("POST".equals(method) && ("/start_recording".equals(path) || "/stop_recording".equals(path))) {
+            String filename = "recording_" + sequence.incrementAndGet() + ".mp4";
+            send(exchange, 200, "application/json",
+                    "{\"filename\":\"" + filename + "\",\"s3_url\":\"" + s3BaseUrl + "/recordings/" + filename + "\"}");
+        } else if ("GET".equals(method) && path.startsWith("/recordings/")) {
+            String filename = path.substring("/recordings/".length());
+            send(exchange, 200, "application/json",
+                    "{\"url\":\"" + s3BaseUrl + "/recordings/" + filename + "\",\"filename\":\"" + filename + "\"}");
+        } else {
+            send(exchange, 404, "application/json", "{\"error\":\"not found\"}");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.safeview.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Ethereum JSON-RPC 대체 서버
+ *
+ * 블록체인 서비스가 사용하는 주요 메서드에 고정 응답을 반환합니다.
+ * (eth_chainId, net_version, eth_blockNumber, eth_call, eth_sendRawTransaction, eth_getTransactionReceipt 등)
+ * 오류로 결정된 요청은 JSON-RPC 오류 객체로 응답합니다.
+ */
+class JsonRpcStub extends StubHttpHandler {
+
+    private static final Pattern METHOD = Pattern.compile("\"method\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\"[^\"]*\"|\\d+)");
+    private static final String TRUE_WORD = "\"0x" + "0".repeat(63) + "1\"";
+
+    JsonRpcStub(StubBehavior behavior) {
+        super(behavior);
+    }
+
+    @Override
+    protected void success(HttpExchange exchange, String body) throws IOException {
+        send(exchange, 200, "application/json",
+                "{\"jsonrpc\":\"2.0\",\"id\":" + id(body) + ",\"result\":" + result(find(METHOD, body)) + "}");
+    }
+
+    @Override
+    protected void failure(HttpExchange exchange, String body) throws IOException {
+        send(exchange, 200, "application/json",
+                "{\"jsonrpc\":\"2.0\",\"id\":" + id(body)
+                        + ",\"error\":{\"code\":-32000,\"message\":\"stub failure\"}}");
+    }
+
+    private static String result(String method) {
+        if (method == null) {
+            return "null";
+        }
+        return switch (method) {
+            case "eth_chainId" -> "\"0xaa36a7\"";
+            case "net_version" -> "\"11155111\"";
+            case "eth_blockNumber" -> "\"0x1\"";
+            case "eth_gasPrice" -> "\"0x4a817c800\"";
+            case "eth_getTransactionCount" -> "\"0x0\"";
+            case "eth_call" -> TRUE_WORD;
+            case "eth_sendRawTransaction", "eth_sendTransaction" -> "\"0x" + UUID.randomUUID().toString().replace("-", "")
+                    + UUID.randomUUID().toString().replace("-", "") + "\"";
+            case "eth_getTransactionReceipt" -> "{\"status\":\"0x1\",\"blockNumber\":\"0x1\",\"gasUsed\":\"0x5208\"}";
+            default -> "null";
+        };
+    }
+
+    private static String id(String request) {
+        String id = find(ID, request);
+        return id == null ? "null" : id;
+    }
+
+    private static String find(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.safeview.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 응답 시간 기록 (가상 사용자 1명 × 시나리오 1개 단위, 스레드 간 공유하지 않음)
+ *
+ * 측정이 끝나면 merge()로 합친 뒤 백분위를 계산합니다.
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long nanos, boolean success) {
+        if (!success) {
+            errors++;
+        }
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+    }
+
+    static Summary merge(List<LatencyRecorder> recorders) {
+        int total = recorders.stream().mapToInt(recorder -> recorder.count).sum();
+        long[] merged = new long[total];
+        long errors = 0;
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.latencies, 0, merged, offset, recorder.count);
+            offset += recorder.count;
+            errors += recorder.errors;
+        }
+        Arrays.sort(merged);
+        return new Summary(merged, errors);
+    }
+
+    record Summary(long[] sorted, long errors) {
+
+        int count() {
+            return sorted.length;
+        }
+
+        double percentileMs(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.safeview.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safeview.SafeviewApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 종단 간 부하 테스트
+ *
+ * 대체 서버(StubServers)와 loadtest 프로필 앱(H2)을 같은 JVM에서 기동한 뒤,
+ * 가상 사용자마다 시나리오를 가중치에 따라 반복 실행하고 시나리오별 처리량과 p50/p99를 출력합니다.
+ *
+ * 시나리오
+ * - login: 로그인 (BCrypt 검증 포함)
+ * - list: 내 영상 목록 조회
+ * - stream: 영상 구간 스트리밍 (S3 대체 서버에서 읽기)
+ * - verify: AI 서버용 복호화 키 검증 (블록체인 확인, 사용 횟수 갱신)
+ *
+ * 설정 (시스템 속성, ./gradlew loadTest -Ploadtest.users=50 형태로 전달)
+ * - loadtest.base-url: 지정 시 앱과 대체 서버를 기동하지 않고 해당 주소로 요청
+ * - loadtest.users: 동시 가상 사용자 수 (기본 20)
+ * - loadtest.warmup-s / loadtest.duration-s: 예열 / 측정 시간 (기본 10초 / 60초)
+ * - loadtest.mix: 시나리오 가중치 (기본 login=5,list=40,stream=30,verify=25)
+ * - loadtest.stream-range-bytes: 스트리밍 요청 1회 범위 (기본 256KB)
+ * - 대체 서버 지연·오류: StubBehavior 참고
+ */
+public class LoadTest {
+
+    private static final String USER_EMAIL = "user@safeview.com";
+    private static final String USER_PASSWORD = "user123";
+    private static final String MODERATOR_EMAIL = "moderator@safeview.com";
+    private static final String MODERATOR_PASSWORD = "moderator123";
+    private static final String AI_API_KEY = "loadtest-ai-key";
+    private static final int VIDEO_COUNT = 5;
+
+    enum Scenario { LOGIN, LIST, STREAM, VERIFY }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Map<Scenario, Integer> mix;
+    private final int streamRangeBytes;
+
+    private String decryptionAccessToken;
+
+    LoadTest(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.mix = parseMix(System.getProperty("loadtest.mix", "login=5,list=40,stream=30,verify=25"));
+        this.streamRangeBytes = Integer.getInteger("loadtest.stream-range-bytes", 256 * 1024);
+    }
+
+    public static void main(String[] args) throws Exception {
+        String externalUrl = System.getProperty("loadtest.base-url");
+        int users = Integer.getInteger("loadtest.users", 20);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-s", 10));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration-s", 60));
+
+        if (externalUrl != null) {
+            new LoadTest(externalUrl).run(users, warmup, duration);
+            return;
+        }
+
+        try (StubServers stubs = StubServers.start();
+             ConfigurableApplicationContext app = new SpringApplicationBuilder(SafeviewApplication.class)
+                     .profiles("loadtest")
+                     .run("--server.port=0")) {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            new LoadTest("http://localhost:" + port).run(users, warmup, duration);
+            System.out.printf("SMTP 수신: %d건%n", stubs.mailsReceived());
+        }
+    }
+
+    void run(int users, Duration warmup, Duration duration) throws Exception {
+        prepare();
+        System.out.printf("부하 테스트 시작: baseUrl=%s, users=%d, warmup=%ds, duration=%ds, mix=%s%n",
+                baseUrl, users, warmup.toSeconds(), duration.toSeconds(), mix);
+
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long measureEnd = measureStart + duration.toNanos();
+        List<Map<Scenario, LatencyRecorder>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Map<Scenario, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                futures.add(executor.submit(() -> virtualUser(measureStart, measureEnd)));
+            }
+            for (var future : futures) {
+                results.add(future.get());
+            }
+        }
+
+        report(results, duration);
+    }
+
+    /*
+     * 시나리오에 필요한 데이터 준비 (복호화 키 발급, 영상 엔티티 생성)
+     */
+    private void prepare() throws IOException, InterruptedException {
+        HttpClient moderator = client();
+        expectSuccess(login(moderator, MODERATOR_EMAIL, MODERATOR_PASSWORD), "중간 관리자 로그인");
+        HttpResponse<String> issued = moderator.send(
+                request("/api/decryption/keys").POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+        expectSuccess(issued, "복호화 키 발급");
+        decryptionAccessToken = objectMapper.readTree(issued.body()).path("data").path("accessToken").asText();
+
+        HttpClient user = client();
+        expectSuccess(login(user, USER_EMAIL, USER_PASSWORD), "사용자 로그인");
+        HttpResponse<String> me = user.send(request("/api/users/me").GET().build(), HttpResponse.BodyHandlers.ofString());
+        expectSuccess(me, "내 정보 조회");
+        long userId = objectMapper.readTree(me.body()).path("data").path("id").asLong();
+
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < VIDEO_COUNT; i++) {
+            urls.add("http://localhost/safeview-loadtest/recordings/" + filename(i));
+        }
+        String body = objectMapper.writeValueAsString(Map.of("userId", userId, "urls", urls));
+        expectSuccess(user.send(request("/api/videos/make-entity").POST(json(body)).build(),
+                HttpResponse.BodyHandlers.ofString()), "영상 엔티티 생성");
+    }
+
+    private Map<Scenario, LatencyRecorder> virtualUser(long measureStart, long measureEnd) throws Exception {
+        Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            recorders.put(scenario, new LatencyRecorder());
+        }
+
+        HttpClient client = client();
+        login(client, USER_EMAIL, USER_PASSWORD);
+
+        while (true) {
+            long start = System.nanoTime();
+            if (start >= measureEnd) {
+                break;
+            }
+            Scenario scenario = pick();
+            boolean success;
+            try {
+                success = execute(client, scenario);
+            } catch (IOException e) {
+                success = false;
+            }
+            if (start >= measureStart) {
+                recorders.get(scenario).record(System.nanoTime() - start, success);
+            }
+        }
+        return recorders;
+    }
+
+    private boolean execute(HttpClient client, Scenario scenario) throws IOException, InterruptedException {
+        HttpResponse<?> response = switch (scenario) {
+            case LOGIN -> login(client, USER_EMAIL, USER_PASSWORD);
+            case LIST -> client.send(request("/api/videos/all").GET().build(), HttpResponse.BodyHandlers.discarding());
+            case STREAM -> client.send(request("/api/videos/stream/" + filename(ThreadLocalRandom.current().nextInt(VIDEO_COUNT)))
+                            .header("Range", "bytes=0-" + (streamRangeBytes - 1))
+                            .GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            case VERIFY -> client.send(request("/api/decryption/keys/verify/ai")
+                            .header("AiApiKey", AI_API_KEY)
+                            .POST(json("{\"accessToken\":\"" + decryptionAccessToken + "\",\"cameraId\":\"CAM-001\"}"))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding());
+        };
+        return response.statusCode() / 100 == 2;
+    }
+
+    private void report(List<Map<Scenario, LatencyRecorder>> results, Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        System.out.println();
+        System.out.printf("%-8s %10s %8s %10s %10s %10s %10s%n", "scenario", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+
+        List<LatencyRecorder> all = new ArrayList<>();
+        for (Scenario scenario : Scenario.values()) {
+            List<LatencyRecorder> recorders = results.stream().map(result -> result.get(scenario)).toList();
+            all.addAll(recorders);
+            print(scenario.name().toLowerCase(), LatencyRecorder.merge(recorders), seconds);
+        }
+        print("total", LatencyRecorder.merge(all), seconds);
+    }
+
+    private static void print(String name, LatencyRecorder.Summary summary, double seconds) {
+        System.out.printf("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f%n",
+                name, summary.count(), summary.errors(), summary.count() / seconds,
+                summary.percentileMs(50), summary.percentileMs(99), summary.percentileMs(100));
+    }
+
+    private HttpResponse<String> login(HttpClient client, String email, String password) throws IOException, InterruptedException {
+        return client.send(request("/api/auth/login")
+                        .POST(json("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Scenario pick() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int value = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("시나리오 가중치가 비어 있습니다.");
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    private static HttpClient client() {
+        return HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    private static void expectSuccess(HttpResponse<String> response, String step) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(step + " 실패: status=" + response.statusCode() + ", body=" + response.body());
+        }
+    }
+
+    private static String filename(int index) {
+        return "video_" + index + ".mp4";
+    }
+
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,82 @@
+package com.safeview.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * S3 호환 대체 서버 (경로 방식: /{bucket}/{key})
+ *
+ * 모든 키에 대해 같은 크기의 고정 바이트 객체를 반환합니다. (GET, HEAD, Range: bytes=start-end 지원)
+ * ETag는 SDK의 본문 MD5 검증을 통과하도록 실제 MD5 값을 사용합니다.
+ *
+ * 설정: loadtest.s3.object-size (바이트, 기본 1MB)
+ */
+class S3Stub extends StubHttpHandler {
+
+    private static final String LAST_MODIFIED =
+            ZonedDateTime.now(ZoneOffset.UTC).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+    private final byte[] object;
+    private final String etag;
+
+    S3Stub(StubBehavior behavior) {
+        super(behavior);
+        int size = Integer.getInteger("loadtest.s3.object-size", 1024 * 1024);
+        object = new byte[size];
+        for (int i = 0; i < size; i++) {
+            object[i] = (byte) i;
+        }
+        etag = "\"" + md5Hex(object) + "\"";
+    }
+
+    @Override
+    protected void success(HttpExchange exchange, String body) throws IOException {
+        String method = exchange.getRequestMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            send(exchange, 405, "application/xml", error("MethodNotAllowed"));
+            return;
+        }
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Last-Modified", LAST_MODIFIED);
+        exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        if (range == null || !range.startsWith("bytes=")) {
+            send(exchange, 200, "video/mp4", object);
+            return;
+        }
+        String[] bounds = range.substring("bytes=".length()).split("-", 2);
+        int start = Integer.parseInt(bounds[0]);
+        int end = bounds.length > 1 && !bounds[1].isEmpty()
+                ? Math.min(Integer.parseInt(bounds[1]), object.length - 1)
+                : object.length - 1;
+        exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + object.length);
+        send(exchange, 206, "video/mp4", Arrays.copyOfRange(object, start, end + 1));
+    }
+
+    @Override
+    protected void failure(HttpExchange exchange, String body) throws IOException {
+        send(exchange, 503, "application/xml", error("SlowDown"));
+    }
+
+    private static String error(String code) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error><Code>" + code
+                + "</Code><Message>stub</Message></Error>";
+    }
+
+    private static String md5Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
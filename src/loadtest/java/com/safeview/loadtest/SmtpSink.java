@@ -0,0 +1,99 @@
+package com.safeview.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SMTP 수신 전용 대체 서버
+ *
+ * 메일을 받기만 하고 저장하지 않습니다. (수신 건수만 집계)
+ * 지연과 오류는 DATA 종료 시점에 적용합니다. (오류 시 451 응답)
+ */
+class SmtpSink implements AutoCloseable {
+
+    private final StubBehavior behavior;
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong received = new AtomicLong();
+
+    SmtpSink(StubBehavior behavior, int port) throws IOException {
+        this.behavior = behavior;
+        this.serverSocket = new ServerSocket(port);
+        Thread acceptor = new Thread(this::acceptLoop, "smtp-sink");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    long received() {
+        return received.get();
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> session(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void session(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             OutputStream out = socket.getOutputStream()) {
+            reply(out, "220 safeview-loadtest SMTP sink");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                switch (command) {
+                    case "EHLO" -> reply(out, "250-safeview-loadtest\r\n250 8BITMIME");
+                    case "HELO", "MAIL", "RCPT", "RSET", "NOOP" -> reply(out, "250 OK");
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !".".equals(line)) {
+                            // 본문은 버림
+                        }
+                        if (behavior.delayAndDecideFailure()) {
+                            reply(out, "451 Stub failure");
+                        } else {
+                            received.incrementAndGet();
+                            reply(out, "250 OK queued");
+                        }
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            // 연결 종료
+        }
+    }
+
+    private static void reply(OutputStream out, String message) throws IOException {
+        out.write((message + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,48 @@
+package com.safeview.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 대체 서버 응답 동작 (지연, 오류)
+ *
+ * 설정: 시스템 속성 loadtest.{이름}.latency-ms, jitter-ms, error-rate
+ * 개별 설정이 없으면 loadtest.stub.* 공통 설정을 사용합니다.
+ * - latency-ms: 기본 응답 지연
+ * - jitter-ms: 추가 지연 최대값 (0 ~ jitter-ms 사이 균등 분포)
+ * - error-rate: 오류 응답 비율 (0.0 ~ 1.0)
+ */
+public record StubBehavior(String name, long latencyMs, long jitterMs, double errorRate) {
+
+    public static StubBehavior fromSystemProperties(String name) {
+        return new StubBehavior(
+                name,
+                Long.parseLong(property(name, "latency-ms", "0")),
+                Long.parseLong(property(name, "jitter-ms", "0")),
+                Double.parseDouble(property(name, "error-rate", "0")));
+    }
+
+    /*
+     * 설정된 지연만큼 대기 후 이번 요청을 오류로 응답할지 반환
+     */
+    public boolean delayAndDecideFailure() {
+        long delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    @Override
+    public String toString() {
+        return name + "(latency=" + latencyMs + "ms, jitter=" + jitterMs + "ms, errorRate=" + errorRate + ")";
+    }
+
+    private static String property(String name, String key, String defaultValue) {
+        return System.getProperty("loadtest." + name + "." + key,
+                System.getProperty("loadtest.stub." + key, defaultValue));
+    }
+}
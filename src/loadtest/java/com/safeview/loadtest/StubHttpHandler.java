@@ -0,0 +1,57 @@
+package com.safeview.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 대체 HTTP 서버 공통 처리
+ *
+ * 요청마다 설정된 지연을 적용하고, 오류로 결정된 요청은 failure()로 응답합니다.
+ */
+abstract class StubHttpHandler implements HttpHandler {
+
+    private final StubBehavior behavior;
+
+    protected StubHttpHandler(StubBehavior behavior) {
+        this.behavior = behavior;
+    }
+
+    @Override
+    public final void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (behavior.delayAndDecideFailure()) {
+                failure(exchange, body);
+            } else {
+                success(exchange, body);
+            }
+        }
+    }
+
+    protected abstract void success(HttpExchange exchange, String body) throws IOException;
+
+    protected void failure(HttpExchange exchange, String body) throws IOException {
+        send(exchange, 500, "application/json", "{\"error\":\"stub failure\"}");
+    }
+
+    protected static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        send(exchange, status, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Content-Length", String.valueOf(body.length));
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.safeview.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트용 외부 의존성 대체 서버 묶음
+ *
+ * - S3 호환 서버: LOADTEST_S3_PORT (기본 19000)
+ * - AI 서버: LOADTEST_AI_PORT (기본 18000)
+ * - Ethereum JSON-RPC: LOADTEST_RPC_PORT (기본 18545)
+ * - SMTP 수신 서버: LOADTEST_SMTP_PORT (기본 2525)
+ *
+ * 포트 환경 변수는 application-loadtest.yml과 같은 이름을 사용합니다.
+ * 지연·오류 설정은 StubBehavior 참고 (이름: s3, ai, rpc, smtp)
+ *
+ * 단독 실행: ./gradlew loadTestStubs (앱은 --spring.profiles.active=loadtest로 따로 기동)
+ */
+public class StubServers implements AutoCloseable {
+
+    private final List<HttpServer> httpServers;
+    private final SmtpSink smtpSink;
+
+    private StubServers(List<HttpServer> httpServers, SmtpSink smtpSink) {
+        this.httpServers = httpServers;
+        this.smtpSink = smtpSink;
+    }
+
+    public static StubServers start() throws IOException {
+        int s3Port = port("LOADTEST_S3_PORT", 19000);
+        String s3BaseUrl = "http://localhost:" + s3Port + "/safeview-loadtest";
+
+        StubBehavior s3 = StubBehavior.fromSystemProperties("s3");
+        StubBehavior ai = StubBehavior.fromSystemProperties("ai");
+        StubBehavior rpc = StubBehavior.fromSystemProperties("rpc");
+        StubBehavior smtp = StubBehavior.fromSystemProperties("smtp");
+
+        List<HttpServer> servers = List.of(
+                http(s3Port, new S3Stub(s3)),
+                http(port("LOADTEST_AI_PORT", 18000), new AiServerStub(ai, s3BaseUrl)),
+                http(port("LOADTEST_RPC_PORT", 18545), new JsonRpcStub(rpc)));
+        SmtpSink smtpSink = new SmtpSink(smtp, port("LOADTEST_SMTP_PORT", 2525));
+
+        System.out.printf("대체 서버 기동: %s, %s, %s, %s%n", s3, ai, rpc, smtp);
+        return new StubServers(servers, smtpSink);
+    }
+
+    public long mailsReceived() {
+        return smtpSink.received();
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpServers.forEach(server -> server.stop(0));
+        smtpSink.close();
+    }
+
+    private static HttpServer http(int port, StubHttpHandler handler) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 256);
+        server.createContext("/", handler);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return server;
+    }
+
+    private static int port(String env, int defaultPort) {
+        String value = System.getenv(env);
+        return value == null || value.isBlank() ? defaultPort : Integer.parseInt(value);
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (StubServers ignored = start()) {
+            new CountDownLatch(1).await();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.safeview.domain.administrator.controller;
+
+import com.safeview.domain.administrator.dto.AdminDashboardDto;
+import com.safeview.domain.administrator.service.AdminManagementService;
+import com.safeview.global.exception.ApiException;
+import com.safeview.global.response.ApiResponse;
+import com.safeview.global.response.ErrorCode;
+import com.safeview.global.response.SuccessCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 대시보드 컨트롤러
+ * 
+ * 관리자 화면에 표시하는 건수를 목록 조회 없이 제공합니다.
+ * - 권한 요청 상태별 건수 (대기중 포함)
+ * - 전체/사용자별 영상 수
+ * - 유효한 복호화 키 수
+ * - 대기/실패 블록체인 트랜잭션 수
+ * 
+ * 보안: ADMIN 권한만 접근 가능
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/dashboard")
+@RequiredArgsConstructor
+public class AdminDashboardController {
+
+    private final AdminManagementService adminManagementService;
+
+    /**
+     * 대시보드 건수 조회
+     * 
+     * @param adminId 인증된 관리자 ID
+     * @param userId 영상 수를 함께 조회할 사용자 ID (생략 시 전체 영상 수만)
+     * @return 대시보드 건수 (메모리 카운터 값, reconciledAt은 마지막 DB 보정 시각)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<AdminDashboardDto>> getDashboard(
+            @AuthenticationPrincipal Long adminId,
+            @RequestParam(required = false) Long userId) {
+        log.info("관리자 대시보드 조회 요청: adminId={}, userId={}", adminId, userId);
+
+        // 관리자 ID 검증
+        if (adminId == null || adminId <= 0) {
+            throw new ApiException(ErrorCode.UNAUTHORIZED, "유효하지 않은 관리자 정보입니다.");
+        }
+
+        // 비즈니스 로직 호출 (권한 검증 포함)
+        AdminDashboardDto dashboard = adminManagementService.getDashboard(adminId, userId);
+        return ApiResponse.toResponseEntity(SuccessCode.OK, dashboard);
+    }
+}
@@ -1,8 +1,10 @@
 package com.safeview.domain.administrator.controller;
 
 import com.safeview.domain.administrator.dto.AdminCommentDto;
+import com.safeview.domain.administrator.dto.AdminRequestBulkProcessDto;
+import com.safeview.domain.administrator.dto.AdminRequestBulkResultDto;
+import com.safeview.domain.administrator.dto.AdminRequestPageDto;
 import com.safeview.domain.administrator.dto.AdminRequestResponseDto;
-import com.safeview.domain.administrator.dto.AdminRequestSummaryForAdminDto;
 import com.safeview.domain.administrator.entity.AdminRequestStatus;
 import com.safeview.domain.administrator.service.AdminManagementService;
 import com.safeview.global.exception.ApiException;
@@ -23,7 +25,7 @@ import java.util.List;
  * 
  * ADMIN 권한을 가진 관리자가 사용자의 권한 요청을 관리하는 기능을 제공합니다.
  * - 모든 권한 요청 조회 (상태별, 대기중인 요청)
- * - 권한 요청 승인/거절
+ * - 권한 요청 승인/거절 (단건, 일괄)
  * - 요청 상세 조회
  * 
  * 보안: ADMIN 권한만 접근 가능
@@ -34,22 +36,32 @@ import java.util.List;
 @RequiredArgsConstructor // ADMIN 권한만 접근 가능
 public class AdminManagementController {
 
+    private static final String DEFAULT_PAGE_SIZE = "20";
+
     private final AdminManagementService adminManagementService;
 
 
     /**
-     * 모든 요청 목록 조회 (관리자용) - 축약된 정보
+     * 요청 목록 조회 (관리자용) - 축약된 정보
      * 
      * @param adminId 인증된 관리자 ID
-     * @return 모든 사용자의 권한 요청 목록 (요약 정보)
+     * @param status 조회할 요청 상태 (생략 시 전체)
+     * @param userId 요청한 사용자 ID (생략 시 전체)
+     * @param cursor 이전 응답의 nextCursor (생략 시 첫 페이지)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 권한 요청 목록 한 페이지 (요약 정보, 최신순)와 다음 페이지 커서
      * 
-     * 기능: 관리자가 모든 권한 요청을 한눈에 조회
-     * 응답: 요약 정보만 포함하여 빠른 로딩
+     * 기능: 관리자가 권한 요청을 상태/사용자별로 조회
+     * 응답: 요약 정보만 포함하여 빠른 로딩, hasNext가 true이면 nextCursor로 다음 페이지 조회
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<AdminRequestSummaryForAdminDto>>> getAllRequests(
-            @AuthenticationPrincipal Long adminId) {
-        log.info("전체 권한 요청 목록 조회 요청: adminId={}", adminId);
+    public ResponseEntity<ApiResponse<AdminRequestPageDto>> getAllRequests(
+            @AuthenticationPrincipal Long adminId,
+            @RequestParam(required = false) AdminRequestStatus status,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        log.info("권한 요청 목록 조회 요청: adminId={}, status={}, userId={}, size={}", adminId, status, userId, size);
 
         // 관리자 ID 검증
         if (adminId == null || adminId <= 0) {
@@ -57,7 +69,7 @@ public class AdminManagementController {
         }
 
         // 비즈니스 로직 호출 (권한 검증 포함)
-        List<AdminRequestSummaryForAdminDto> requests = adminManagementService.getAllRequests(adminId);
+        AdminRequestPageDto requests = adminManagementService.getRequests(adminId, status, userId, cursor, size);
         return ApiResponse.toResponseEntity(SuccessCode.OK, requests);
     }
 
@@ -65,14 +77,18 @@ public class AdminManagementController {
      * 대기중인 요청 목록 조회 (관리자용) - 축약된 정보
      * 
      * @param adminId 인증된 관리자 ID
-     * @return PENDING 상태의 권한 요청 목록
+     * @param cursor 이전 응답의 nextCursor (생략 시 첫 페이지)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return PENDING 상태의 권한 요청 목록 한 페이지
      * 
      * 기능: 처리 대기중인 요청만 필터링하여 조회
      * 용도: 관리자가 우선적으로 처리할 요청 확인
      */
     @GetMapping("/pending")
-    public ResponseEntity<ApiResponse<List<AdminRequestSummaryForAdminDto>>> getPendingRequests(
-            @AuthenticationPrincipal Long adminId) {
+    public ResponseEntity<ApiResponse<AdminRequestPageDto>> getPendingRequests(
+            @AuthenticationPrincipal Long adminId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
         log.info("대기중인 권한 요청 목록 조회 요청: adminId={}", adminId);
 
         // 관리자 ID 검증
@@ -81,7 +97,8 @@ public class AdminManagementController {
         }
 
         // 비즈니스 로직 호출 (권한 검증 포함)
-        List<AdminRequestSummaryForAdminDto> requests = adminManagementService.getPendingRequests(adminId);
+        AdminRequestPageDto requests = adminManagementService.getRequests(
+                adminId, AdminRequestStatus.PENDING, null, cursor, size);
         return ApiResponse.toResponseEntity(SuccessCode.OK, requests);
     }
 
@@ -90,15 +107,19 @@ public class AdminManagementController {
      * 
      * @param adminId 인증된 관리자 ID
      * @param status 조회할 요청 상태 (PENDING, APPROVED, REJECTED)
-     * @return 특정 상태의 권한 요청 목록
+     * @param cursor 이전 응답의 nextCursor (생략 시 첫 페이지)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 특정 상태의 권한 요청 목록 한 페이지
      * 
      * 기능: 상태별로 요청을 필터링하여 조회
      * 용도: 승인/거절 통계, 처리 이력 확인
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<ApiResponse<List<AdminRequestSummaryForAdminDto>>> getRequestsByStatus(
+    public ResponseEntity<ApiResponse<AdminRequestPageDto>> getRequestsByStatus(
             @AuthenticationPrincipal Long adminId,
-            @PathVariable AdminRequestStatus status) {
+            @PathVariable AdminRequestStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
         log.info("상태별 권한 요청 목록 조회 요청: adminId={}, status={}", adminId, status);
 
         // 관리자 ID 검증
@@ -112,7 +133,7 @@ public class AdminManagementController {
         }
 
         // 비즈니스 로직 호출 (권한 검증 포함)
-        List<AdminRequestSummaryForAdminDto> requests = adminManagementService.getRequestsByStatus(adminId, status);
+        AdminRequestPageDto requests = adminManagementService.getRequests(adminId, status, null, cursor, size);
         return ApiResponse.toResponseEntity(SuccessCode.OK, requests);
     }
 
@@ -214,4 +235,32 @@ public class AdminManagementController {
         AdminRequestResponseDto response = adminManagementService.rejectRequest(requestId, adminId, adminCommentDto.getAdminComment());
         return ApiResponse.toResponseEntity(SuccessCode.OK, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 권한 요청 일괄 승인/거절
+     * 
+     * @param adminId 처리하는 관리자 ID (JWT 토큰에서 추출)
+     * @param requestDto 처리 타입, 요청 ID 목록 (최대 100건), 관리자 코멘트
+     * @return 요청 ID별 처리 결과 (PROCESSED, ALREADY_PROCESSED, NOT_FOUND)
+     * 
+     * 처리: 대기중인 요청만 한 트랜잭션에서 APPROVED/REJECTED로 변경
+     * 권한 변경: 승인 시 USER인 요청자를 MODERATOR로 일괄 업그레이드
+     * 동시성: 다른 관리자가 같은 요청을 먼저 처리하면 전체 롤백 후 409
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<AdminRequestBulkResultDto>>> processRequests(
+            @AuthenticationPrincipal Long adminId,
+            @Valid @RequestBody AdminRequestBulkProcessDto requestDto) {
+        log.info("권한 요청 일괄 처리 요청: adminId={}, processType={}, count={}",
+                adminId, requestDto.getProcessType(), requestDto.getRequestIds().size());
+
+        // 관리자 ID 검증
+        if (adminId == null || adminId <= 0) {
+            throw new ApiException(ErrorCode.UNAUTHORIZED, "유효하지 않은 관리자 정보입니다.");
+        }
+
+        List<AdminRequestBulkResultDto> results = adminManagementService.processRequests(
+                requestDto.getRequestIds(), adminId, requestDto.getProcessType(), requestDto.getAdminComment());
+        return ApiResponse.toResponseEntity(SuccessCode.OK, results);
+    }
+}
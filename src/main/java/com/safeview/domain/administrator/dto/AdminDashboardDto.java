@@ -0,0 +1,27 @@
+package com.safeview.domain.administrator.dto;
+
+import com.safeview.domain.administrator.entity.AdminRequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/*
+ * 관리자 대시보드 DTO
+ *
+ * 메모리 카운터 값 (DB 집계 없음, reconciledAt은 마지막으로 DB 집계와 맞춘 시각)
+ * userVideoCount는 사용자 ID를 지정한 경우에만 포함
+ */
+@Getter
+@AllArgsConstructor
+public class AdminDashboardDto {
+    private long pendingRequestCount;
+    private Map<AdminRequestStatus, Long> requestCountByStatus;
+    private long totalVideoCount;
+    private Long userVideoCount;
+    private long activeKeyCount;
+    private long pendingTransactionCount;
+    private long failedTransactionCount;
+    private LocalDateTime reconciledAt;
+}
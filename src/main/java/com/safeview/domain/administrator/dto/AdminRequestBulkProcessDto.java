@@ -0,0 +1,30 @@
+package com.safeview.domain.administrator.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/*
+ * 관리자 권한 요청 일괄 처리 DTO
+ * 
+ * 관리자가 여러 권한 요청을 한 번에 승인하거나 거절할 때 사용하는 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class AdminRequestBulkProcessDto {
+
+    @NotNull(message = "처리 타입은 필수입니다")
+    private AdminRequestProcessDto.ProcessType processType;
+
+    @NotEmpty(message = "처리할 요청 ID는 필수입니다")
+    @Size(max = 100, message = "한 번에 최대 100건까지 처리할 수 있습니다")
+    private List<@NotNull Long> requestIds;
+
+    private String adminComment;
+}
@@ -0,0 +1,25 @@
+package com.safeview.domain.administrator.dto;
+
+import com.safeview.domain.administrator.entity.AdminRequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 관리자 권한 요청 일괄 처리 결과 DTO (요청 ID별)
+ * 
+ * result: PROCESSED(이번에 처리), ALREADY_PROCESSED(이미 처리된 요청), NOT_FOUND(없는 요청)
+ * status: 처리 후 요청 상태 (없는 요청이면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class AdminRequestBulkResultDto {
+    private Long requestId;
+    private Result result;
+    private AdminRequestStatus status;
+
+    public enum Result {
+        PROCESSED,
+        ALREADY_PROCESSED,
+        NOT_FOUND
+    }
+}
@@ -0,0 +1,49 @@
+package com.safeview.domain.administrator.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/*
+ * 관리자용 권한 요청 목록 커서
+ *
+ * 목록 정렬 키 (created_at DESC, id DESC)의 마지막 값으로, 다음 페이지는 이 값보다 뒤의 행부터 조회
+ * 클라이언트에는 URL-safe Base64 문자열로 전달 (형식에 의존하지 않도록 불투명 값으로 취급)
+ */
+public record AdminRequestCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /*
+     * 목록의 마지막 요청으로 다음 페이지 커서 생성
+     */
+    public static AdminRequestCursor after(AdminRequestSummaryForAdminDto last) {
+        return new AdminRequestCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /*
+     * 커서 문자열 해석
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static AdminRequestCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return new AdminRequestCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
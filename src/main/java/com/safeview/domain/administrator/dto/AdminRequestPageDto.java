@@ -0,0 +1,19 @@
+package com.safeview.domain.administrator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/*
+ * 관리자용 권한 요청 목록 페이지 DTO
+ *
+ * 최신순 목록의 한 페이지와 다음 페이지 커서 (마지막 페이지면 nextCursor = null, hasNext = false)
+ */
+@Getter
+@AllArgsConstructor
+public class AdminRequestPageDto {
+    private List<AdminRequestSummaryForAdminDto> requests;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -1,7 +1,9 @@
 package com.safeview.domain.administrator.dto;
 
 import com.safeview.domain.administrator.entity.AdminRequestStatus;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
@@ -10,9 +12,12 @@ import java.time.LocalDateTime;
  * 관리자용 권한 요청 요약 DTO
  * 
  * 관리자가 권한 요청 목록을 조회할 때 사용하는 DTO
+ * 목록 조회는 이 DTO로 바로 조회 (JPQL 생성자 표현식, 엔티티를 읽지 않음)
  */
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class AdminRequestSummaryForAdminDto {
     private Long id;
     private Long userId;
@@ -7,7 +7,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 @Entity
-@Table(name = "admin_requests")
+@Table(name = "admin_requests", indexes = {
+        @Index(name = "idx_admin_requests_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_admin_requests_created_at", columnList = "created_at"),
+        @Index(name = "idx_admin_requests_user_id_status_created_at", columnList = "user_id, status, created_at"),
+        @Index(name = "idx_admin_requests_user_id_created_at", columnList = "user_id, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AdminRequest extends BaseTimeEntity {
@@ -59,6 +64,13 @@ public class AdminRequest extends BaseTimeEntity {
     @Column(name = "processed_by")
     private Long processedBy;
 
+    /*
+     * 낙관적 잠금 버전 (두 관리자가 같은 요청을 동시에 처리하면 나중에 반영하는 쪽이 실패)
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /*
      * 권한 요청 생성
      */
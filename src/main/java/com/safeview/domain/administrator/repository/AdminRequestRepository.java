@@ -12,7 +12,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface AdminRequestRepository extends JpaRepository<AdminRequest, Long> {
+public interface AdminRequestRepository extends JpaRepository<AdminRequest, Long>, AdminRequestRepositoryCustom {
 
     // 사용자별 요청 조회
     List<AdminRequest> findByUserIdOrderByCreatedAtDesc(Long userId);
@@ -20,9 +20,6 @@ public interface AdminRequestRepository extends JpaRepository<AdminRequest, Long
     // 사용자별 요청 조회
     Page<AdminRequest> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
-    // 상태별 요청 조회 
-    List<AdminRequest> findByStatusOrderByCreatedAtDesc(AdminRequestStatus status);
-
     // 상태별 요청 조회
     Page<AdminRequest> findByStatusOrderByCreatedAtDesc(AdminRequestStatus status, Pageable pageable);
 
@@ -40,6 +37,15 @@ public interface AdminRequestRepository extends JpaRepository<AdminRequest, Long
     // 최근 요청 조회 (최신 10개)
     List<AdminRequest> findTop10ByOrderByCreatedAtDesc();
 
-    // 모든 요청 조회 (최신순)
-    List<AdminRequest> findAllByOrderByCreatedAtDesc();
+    // 상태별 요청 개수 (관리자 대시보드 카운터 보정용, 주기 작업에서만 호출)
+    @Query("SELECT a.status AS status, COUNT(a) AS count FROM AdminRequest a GROUP BY a.status")
+    List<StatusCount> countGroupByStatus();
+
+    /*
+     * 상태별 개수 프로젝션
+     */
+    interface StatusCount {
+        AdminRequestStatus getStatus();
+        long getCount();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.safeview.domain.administrator.repository;
+
+import com.safeview.domain.administrator.dto.AdminRequestCursor;
+import com.safeview.domain.administrator.dto.AdminRequestSummaryForAdminDto;
+import com.safeview.domain.administrator.entity.AdminRequestStatus;
+
+import java.util.List;
+
+public interface AdminRequestRepositoryCustom {
+
+    // 관리자용 요청 목록 조회 (최신순, 커서 이후 limit개, 상태/사용자 조건은 null이면 미적용)
+    List<AdminRequestSummaryForAdminDto> findSummaries(AdminRequestStatus status, Long userId,
+                                                        AdminRequestCursor cursor, int limit);
+}
@@ -0,0 +1,63 @@
+package com.safeview.domain.administrator.repository;
+
+import com.safeview.domain.administrator.dto.AdminRequestCursor;
+import com.safeview.domain.administrator.dto.AdminRequestSummaryForAdminDto;
+import com.safeview.domain.administrator.entity.AdminRequestStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/*
+ * 권한 요청 리포지토리 직접 구현
+ *
+ * 관리자 목록을 (created_at, id) 키셋 페이지네이션으로 조회
+ * - OFFSET 없이 커서 이후 행만 읽으므로 페이지가 깊어져도 비용이 같음
+ * - 주어진 조건만 WHERE에 넣어 조건 조합마다 맞는 인덱스를 사용
+ *   (상태: status_created_at, 사용자: user_id_created_at, 사용자+상태: user_id_status_created_at, 없음: created_at)
+ * - 커서 조건의 created_at <= :createdAt은 인덱스 범위 검색을 위한 중복 조건
+ * - 엔티티 대신 목록 DTO로 바로 조회 (설명, 코멘트 등 TEXT 컬럼을 읽지 않음)
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class AdminRequestRepositoryImpl implements AdminRequestRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<AdminRequestSummaryForAdminDto> findSummaries(AdminRequestStatus status, Long userId,
+                                                               AdminRequestCursor cursor, int limit) {
+        StringBuilder jpql = new StringBuilder("""
+                SELECT new com.safeview.domain.administrator.dto.AdminRequestSummaryForAdminDto(
+                    a.id, a.userId, a.title, a.status, a.createdAt)
+                FROM AdminRequest a
+                WHERE 1 = 1""");
+        if (status != null) {
+            jpql.append(" AND a.status = :status");
+        }
+        if (userId != null) {
+            jpql.append(" AND a.userId = :userId");
+        }
+        if (cursor != null) {
+            jpql.append(" AND a.createdAt <= :createdAt")
+                    .append(" AND (a.createdAt < :createdAt OR a.id < :id)");
+        }
+        jpql.append(" ORDER BY a.createdAt DESC, a.id DESC");
+
+        TypedQuery<AdminRequestSummaryForAdminDto> query =
+                entityManager.createQuery(jpql.toString(), AdminRequestSummaryForAdminDto.class);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (userId != null) {
+            query.setParameter("userId", userId);
+        }
+        if (cursor != null) {
+            query.setParameter("createdAt", cursor.createdAt());
+            query.setParameter("id", cursor.id());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,245 @@
+package com.safeview.domain.administrator.service;
+
+import com.safeview.domain.administrator.entity.AdminRequestStatus;
+import com.safeview.domain.administrator.repository.AdminRequestRepository;
+import com.safeview.domain.decryption.repository.BlockchainTransactionRepository;
+import com.safeview.domain.decryption.repository.DecryptionKeyRepository;
+import com.safeview.domain.video.repository.VideoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 관리자 대시보드 카운터
+ *
+ * 대시보드에 표시하는 건수를 메모리에 보관하고, 상태가 바뀔 때마다 증감하여 조회 시 DB 집계 없이 반환합니다.
+ * - 권한 요청: 상태별 건수 (생성 시 PENDING +1, 승인/거절 시 PENDING -1, 처리 상태 +1)
+ * - 영상: 전체 건수 (저장 시 +1, 사용자별 건수는 user_id 인덱스로 조회하므로 보관하지 않음)
+ * - 복호화 키: 유효한 키 수 (발급 시 +1, 취소/사용 횟수 소진 시 -1)
+ * - 블록체인 트랜잭션: 상태별 건수 (기록 시 +1)
+ *
+ * 반영 시점: 트랜잭션 안에서 호출하면 커밋 후에 반영합니다. (롤백되면 반영하지 않음)
+ * 보정: 기동 시와 주기적으로 DB 집계로 다시 맞춥니다.
+ *      다른 인스턴스의 변경, 만료 시각이 지난 키, 외부에서 바뀐 트랜잭션 상태는 보정 시점에 반영됩니다.
+ *      각 집계 직후 그 값으로 덮어쓰므로, 집계와 덮어쓰기 사이의 짧은 구간에 반영된 증감만 다음 보정까지 어긋날 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdminDashboardCounters {
+
+    private final AdminRequestRepository adminRequestRepository;
+    private final VideoRepository videoRepository;
+    private final DecryptionKeyRepository decryptionKeyRepository;
+    private final BlockchainTransactionRepository blockchainTransactionRepository;
+
+    @Value("${admin.dashboard.reconcile-interval-ms:60000}")
+    private long reconcileIntervalMs;
+
+    /*
+     * 권한 요청 상태별 건수
+     */
+    private final Map<AdminRequestStatus, AtomicLong> requestsByStatus = newRequestCounters();
+
+    /*
+     * 영상 전체 건수
+     */
+    private final AtomicLong totalVideos = new AtomicLong();
+
+    /*
+     * 유효한 복호화 키 수 (ACTIVE, 만료 전, 사용 횟수 남음)
+     */
+    private final AtomicLong activeKeys = new AtomicLong();
+
+    /*
+     * 블록체인 트랜잭션 상태별 건수
+     */
+    private final Map<String, AtomicLong> transactionsByStatus = new ConcurrentHashMap<>();
+
+    private final AtomicReference<LocalDateTime> reconciledAt = new AtomicReference<>();
+
+    private ScheduledExecutorService scheduler;
+
+    /*
+     * 기동 시 DB 집계로 초기화 및 주기 보정 시작
+     */
+    @PostConstruct
+    public void init() {
+        reconcile();
+        log.info("관리자 대시보드 카운터 구성 완료: pendingRequests={}, videos={}, activeKeys={}",
+                getPendingRequestCount(), getTotalVideoCount(), getActiveKeyCount());
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "admin-dashboard-counters");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reconcile, reconcileIntervalMs, reconcileIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // ===== 상태 변경 반영 =====
+
+    /**
+     * 권한 요청 생성 (PENDING)
+     */
+    public void adminRequestCreated() {
+        afterCommit(() -> requestsByStatus.get(AdminRequestStatus.PENDING).incrementAndGet());
+    }
+
+    /**
+     * 대기중인 권한 요청 처리 (PENDING → 승인/거절 상태)
+     *
+     * @param status 처리 후 상태
+     */
+    public void adminRequestProcessed(AdminRequestStatus status) {
+        afterCommit(() -> {
+            requestsByStatus.get(AdminRequestStatus.PENDING).decrementAndGet();
+            requestsByStatus.get(status).incrementAndGet();
+        });
+    }
+
+    /**
+     * 영상 저장
+     */
+    public void videoSaved() {
+        afterCommit(totalVideos::incrementAndGet);
+    }
+
+    /**
+     * 복호화 키 발급
+     */
+    public void keyIssued() {
+        afterCommit(activeKeys::incrementAndGet);
+    }
+
+    /**
+     * 유효한 복호화 키가 더 이상 유효하지 않게 됨 (취소, 사용 횟수 소진)
+     */
+    public void keyDeactivated() {
+        afterCommit(activeKeys::decrementAndGet);
+    }
+
+    /**
+     * 블록체인 트랜잭션 기록
+     *
+     * @param status 기록 시 상태
+     */
+    public void blockchainTransactionRecorded(String status) {
+        afterCommit(() -> transactionsByStatus.computeIfAbsent(status, key -> new AtomicLong()).incrementAndGet());
+    }
+
+    // ===== 조회 (DB 조회 없음) =====
+
+    public long getRequestCount(AdminRequestStatus status) {
+        return requestsByStatus.get(status).get();
+    }
+
+    public long getPendingRequestCount() {
+        return getRequestCount(AdminRequestStatus.PENDING);
+    }
+
+    public long getTotalVideoCount() {
+        return totalVideos.get();
+    }
+
+    public long getActiveKeyCount() {
+        return activeKeys.get();
+    }
+
+    public long getTransactionCount(String status) {
+        AtomicLong count = transactionsByStatus.get(status);
+        return count == null ? 0 : count.get();
+    }
+
+    public long getPendingTransactionCount() {
+        return getTransactionCount("PENDING");
+    }
+
+    public long getFailedTransactionCount() {
+        return getTransactionCount("FAILED");
+    }
+
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt.get();
+    }
+
+    // ===== 보정 =====
+
+    /*
+     * DB 집계로 카운터 보정
+     *
+     * 집계 전 값을 기준으로 차이를 더하면 집계 도중 커밋되어 집계에도 포함된 증감이 두 번 반영되므로,
+     * 항목별로 집계한 직후 그 값으로 덮어씁니다.
+     */
+    void reconcile() {
+        try {
+            Map<AdminRequestStatus, Long> requests = new EnumMap<>(AdminRequestStatus.class);
+            adminRequestRepository.countGroupByStatus()
+                    .forEach(count -> requests.put(count.getStatus(), count.getCount()));
+            requestsByStatus.forEach((status, count) -> count.set(requests.getOrDefault(status, 0L)));
+
+            totalVideos.set(videoRepository.count());
+
+            activeKeys.set(decryptionKeyRepository.countActiveKeys(LocalDateTime.now()));
+
+            Set<String> staleStatuses = new HashSet<>(transactionsByStatus.keySet());
+            blockchainTransactionRepository.countGroupByStatus().forEach(count -> {
+                transactionsByStatus.computeIfAbsent(count.getStatus(), key -> new AtomicLong()).set(count.getCount());
+                staleStatuses.remove(count.getStatus());
+            });
+            staleStatuses.forEach(status -> transactionsByStatus.get(status).set(0));
+
+            reconciledAt.set(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("관리자 대시보드 카운터 보정 실패", e);
+        }
+    }
+
+    private static Map<AdminRequestStatus, AtomicLong> newRequestCounters() {
+        Map<AdminRequestStatus, AtomicLong> counters = new EnumMap<>(AdminRequestStatus.class);
+        for (AdminRequestStatus status : AdminRequestStatus.values()) {
+            counters.put(status, new AtomicLong());
+        }
+        return counters;
+    }
+
+    /*
+     * 트랜잭션 안이면 커밋 후에, 아니면 즉시 실행
+     */
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
@@ -1,18 +1,18 @@
 package com.safeview.domain.administrator.service;
 
+import com.safeview.domain.administrator.dto.AdminDashboardDto;
+import com.safeview.domain.administrator.dto.AdminRequestBulkResultDto;
+import com.safeview.domain.administrator.dto.AdminRequestPageDto;
+import com.safeview.domain.administrator.dto.AdminRequestProcessDto;
 import com.safeview.domain.administrator.dto.AdminRequestResponseDto;
-import com.safeview.domain.administrator.dto.AdminRequestSummaryForAdminDto;
 import com.safeview.domain.administrator.entity.AdminRequestStatus;
 
 import java.util.List;
 
 public interface AdminManagementService {
 
-    // 모든 권한 요청 목록 조회 (관리자용) - 축약된 정보
-    List<AdminRequestSummaryForAdminDto> getAllRequests(Long adminId);
-    
-    // 상태별 권한 요청 목록 조회 (관리자용) - 축약된 정보
-    List<AdminRequestSummaryForAdminDto> getRequestsByStatus(Long adminId, AdminRequestStatus status);
+    // 권한 요청 목록 조회 (관리자용) - 축약된 정보, 최신순 커서 페이지 (상태/사용자 조건은 null이면 전체)
+    AdminRequestPageDto getRequests(Long adminId, AdminRequestStatus status, Long userId, String cursor, int size);
     
     // 권한 요청 승인
     AdminRequestResponseDto approveRequest(Long requestId, Long adminId, String adminComment);
@@ -20,9 +20,13 @@ public interface AdminManagementService {
     // 권한 요청 거절
     AdminRequestResponseDto rejectRequest(Long requestId, Long adminId, String adminComment);
     
-    // 대기중인 권한 요청만 조회 (관리자용) - 축약된 정보
-    List<AdminRequestSummaryForAdminDto> getPendingRequests(Long adminId);
+    // 권한 요청 일괄 승인/거절 (한 트랜잭션, 요청 ID별 결과)
+    List<AdminRequestBulkResultDto> processRequests(List<Long> requestIds, Long adminId,
+                                                    AdminRequestProcessDto.ProcessType processType, String adminComment);
     
     // 권한 요청 상세 조회 (관리자용)
     AdminRequestResponseDto getRequestDetail(Long adminId, Long requestId);
+
+    // 관리자 대시보드 건수 조회 (메모리 카운터, userId를 지정하면 해당 사용자의 영상 수 포함)
+    AdminDashboardDto getDashboard(Long adminId, Long userId);
 } 
\ No newline at end of file
@@ -1,5 +1,10 @@
 package com.safeview.domain.administrator.service;
 
+import com.safeview.domain.administrator.dto.AdminDashboardDto;
+import com.safeview.domain.administrator.dto.AdminRequestBulkResultDto;
+import com.safeview.domain.administrator.dto.AdminRequestCursor;
+import com.safeview.domain.administrator.dto.AdminRequestPageDto;
+import com.safeview.domain.administrator.dto.AdminRequestProcessDto;
 import com.safeview.domain.administrator.dto.AdminRequestResponseDto;
 import com.safeview.domain.administrator.dto.AdminRequestSummaryForAdminDto;
 import com.safeview.domain.administrator.entity.AdminRequest;
@@ -9,21 +14,34 @@ import com.safeview.domain.administrator.repository.AdminRequestRepository;
 import com.safeview.domain.user.entity.Role;
 import com.safeview.domain.user.entity.User;
 import com.safeview.domain.user.repository.UserRepository;
+import com.safeview.domain.user.service.UserProfileCache;
+import com.safeview.domain.video.repository.VideoRepository;
 import com.safeview.global.exception.ApiException;
 import com.safeview.global.response.ErrorCode;
+import com.safeview.global.security.AccessTokenDenylist;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 관리자 권한 요청 관리 서비스 구현체
  * 
  * ADMIN 권한을 가진 관리자가 사용자의 권한 요청을 처리하는 비즈니스 로직을 담당합니다.
  * - 권한 요청 조회 (전체, 상태별, 대기중)
- * - 권한 요청 승인/거절 처리
+ * - 권한 요청 승인/거절 처리 (단건, 일괄)
  * - 사용자 역할 변경 (USER → MODERATOR)
  * 
  * 보안: 권한 검증 및 역할 변경 로직
@@ -35,22 +53,41 @@ import java.util.List;
 @Slf4j
 public class AdminManagementServiceImpl implements AdminManagementService {
 
+    /*
+     * 목록 조회 최대 페이지 크기
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /*
+     * 일괄 처리 최대 건수
+     */
+    private static final int MAX_BULK_SIZE = 100;
+
     private final AdminRequestRepository adminRequestRepository;
     private final AdminRequestMapper adminRequestMapper;
     private final UserRepository userRepository;
-
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final UserProfileCache userProfileCache;
+    private final AdminDashboardCounters adminDashboardCounters;
+    private final VideoRepository videoRepository;
 
     /**
-     * 모든 권한 요청 목록 조회 (관리자용)
+     * 권한 요청 목록 조회 (관리자용)
      * 
-     * @return 모든 권한 요청 목록 (최신순 정렬)
+     * @param adminId 관리자 ID
+     * @param status 조회할 요청 상태 (null이면 전체)
+     * @param userId 요청한 사용자 ID (null이면 전체)
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 권한 요청 목록 한 페이지와 다음 페이지 커서
      * 
-     * 기능: 관리자가 모든 권한 요청을 조회
-     * 정렬: 생성일시 기준 내림차순 (최신 요청이 먼저)
-     * 용도: 전체 요청 현황 파악
+     * 기능: 관리자가 권한 요청을 상태/사용자별로 조회
+     * 정렬: 생성일시, ID 기준 내림차순 (최신 요청이 먼저)
+     * 페이지: (생성일시, ID) 커서 이후 size개만 조회 (OFFSET 없음, 요청 이력이 많아도 일정한 비용)
+     * 예외: 잘못된 커서, 페이지 크기
      */
     @Override
-    public List<AdminRequestSummaryForAdminDto> getAllRequests(Long adminId) {
+    public AdminRequestPageDto getRequests(Long adminId, AdminRequestStatus status, Long userId, String cursor, int size) {
         try {
             // 관리자 권한 검증
             User admin = userRepository.findById(adminId)
@@ -60,54 +97,27 @@ public class AdminManagementServiceImpl implements AdminManagementService {
                 throw new ApiException(ErrorCode.FORBIDDEN, "ADMIN 권한이 없습니다.");
             }
 
-            List<AdminRequest> requests = adminRequestRepository.findAllByOrderByCreatedAtDesc();
-            return requests.stream()
-                    .map(adminRequestMapper::toSummaryForAdminDto)
-                    .toList();
-        } catch (ApiException e) {
-            log.error("전체 권한 요청 목록 조회 실패: adminId={}, error={}", adminId, e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("전체 권한 요청 목록 조회 중 오류 발생: adminId={}", adminId, e);
-            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR, "전체 요청 목록 조회 중 오류가 발생했습니다.");
-        }
-    }
-
-    /**
-     * 상태별 권한 요청 목록 조회
-     * 
-     * @param status 조회할 요청 상태 (PENDING, APPROVED, REJECTED)
-     * @return 특정 상태의 권한 요청 목록 (최신순 정렬)
-     * 
-     * 기능: 상태별로 요청을 필터링하여 조회
-     * 용도: 승인/거절 통계, 처리 이력 확인
-     */
-    @Override
-    public List<AdminRequestSummaryForAdminDto> getRequestsByStatus(Long adminId, AdminRequestStatus status) {
-        try {
-            // 관리자 권한 검증
-            User admin = userRepository.findById(adminId)
-                    .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "관리자를 찾을 수 없습니다."));
-
-            if (admin.getRole() != Role.ADMIN) {
-                throw new ApiException(ErrorCode.FORBIDDEN, "ADMIN 권한이 없습니다.");
+            // 페이지 크기 검증
+            if (size < 1 || size > MAX_PAGE_SIZE) {
+                throw new ApiException(ErrorCode.BAD_REQUEST, "페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
             }
 
-            // 상태 값 검증
-            if (status == null) {
-                throw new ApiException(ErrorCode.BAD_REQUEST, "유효하지 않은 요청 상태입니다.");
-            }
+            // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            List<AdminRequestSummaryForAdminDto> requests = adminRequestRepository.findSummaries(
+                    status, userId, decodeCursor(cursor), size + 1);
 
-            List<AdminRequest> requests = adminRequestRepository.findByStatusOrderByCreatedAtDesc(status);
-            return requests.stream()
-                    .map(adminRequestMapper::toSummaryForAdminDto)
-                    .toList();
+            boolean hasNext = requests.size() > size;
+            if (hasNext) {
+                requests = requests.subList(0, size);
+            }
+            String nextCursor = hasNext ? AdminRequestCursor.after(requests.get(size - 1)).encode() : null;
+            return new AdminRequestPageDto(requests, nextCursor, hasNext);
         } catch (ApiException e) {
-            log.error("상태별 권한 요청 목록 조회 실패: adminId={}, status={}, error={}", adminId, status, e.getMessage());
+            log.error("권한 요청 목록 조회 실패: adminId={}, status={}, userId={}, error={}", adminId, status, userId, e.getMessage());
             throw e;
         } catch (Exception e) {
-            log.error("상태별 권한 요청 목록 조회 중 예상치 못한 오류: adminId={}, status={}", adminId, status, e);
-            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR, "상태별 요청 목록 조회 중 오류가 발생했습니다.");
+            log.error("권한 요청 목록 조회 중 오류 발생: adminId={}, status={}, userId={}", adminId, status, userId, e);
+            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR, "요청 목록 조회 중 오류가 발생했습니다.");
         }
     }
 
@@ -158,13 +168,18 @@ public class AdminManagementServiceImpl implements AdminManagementService {
             adminRequest.approve(adminComment, adminId);
             updateUserRole(adminRequest);
 
-            AdminRequest savedRequest = adminRequestRepository.save(adminRequest);
+            // 즉시 반영 (다른 관리자가 먼저 처리했으면 여기서 충돌)
+            AdminRequest savedRequest = adminRequestRepository.saveAndFlush(adminRequest);
+            adminDashboardCounters.adminRequestProcessed(savedRequest.getStatus());
             log.info("권한 요청 승인 완료: requestId={}, status={}", requestId, savedRequest.getStatus());
             
             return adminRequestMapper.toResponseDto(savedRequest);
         } catch (ApiException e) {
             log.error("권한 요청 승인 실패: requestId={}, adminId={}, error={}", requestId, adminId, e.getMessage());
             throw e;
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("권한 요청 승인 충돌: requestId={}, adminId={}", requestId, adminId);
+            throw new ApiException(ErrorCode.ADMIN_REQUEST_CONFLICT);
         } catch (Exception e) {
             log.error("권한 요청 승인 중 예상치 못한 오류: requestId={}, adminId={}", requestId, adminId, e);
             throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR, "권한 요청 승인 처리 중 오류가 발생했습니다.");
@@ -220,19 +235,124 @@ public class AdminManagementServiceImpl implements AdminManagementService {
             // 요청 거절 처리 (상태 변경, 코멘트 저장, 처리 시간 기록)
             adminRequest.reject(adminComment, adminId);
 
-            AdminRequest savedRequest = adminRequestRepository.save(adminRequest);
+            // 즉시 반영 (다른 관리자가 먼저 처리했으면 여기서 충돌)
+            AdminRequest savedRequest = adminRequestRepository.saveAndFlush(adminRequest);
+            adminDashboardCounters.adminRequestProcessed(savedRequest.getStatus());
             log.info("권한 요청 거절 완료: requestId={}, status={}", requestId, savedRequest.getStatus());
             
             return adminRequestMapper.toResponseDto(savedRequest);
         } catch (ApiException e) {
             log.error("권한 요청 거절 실패: requestId={}, adminId={}, error={}", requestId, adminId, e.getMessage());
             throw e;
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("권한 요청 거절 충돌: requestId={}, adminId={}", requestId, adminId);
+            throw new ApiException(ErrorCode.ADMIN_REQUEST_CONFLICT);
         } catch (Exception e) {
             log.error("권한 요청 거절 중 예상치 못한 오류: requestId={}, adminId={}", requestId, adminId, e);
             throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR, "권한 요청 거절 처리 중 오류가 발생했습니다.");
         }
     }
 
+    /**
+     * 권한 요청 일괄 승인/거절 처리
+     * 
+     * @param requestIds 처리할 권한 요청 ID 목록 (최대 100건, 중복은 한 번만 처리)
+     * @param adminId 처리하는 관리자 ID
+     * @param processType 처리 타입 (APPROVE, REJECT)
+     * @param adminComment 관리자 코멘트 (모든 요청에 같은 코멘트 기록)
+     * @return 요청 ID별 처리 결과 (입력 순서)
+     * 
+     * 처리 과정:
+     * 1. 관리자 권한 검증
+     * 2. 요청을 한 번에 조회 (IN 조회)
+     * 3. 대기중인 요청만 승인/거절, 없는 요청과 이미 처리된 요청은 결과에만 표시
+     * 4. 요청 상태 변경을 한 번에 반영 (UPDATE 배치, version 조건)
+     * 5. 승인 시 USER인 요청자만 MODERATOR로 일괄 변경 (UPDATE 한 번)
+     * 6. 역할이 바뀐 사용자의 기존 Access Token 차단, 내 정보 응답 캐시 삭제
+     * 
+     * 동시성: 다른 관리자가 같은 요청을 먼저 처리하면 전체를 롤백하고 409 (ADMIN_REQUEST_CONFLICT)
+     * 예외: 요청 ID 누락, 처리 건수 초과, 동시 처리 충돌
+     */
+    @Override
+    @Transactional
+    public List<AdminRequestBulkResultDto> processRequests(List<Long> requestIds, Long adminId,
+                                                           AdminRequestProcessDto.ProcessType processType,
+                                                           String adminComment) {
+        log.info("권한 요청 일괄 처리 시작: adminId={}, processType={}, count={}",
+                adminId, processType, requestIds == null ? 0 : requestIds.size());
+
+        try {
+            // 관리자 권한 검증
+            User admin = userRepository.findById(adminId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "관리자를 찾을 수 없습니다."));
+
+            if (admin.getRole() != Role.ADMIN) {
+                throw new ApiException(ErrorCode.FORBIDDEN, "ADMIN 권한이 없습니다.");
+            }
+
+            // 입력 값 검증
+            if (processType == null) {
+                throw new ApiException(ErrorCode.BAD_REQUEST, "처리 타입은 필수입니다.");
+            }
+            if (requestIds == null || requestIds.isEmpty() || requestIds.stream().anyMatch(Objects::isNull)) {
+                throw new ApiException(ErrorCode.BAD_REQUEST, "처리할 요청 ID는 필수입니다.");
+            }
+            Set<Long> ids = new LinkedHashSet<>(requestIds);
+            if (ids.size() > MAX_BULK_SIZE) {
+                throw new ApiException(ErrorCode.BAD_REQUEST, "한 번에 최대 " + MAX_BULK_SIZE + "건까지 처리할 수 있습니다.");
+            }
+
+            Map<Long, AdminRequest> requests = adminRequestRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(AdminRequest::getId, Function.identity()));
+
+            List<AdminRequestBulkResultDto> results = new ArrayList<>(ids.size());
+            Set<Long> approvedUserIds = new LinkedHashSet<>();
+            for (Long requestId : ids) {
+                AdminRequest adminRequest = requests.get(requestId);
+                if (adminRequest == null) {
+                    results.add(new AdminRequestBulkResultDto(requestId, AdminRequestBulkResultDto.Result.NOT_FOUND, null));
+                    continue;
+                }
+                if (adminRequest.getStatus() != AdminRequestStatus.PENDING) {
+                    results.add(new AdminRequestBulkResultDto(requestId,
+                            AdminRequestBulkResultDto.Result.ALREADY_PROCESSED, adminRequest.getStatus()));
+                    continue;
+                }
+
+                if (processType == AdminRequestProcessDto.ProcessType.APPROVE) {
+                    adminRequest.approve(adminComment, adminId);
+                    approvedUserIds.add(adminRequest.getUserId());
+                } else {
+                    adminRequest.reject(adminComment, adminId);
+                }
+                adminDashboardCounters.adminRequestProcessed(adminRequest.getStatus());
+                results.add(new AdminRequestBulkResultDto(requestId,
+                        AdminRequestBulkResultDto.Result.PROCESSED, adminRequest.getStatus()));
+            }
+
+            // 요청 상태 변경 반영 (다른 관리자가 먼저 처리했으면 여기서 충돌)
+            adminRequestRepository.flush();
+
+            if (!approvedUserIds.isEmpty()) {
+                updateUserRoles(approvedUserIds);
+            }
+
+            log.info("권한 요청 일괄 처리 완료: adminId={}, processType={}, processed={}, requested={}", adminId, processType,
+                    results.stream().filter(r -> r.getResult() == AdminRequestBulkResultDto.Result.PROCESSED).count(),
+                    ids.size());
+            return results;
+        } catch (ApiException e) {
+            log.error("권한 요청 일괄 처리 실패: adminId={}, processType={}, error={}", adminId, processType, e.getMessage());
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("권한 요청 일괄 처리 충돌: adminId={}, processType={}, error={}", adminId, processType, e.getMessage());
+            throw new ApiException(ErrorCode.ADMIN_REQUEST_CONFLICT);
+        } catch (Exception e) {
+            log.error("권한 요청 일괄 처리 중 예상치 못한 오류: adminId={}, processType={}", adminId, processType, e);
+            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR, "권한 요청 일괄 처리 중 오류가 발생했습니다.");
+        }
+    }
+
     /**
      * 권한 요청 승인 시 사용자 역할 변경
      * 
@@ -241,6 +361,7 @@ public class AdminManagementServiceImpl implements AdminManagementService {
      * 역할 변경 로직:
      * - USER → MODERATOR로 변경
      * - 다른 역할은 변경하지 않음
+     * - 변경 시 기존 Access Token 차단 (재발급 시 새 역할로 발급), 내 정보 응답 캐시 삭제
      * 
      * 예외: 사용자가 존재하지 않는 경우
      */
@@ -253,6 +374,8 @@ public class AdminManagementServiceImpl implements AdminManagementService {
             if (user.getRole() == Role.USER) {
                 user.updateRole(Role.MODERATOR);
                 userRepository.save(user);
+                accessTokenDenylist.denyAllForUser(user.getId());
+                userProfileCache.evict(user.getId());
                 log.info("사용자 역할 변경 완료: userId={}, oldRole={}, newRole={}", 
                         user.getId(), Role.USER, Role.MODERATOR);
             } else {
@@ -267,35 +390,31 @@ public class AdminManagementServiceImpl implements AdminManagementService {
         }
     }
 
-    /**
-     * 대기중인 권한 요청 목록 조회
-     * 
-     * @return PENDING 상태의 권한 요청 목록 (최신순 정렬)
-     * 
-     * 기능: 처리 대기중인 요청만 필터링하여 조회
-     * 용도: 관리자가 우선적으로 처리할 요청 확인
+    /*
+     * 승인된 요청자 역할 일괄 변경 (USER → MODERATOR, 다른 역할은 유지)
+     * 변경된 사용자는 기존 Access Token 차단, 내 정보 응답 캐시 삭제
      */
-    @Override
-    public List<AdminRequestSummaryForAdminDto> getPendingRequests(Long adminId) {
-        try {
-            // 관리자 권한 검증
-            User admin = userRepository.findById(adminId)
-                    .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "관리자를 찾을 수 없습니다."));
-
-            if (admin.getRole() != Role.ADMIN) {
-                throw new ApiException(ErrorCode.FORBIDDEN, "ADMIN 권한이 없습니다.");
-            }
+    private void updateUserRoles(Set<Long> userIds) {
+        List<Long> promotedUserIds = userRepository.findIdsByIdInAndRole(userIds, Role.USER);
+        if (promotedUserIds.isEmpty()) {
+            return;
+        }
+        int updated = userRepository.updateRoles(promotedUserIds, Role.USER, Role.MODERATOR, LocalDateTime.now());
+        for (Long userId : promotedUserIds) {
+            accessTokenDenylist.denyAllForUser(userId);
+            userProfileCache.evict(userId);
+        }
+        log.info("사용자 역할 일괄 변경 완료: users={}, updated={}, newRole={}", promotedUserIds, updated, Role.MODERATOR);
+    }
 
-            List<AdminRequest> requests = adminRequestRepository.findByStatusOrderByCreatedAtDesc(AdminRequestStatus.PENDING);
-            return requests.stream()
-                    .map(adminRequestMapper::toSummaryForAdminDto)
-                    .toList();
-        } catch (ApiException e) {
-            log.error("대기중인 권한 요청 목록 조회 실패: adminId={}, error={}", adminId, e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("대기중인 권한 요청 목록 조회 중 오류 발생: adminId={}", adminId, e);
-            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR, "대기중인 요청 목록 조회 중 오류가 발생했습니다.");
+    private static AdminRequestCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return AdminRequestCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "유효하지 않은 커서입니다.");
         }
     }
 
@@ -337,4 +456,48 @@ public class AdminManagementServiceImpl implements AdminManagementService {
             throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR, "요청 상세 조회 중 오류가 발생했습니다.");
         }
     }
+
+    /**
+     * 관리자 대시보드 건수 조회
+     * 
+     * @param adminId 관리자 ID
+     * @param userId 영상 수를 함께 조회할 사용자 ID (null이면 생략)
+     * @return 권한 요청 상태별 건수, 영상 수, 유효한 키 수, 대기/실패 블록체인 트랜잭션 수
+     * 
+     * 조회 비용: 관리자 확인과 사용자별 영상 수(user_id 인덱스 COUNT) 외에는 메모리 카운터 값만 반환 (목록 조회/집계 없음)
+     * 정확도: 이 인스턴스의 변경은 커밋 즉시, 그 외 변경은 주기 보정(reconciledAt) 시점에 반영 (사용자별 영상 수는 항상 최신)
+     */
+    @Override
+    public AdminDashboardDto getDashboard(Long adminId, Long userId) {
+        try {
+            // 관리자 권한 검증
+            User admin = userRepository.findById(adminId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "관리자를 찾을 수 없습니다."));
+
+            if (admin.getRole() != Role.ADMIN) {
+                throw new ApiException(ErrorCode.FORBIDDEN, "ADMIN 권한이 없습니다.");
+            }
+
+            Map<AdminRequestStatus, Long> requestCountByStatus = new EnumMap<>(AdminRequestStatus.class);
+            for (AdminRequestStatus status : AdminRequestStatus.values()) {
+                requestCountByStatus.put(status, adminDashboardCounters.getRequestCount(status));
+            }
+
+            return new AdminDashboardDto(
+                    requestCountByStatus.get(AdminRequestStatus.PENDING),
+                    requestCountByStatus,
+                    adminDashboardCounters.getTotalVideoCount(),
+                    userId == null ? null : videoRepository.countByUserId(userId),
+                    adminDashboardCounters.getActiveKeyCount(),
+                    adminDashboardCounters.getPendingTransactionCount(),
+                    adminDashboardCounters.getFailedTransactionCount(),
+                    adminDashboardCounters.getReconciledAt());
+        } catch (ApiException e) {
+            log.error("관리자 대시보드 조회 실패: adminId={}, error={}", adminId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("관리자 대시보드 조회 중 예상치 못한 오류: adminId={}", adminId, e);
+            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR, "대시보드 조회 중 오류가 발생했습니다.");
+        }
+    }
 } 
\ No newline at end of file
@@ -35,6 +35,7 @@ public class AdminRequestServiceImpl implements AdminRequestService {
 
     private final AdminRequestRepository adminRequestRepository;
     private final AdminRequestMapper adminRequestMapper;
+    private final AdminDashboardCounters adminDashboardCounters;
 
     /**
      * 관리자 권한 요청 생성
@@ -67,6 +68,7 @@ public class AdminRequestServiceImpl implements AdminRequestService {
             
             AdminRequest adminRequest = adminRequestMapper.toEntity(userId, createDto);
             AdminRequest savedRequest = adminRequestRepository.save(adminRequest);
+            adminDashboardCounters.adminRequestCreated();
             
             log.info("관리자 권한 요청 생성 완료: requestId={}, status={}", savedRequest.getId(), savedRequest.getStatus());
             return adminRequestMapper.toResponseDto(savedRequest);
@@ -1,5 +1,6 @@
 package com.safeview.domain.auth.controller;
 
+import com.safeview.domain.auth.dto.TokenRefreshResult;
 import com.safeview.domain.auth.dto.UserLoginRequestDto;
 import com.safeview.domain.auth.dto.UserLoginResponseDto;
 import com.safeview.domain.auth.dto.UserLoginResult;
@@ -98,22 +99,28 @@ public class AuthController {
     /**
      * 사용자 로그아웃
      * 
+     * @param request HTTP 요청 객체 (Access Token, Refresh Token 추출용)
      * @param response HTTP 응답 객체 (쿠키 삭제용)
      * @return 로그아웃 성공 메시지
      * 
      * 처리 과정:
-     * 1. 서비스에서 로그아웃 처리
+     * 1. 서비스에서 로그아웃 처리 (Access Token 차단, Refresh Token family 폐기)
      * 2. Access Token 쿠키 삭제
      * 3. Refresh Token 쿠키 삭제
      * 
-     * 보안: 모든 인증 토큰 제거로 세션 종료
+     * 보안: 서버 측 Access Token 차단, Refresh Token 폐기 및 모든 인증 토큰 제거로 세션 종료
      */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<String>> logout(HttpServletResponse response) {
+    public ResponseEntity<ApiResponse<String>> logout(
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
         log.info("사용자 로그아웃 요청");
         
         // 서비스에서 로그아웃 처리
-        String logoutMessage = authService.logout();
+        String logoutMessage = authService.logout(
+                jwtTokenProvider.resolveTokenFromCookie(request),
+                jwtTokenProvider.resolveRefreshTokenFromCookie(request));
         
         // Access Token 쿠키 삭제
         ResponseCookie accessCookie = ResponseCookie.from("accessToken", "")
@@ -149,20 +156,20 @@ public class AuthController {
      * 
      * 처리 과정:
      * 1. 쿠키에서 Refresh Token 추출
-     * 2. Refresh Token 유효성 검증
+     * 2. Refresh Token 회전 (검증, 1회 사용 처리, 같은 family로 재발급)
      * 3. 사용자 정보 조회
      * 4. 새로운 Access Token 생성
-     * 5. HttpOnly 쿠키에 새 토큰 저장
+     * 5. HttpOnly 쿠키에 새 Access Token, 새 Refresh Token 저장
      * 
-     * 보안: Refresh Token 검증 후 Access Token 재발급
-     * 예외: 유효하지 않은 Refresh Token
+     * 보안: Refresh Token 1회 사용, 재사용 시 family 전체 폐기
+     * 예외: 유효하지 않거나 폐기/재사용된 Refresh Token
      */
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<String>> refreshToken(
             HttpServletRequest request,
             HttpServletResponse response
     ) {
-        log.info("Access Token 재발급 요청");
+        log.debug("Access Token 재발급 요청");
         
         // Refresh Token 추출
         String refreshToken = jwtTokenProvider.resolveRefreshTokenFromCookie(request);
@@ -172,24 +179,11 @@ public class AuthController {
             throw new ApiException(ErrorCode.MISSING_JWT_TOKEN, "Refresh Token이 없습니다.");
         }
 
-        // Refresh Token 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new ApiException(ErrorCode.INVALID_JWT_TOKEN, "유효하지 않은 Refresh Token입니다.");
-        }
-
-        // Refresh Token인지 확인
-        if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
-            throw new ApiException(ErrorCode.INVALID_JWT_TOKEN, "Refresh Token이 아닙니다.");
-        }
-
-        // Refresh Token에서 사용자 ID 추출
-        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
-
-        // 새로운 Access Token 생성 (사용자 정보 조회)
-        String newAccessToken = authService.refreshAccessToken(userId);
+        // Refresh Token 회전 및 새로운 Access Token 생성 (검증 포함)
+        TokenRefreshResult result = authService.refreshAccessToken(refreshToken);
 
         // 새로운 Access Token 쿠키 생성
-        ResponseCookie accessCookie = ResponseCookie.from("accessToken", newAccessToken)
+        ResponseCookie accessCookie = ResponseCookie.from("accessToken", result.getAccessToken())
                 .httpOnly(true)
                 .secure(false)
                 .sameSite("Lax")
@@ -197,8 +191,18 @@ public class AuthController {
                 .maxAge(60 * 60) // 1시간
                 .build();
 
+        // 새로운 Refresh Token 쿠키 생성 (기존 토큰은 사용 처리됨)
+        ResponseCookie refreshCookie = ResponseCookie.from("refreshToken", result.getRefreshToken())
+                .httpOnly(true)
+                .secure(false)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(7 * 24 * 60 * 60) // 7일
+                .build();
+
         // 쿠키 헤더에 추가
         response.addHeader(HttpHeaders.SET_COOKIE, accessCookie.toString());
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshCookie.toString());
 
         return ApiResponse.toResponseEntity(SuccessCode.OK, "Access Token이 재발급되었습니다.");
     }
@@ -0,0 +1,16 @@
+package com.safeview.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 회전된 Refresh Token DTO
+ * 
+ * 기존 Refresh Token을 사용 처리한 뒤 같은 family로 새로 발급한 토큰과 사용자 ID
+ */
+@Getter
+@AllArgsConstructor
+public class RotatedRefreshToken {
+    private Long userId;
+    private String refreshToken;
+}
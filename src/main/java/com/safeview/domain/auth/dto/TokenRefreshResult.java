@@ -0,0 +1,16 @@
+package com.safeview.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 토큰 재발급 결과 DTO
+ * 
+ * Refresh Token 회전 시 새 Access Token과 새 Refresh Token을 반환하는 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class TokenRefreshResult {
+    private String accessToken;
+    private String refreshToken;
+}
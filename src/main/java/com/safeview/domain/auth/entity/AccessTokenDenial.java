@@ -0,0 +1,73 @@
+package com.safeview.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+ * Access Token 차단 엔티티
+ *
+ * 만료 전에 무효화해야 하는 Access Token을 기록하는 엔티티 (토큰 원문은 저장하지 않음)
+ * - 토큰 단위 차단: token_id(jti)가 있는 행 (로그아웃 등)
+ * - 사용자 단위 차단: token_id가 없고 not_before가 있는 행 (역할 변경 등, 그 이전에 발급된 토큰 전체)
+ *
+ * 인증 필터는 이 테이블을 직접 조회하지 않고 메모리에 올린 차단 목록만 확인
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "access_token_denials", indexes = {
+        @Index(name = "idx_access_token_denials_expires_at", columnList = "expires_at")
+})
+public class AccessTokenDenial {
+
+    /*
+     * 차단 ID (증가 순서로 다른 인스턴스가 새 차단만 가져가는 기준)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /*
+     * 차단할 토큰 ID (JWT jti, 사용자 단위 차단이면 null)
+     */
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    /*
+     * 사용자 ID
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /*
+     * 이 시각 이전에 발급된 토큰 차단 (사용자 단위 차단에서만 사용)
+     */
+    @Column(name = "not_before")
+    private LocalDateTime notBefore;
+
+    /*
+     * 차단 만료 시각 (대상 토큰이 모두 만료되는 시각, 이후 행 삭제)
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static AccessTokenDenial ofToken(String tokenId, Long userId, LocalDateTime expiresAt) {
+        AccessTokenDenial denial = new AccessTokenDenial();
+        denial.tokenId = tokenId;
+        denial.userId = userId;
+        denial.expiresAt = expiresAt;
+        return denial;
+    }
+
+    public static AccessTokenDenial ofUser(Long userId, LocalDateTime notBefore, LocalDateTime expiresAt) {
+        AccessTokenDenial denial = new AccessTokenDenial();
+        denial.userId = userId;
+        denial.notBefore = notBefore;
+        denial.expiresAt = expiresAt;
+        return denial;
+    }
+}
@@ -0,0 +1,98 @@
+package com.safeview.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/*
+ * Refresh Token 엔티티
+ *
+ * 발급된 Refresh Token의 상태를 관리하는 엔티티 (토큰 원문은 저장하지 않고 jti만 저장)
+ * 같은 로그인에서 회전(재발급)된 토큰은 같은 family_id를 가지며,
+ * 이미 회전된 토큰이 다시 사용되면 family 전체를 폐기
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+public class RefreshToken implements Persistable<String> {
+
+    /*
+     * 토큰 ID (JWT jti, 기본키)
+     */
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    /*
+     * 토큰 family ID (최초 로그인 시 생성, 회전 시 유지)
+     */
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    /*
+     * 사용자 ID
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /*
+     * 토큰 상태 (ACTIVE, ROTATED, REVOKED)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private RefreshTokenStatus status;
+
+    /*
+     * 발급 시각
+     */
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
+
+    /*
+     * 만료 시각
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /*
+     * 신규 여부 (저장 시 SELECT 없이 INSERT 하기 위함)
+     */
+    @Transient
+    private boolean isNew = true;
+
+    public static RefreshToken issue(String tokenId, String familyId, Long userId,
+                                     LocalDateTime issuedAt, LocalDateTime expiresAt) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.tokenId = tokenId;
+        refreshToken.familyId = familyId;
+        refreshToken.userId = userId;
+        refreshToken.status = RefreshTokenStatus.ACTIVE;
+        refreshToken.issuedAt = issuedAt;
+        refreshToken.expiresAt = expiresAt;
+        return refreshToken;
+    }
+
+    @Override
+    public String getId() {
+        return tokenId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,10 @@
+package com.safeview.domain.auth.entity;
+
+/*
+ * Refresh Token 상태
+ */
+public enum RefreshTokenStatus {
+    ACTIVE,   // 사용 가능
+    ROTATED,  // 재발급에 사용됨 (다시 사용되면 탈취로 간주)
+    REVOKED   // 폐기됨 (로그아웃, 재사용 감지)
+}
@@ -0,0 +1,33 @@
+package com.safeview.domain.auth.repository;
+
+import com.safeview.domain.auth.entity.AccessTokenDenial;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AccessTokenDenialRepository extends JpaRepository<AccessTokenDenial, Long> {
+
+    // 아직 유효한 차단 목록 (기동 시 메모리 차단 목록 재구성용)
+    @Query("SELECT d FROM AccessTokenDenial d WHERE d.expiresAt > :now ORDER BY d.id")
+    List<AccessTokenDenial> findActive(@Param("now") LocalDateTime now);
+
+    // 마지막으로 반영한 ID 이후의 차단 목록 (다른 인스턴스에서 추가된 차단 동기화용)
+    @Query("SELECT d FROM AccessTokenDenial d WHERE d.id > :lastId ORDER BY d.id")
+    List<AccessTokenDenial> findAddedAfter(@Param("lastId") long lastId, Pageable pageable);
+
+    // 만료된 차단 ID 조회 (expires_at 인덱스 사용, 일괄 삭제용)
+    @Query("SELECT d.id FROM AccessTokenDenial d WHERE d.expiresAt <= :now ORDER BY d.expiresAt")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 만료 차단 일괄 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AccessTokenDenial d WHERE d.id IN :ids AND d.expiresAt <= :now")
+    int deleteExpired(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,40 @@
+package com.safeview.domain.auth.repository;
+
+import com.safeview.domain.auth.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // 사용 가능한 토큰을 회전 상태로 변경 (조건부 갱신으로 1회 사용 보장)
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.status = com.safeview.domain.auth.entity.RefreshTokenStatus.ROTATED " +
+            "WHERE t.tokenId = :tokenId AND t.status = com.safeview.domain.auth.entity.RefreshTokenStatus.ACTIVE " +
+            "AND t.expiresAt > :now")
+    int markRotated(@Param("tokenId") String tokenId, @Param("now") LocalDateTime now);
+
+    // family 전체 폐기
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.status = com.safeview.domain.auth.entity.RefreshTokenStatus.REVOKED " +
+            "WHERE t.familyId = :familyId AND t.status <> com.safeview.domain.auth.entity.RefreshTokenStatus.REVOKED")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    // 만료된 토큰 ID 조회 (expires_at 인덱스 사용, 일괄 삭제용)
+    @Query("SELECT t.tokenId FROM RefreshToken t WHERE t.expiresAt <= :now ORDER BY t.expiresAt")
+    List<String> findExpiredTokenIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 만료 토큰 일괄 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.tokenId IN :tokenIds AND t.expiresAt <= :now")
+    int deleteExpired(@Param("tokenIds") List<String> tokenIds, @Param("now") LocalDateTime now);
+}
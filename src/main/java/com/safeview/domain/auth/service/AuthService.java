@@ -1,6 +1,7 @@
 package com.safeview.domain.auth.service;
 
 import com.safeview.domain.auth.dto.UserLoginRequestDto;
+import com.safeview.domain.auth.dto.TokenRefreshResult;
 import com.safeview.domain.auth.dto.UserLoginResult;
 
 /*
@@ -10,6 +11,6 @@ import com.safeview.domain.auth.dto.UserLoginResult;
  */
 public interface AuthService {
     UserLoginResult login(UserLoginRequestDto request);
-    String logout();
-    String refreshAccessToken(Long userId);
+    String logout(String accessToken, String refreshToken);
+    TokenRefreshResult refreshAccessToken(String refreshToken);
 }
@@ -1,19 +1,27 @@
 package com.safeview.domain.auth.service;
 
+import com.safeview.domain.auth.dto.RotatedRefreshToken;
+import com.safeview.domain.auth.dto.TokenRefreshResult;
 import com.safeview.domain.auth.dto.UserLoginRequestDto;
 import com.safeview.domain.auth.dto.UserLoginResponseDto;
 import com.safeview.domain.auth.dto.UserLoginResult;
 import com.safeview.domain.auth.mapper.AuthMapper;
 import com.safeview.domain.user.entity.User;
 import com.safeview.domain.user.repository.UserRepository;
+import com.safeview.domain.user.service.UserProfileCache;
 import com.safeview.global.exception.ApiException;
 import com.safeview.global.response.ErrorCode;
+import com.safeview.global.security.AccessTokenDenylist;
 import com.safeview.global.security.JwtTokenProvider;
+import com.safeview.global.security.PasswordHashingExecutor;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 인증 서비스 구현체
@@ -35,8 +43,12 @@ public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final AuthMapper authMapper;
+    private final RefreshTokenService refreshTokenService;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final UserProfileCache userProfileCache;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 사용자 로그인 처리
@@ -46,16 +58,18 @@ public class AuthServiceImpl implements AuthService {
      * 
      * 처리 과정:
      * 1. 이메일로 사용자 조회
-     * 2. 비밀번호 암호화 검증
-     * 3. JWT Access Token 생성
-     * 4. JWT Refresh Token 생성
-     * 5. 사용자 정보와 토큰 반환
+     * 2. 비밀번호 암호화 검증 (해시 전용 풀에서 실행, 트랜잭션 밖)
+     * 3. 저장된 해시가 현재 설정보다 오래된 경우 재해시 (트랜잭션 밖)
+     * 4. JWT Access Token 생성
+     * 5. 재해시 저장 및 JWT Refresh Token 발급 (단일 트랜잭션)
+     * 6. 사용자 정보와 토큰 반환
      * 
+     * 커넥션: 해시 대기 중에는 커넥션을 점유하지 않음 (로그인 폭주 시 DB 풀 고갈 방지)
      * 보안: 비밀번호 암호화 검증, JWT 토큰 생성
-     * 예외: 존재하지 않는 이메일, 비밀번호 불일치
+     * 예외: 존재하지 않는 이메일, 비밀번호 불일치, 로그인 요청 폭주(AUTH_BUSY)
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserLoginResult login(UserLoginRequestDto request) {
         log.info("사용자 로그인 시도: email={}", request.getEmail());
         
@@ -64,16 +78,28 @@ public class AuthServiceImpl implements AuthService {
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND, "존재하지 않는 이메일입니다."));
 
         // 비밀번호 일치 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingExecutor.matches(request.getPassword(), user.getPassword())) {
             log.warn("로그인 실패 - 비밀번호 불일치: email={}", request.getEmail());
             throw new ApiException(ErrorCode.INVALID_PASSWORD, "비밀번호가 일치하지 않습니다.");
         }
 
+        // 해시 알고리즘/강도 변경 시 로그인 성공한 사용자부터 재해시 (일괄 초기화 불필요)
+        String rehashed = passwordHashingExecutor.needsRehash(user.getPassword())
+                ? passwordHashingExecutor.encode(request.getPassword())
+                : null;
+
         // Access Token 생성
         String accessToken = jwtTokenProvider.generateAccessToken(user.getId(), user.getRole());
 
-        // Refresh Token 생성
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
+        // 재해시 저장 및 Refresh Token 생성 (새 family)
+        String refreshToken = transactionTemplate.execute(status -> {
+            if (rehashed != null) {
+                userRepository.findById(user.getId()).ifPresent(saved -> saved.updatePassword(rehashed));
+                userProfileCache.evict(user.getId());
+                log.info("비밀번호 재해시 완료: userId={}", user.getId());
+            }
+            return refreshTokenService.issue(user.getId());
+        });
 
         UserLoginResponseDto userInfo = authMapper.toLoginResponseDto(user);
 
@@ -87,21 +113,30 @@ public class AuthServiceImpl implements AuthService {
     /**
      * 사용자 로그아웃 처리
      * 
+     * @param accessToken 쿠키의 Access Token (없을 수 있음)
+     * @param refreshToken 쿠키의 Refresh Token (없을 수 있음)
      * @return 로그아웃 완료 메시지
      * 
      * 처리 과정:
      * 1. 로그아웃 요청 로깅
-     * 2. 클라이언트 측 토큰 무효화 (쿠키 삭제)
-     * 3. 향후 확장: 토큰 블랙리스트 관리
+     * 2. Access Token 차단 (만료 전까지 재사용 불가)
+     * 3. Refresh Token family 폐기 (이후 같은 로그인에서 발급된 토큰으로 재발급 불가)
+     * 4. 클라이언트 측 토큰 무효화 (쿠키 삭제)
      * 
-     * 보안: 클라이언트 측 토큰 제거
-     * 확장성: 서버 측 토큰 무효화 로직 추가 가능
+     * 보안: 서버 측 Access Token 차단 및 Refresh Token 폐기, 클라이언트 측 토큰 제거
      */
     @Override
-    public String logout() {
+    @Transactional
+    public String logout(String accessToken, String refreshToken) {
         log.info("사용자 로그아웃 요청 처리");
         
         try {
+            if (accessToken != null) {
+                denyAccessToken(accessToken);
+            }
+            if (refreshToken != null) {
+                refreshTokenService.revoke(refreshToken);
+            }
             log.info("로그아웃 처리 완료");
             return "로그아웃이 완료되었습니다.";
             
@@ -111,24 +146,45 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
+    /*
+     * Access Token 차단 목록 등록 (유효하지 않은 토큰은 무시)
+     */
+    private void denyAccessToken(String accessToken) {
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.getClaims(accessToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        accessTokenDenylist.denyToken(claims.getId(), Long.parseLong(claims.getSubject()),
+                claims.getExpiration().toInstant());
+    }
+
     /**
-     * Access Token 재발급
+     * Access Token 재발급 (Refresh Token 회전)
      * 
-     * @param userId 사용자 ID
-     * @return 새로운 Access Token
+     * @param refreshToken 쿠키의 Refresh Token
+     * @return 새로운 Access Token과 새로운 Refresh Token
      * 
      * 처리 과정:
-     * 1. 사용자 조회 및 역할 확인
-     * 2. 새로운 Access Token 생성
+     * 1. Refresh Token 회전 (사용 처리 후 같은 family로 재발급, 재사용 시 family 폐기)
+     * 2. 사용자 조회 및 역할 확인
+     * 3. 새로운 Access Token 생성
      * 
-     * 보안: 사용자 존재 여부 및 역할 확인
-     * 예외: 존재하지 않는 사용자
+     * 보안: Refresh Token 1회 사용, 재사용 감지, 사용자 존재 여부 및 역할 확인
+     * 예외: 유효하지 않거나 폐기/재사용된 Refresh Token, 존재하지 않는 사용자
      */
     @Override
-    public String refreshAccessToken(Long userId) {
-        log.info("Access Token 재발급 요청: userId={}", userId);
+    @Transactional(noRollbackFor = ApiException.class)
+    public TokenRefreshResult refreshAccessToken(String refreshToken) {
+        log.debug("Access Token 재발급 요청");
+        Long userId = null;
         
         try {
+            // Refresh Token 회전
+            RotatedRefreshToken rotated = refreshTokenService.rotate(refreshToken);
+            userId = rotated.getUserId();
+
             // 사용자 조회 (역할 확인용)
             User user = userRepository.findById(userId)
                     .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다."));
@@ -137,7 +193,7 @@ public class AuthServiceImpl implements AuthService {
             String newAccessToken = jwtTokenProvider.generateAccessToken(userId, user.getRole());
             
             log.info("Access Token 재발급 완료: userId={}, role={}", userId, user.getRole());
-            return newAccessToken;
+            return new TokenRefreshResult(newAccessToken, rotated.getRefreshToken());
             
         } catch (ApiException e) {
             log.error("Access Token 재발급 실패: userId={}, error={}", userId, e.getMessage());
@@ -0,0 +1,14 @@
+package com.safeview.domain.auth.service;
+
+import com.safeview.domain.auth.dto.RotatedRefreshToken;
+
+/*
+ * Refresh Token 서비스 인터페이스
+ * 
+ * Refresh Token 발급, 회전(재발급), 재사용 감지, 폐기 기능을 제공
+ */
+public interface RefreshTokenService {
+    String issue(Long userId);
+    RotatedRefreshToken rotate(String refreshToken);
+    void revoke(String refreshToken);
+}
@@ -0,0 +1,191 @@
+package com.safeview.domain.auth.service;
+
+import com.safeview.domain.auth.dto.RotatedRefreshToken;
+import com.safeview.domain.auth.entity.RefreshToken;
+import com.safeview.domain.auth.repository.RefreshTokenRepository;
+import com.safeview.global.exception.ApiException;
+import com.safeview.global.response.ErrorCode;
+import com.safeview.global.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh Token 서비스 구현체
+ * 
+ * Refresh Token family 단위의 회전과 재사용 감지를 담당합니다.
+ * - 로그인 시 새 family로 토큰 발급
+ * - 재발급 시 기존 토큰을 사용 처리(ROTATED)하고 같은 family로 새 토큰 발급
+ * - 이미 사용된 토큰이 다시 들어오면 탈취로 간주하여 family 전체 폐기
+ * - 로그아웃 시 family 폐기
+ * 
+ * 폐기 확인: 폐기된 family의 토큰은 REVOKED 상태이므로 회전 시 조건부 UPDATE가 0건이 되어 거부됩니다.
+ *           (별도 조회 없이 회전 UPDATE 1회로 판별)
+ * 정리: 만료된 토큰 행은 주기적으로 일괄 삭제합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Value("${jwt.revocation.purge-interval-ms:3600000}")
+    private long purgeIntervalMs;
+
+    private ScheduledExecutorService scheduler;
+
+    /*
+     * 만료 토큰 정리 작업 시작
+     */
+    @PostConstruct
+    public void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::purgeExpired, purgeIntervalMs, purgeIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 새 family로 Refresh Token 발급 (로그인)
+     * 
+     * @param userId 사용자 ID
+     * @return Refresh Token
+     */
+    @Override
+    @Transactional
+    public String issue(Long userId) {
+        return issueInFamily(userId, UUID.randomUUID().toString(), LocalDateTime.now());
+    }
+
+    /**
+     * Refresh Token 회전
+     * 
+     * @param refreshToken 클라이언트가 제출한 Refresh Token
+     * @return 사용자 ID와 새 Refresh Token
+     * 
+     * 처리 과정:
+     * 1. 토큰 서명/만료/타입 확인 및 jti, family ID 추출
+     * 2. 조건부 UPDATE로 토큰을 사용 처리 (ACTIVE → ROTATED)
+     * 3. 이미 사용되었거나 폐기된 토큰이면 family 전체 폐기 (재사용 감지)
+     * 4. 같은 family로 새 토큰 발급
+     * 
+     * 예외: 유효하지 않은 토큰, 폐기된 토큰, 재사용된 토큰 (INVALID_JWT_TOKEN)
+     */
+    @Override
+    @Transactional(noRollbackFor = ApiException.class)
+    public RotatedRefreshToken rotate(String refreshToken) {
+        Claims claims = parseRefreshToken(refreshToken);
+        String tokenId = claims.getId();
+        String familyId = claims.get("fid", String.class);
+        if (tokenId == null || familyId == null) {
+            throw new ApiException(ErrorCode.INVALID_JWT_TOKEN, "다시 로그인해주세요.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshTokenRepository.markRotated(tokenId, now) == 0) {
+            // 이미 사용되었거나 폐기된(로그아웃, 재사용 감지) 토큰: 탈취 가능성이 있으므로 family 전체 폐기
+            revokeFamily(familyId);
+            log.warn("Refresh Token 재사용 감지 - family 폐기: userId={}, familyId={}", claims.getSubject(), familyId);
+            throw new ApiException(ErrorCode.INVALID_JWT_TOKEN, "이미 사용된 Refresh Token입니다. 다시 로그인해주세요.");
+        }
+
+        Long userId = Long.parseLong(claims.getSubject());
+        return new RotatedRefreshToken(userId, issueInFamily(userId, familyId, now));
+    }
+
+    /**
+     * Refresh Token family 폐기 (로그아웃)
+     * 
+     * @param refreshToken 폐기할 Refresh Token (유효하지 않으면 무시)
+     */
+    @Override
+    @Transactional
+    public void revoke(String refreshToken) {
+        String familyId;
+        try {
+            familyId = parseRefreshToken(refreshToken).get("fid", String.class);
+        } catch (ApiException e) {
+            return;
+        }
+        if (familyId != null) {
+            revokeFamily(familyId);
+        }
+    }
+
+    private String issueInFamily(Long userId, String familyId, LocalDateTime now) {
+        String tokenId = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = now.plus(jwtTokenProvider.getRefreshTokenExpirationTime(), ChronoUnit.MILLIS);
+        refreshTokenRepository.save(RefreshToken.issue(tokenId, familyId, userId, now, expiresAt));
+        return jwtTokenProvider.generateRefreshToken(userId, tokenId, familyId);
+    }
+
+    private Claims parseRefreshToken(String refreshToken) {
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.getClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new ApiException(ErrorCode.INVALID_JWT_TOKEN, "유효하지 않은 Refresh Token입니다.");
+        }
+        if (!"REFRESH".equals(claims.get("type", String.class))) {
+            throw new ApiException(ErrorCode.INVALID_JWT_TOKEN, "Refresh Token이 아닙니다.");
+        }
+        return claims;
+    }
+
+    private void revokeFamily(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId);
+    }
+
+    /*
+     * 만료 토큰 일괄 삭제
+     */
+    void purgeExpired() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            PageRequest batch = PageRequest.of(0, PURGE_BATCH_SIZE);
+            int total = 0;
+            List<String> expired;
+            do {
+                expired = refreshTokenRepository.findExpiredTokenIds(now, batch);
+                if (!expired.isEmpty()) {
+                    total += refreshTokenRepository.deleteExpired(expired, now);
+                }
+            } while (expired.size() == PURGE_BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("만료 Refresh Token 삭제: count={}", total);
+            }
+        } catch (Exception e) {
+            log.error("만료 Refresh Token 삭제 실패", e);
+        }
+    }
+}
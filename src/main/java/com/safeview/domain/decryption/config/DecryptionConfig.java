@@ -32,6 +32,11 @@ public class DecryptionConfig {
      */
     private BlockchainConfig blockchain = new BlockchainConfig();
 
+    /**
+     * 복호화 토큰 서명 설정
+     */
+    private TokenConfig token = new TokenConfig();
+
     @Getter
     @Setter
     public static class KeyConfig {
@@ -108,4 +113,35 @@ public class DecryptionConfig {
          */
         private String gasLimit = "300000";
     }
-} 
\ No newline at end of file
+
+    @Getter
+    @Setter
+    public static class TokenConfig {
+        
+        /**
+         * 서명 개인키 (Ed25519, PKCS#8 DER의 Base64)
+         * 비어 있으면 기동 실패 (dev/local/test/loadtest 프로필에서만 임시 키 쌍 생성, 재기동하면 이전 토큰 검증 불가)
+         */
+        private String privateKey = "";
+        
+        /**
+         * 서명 공개키 (Ed25519, X.509 DER의 Base64, privateKey와 함께 설정)
+         */
+        private String publicKey = "";
+        
+        /**
+         * 토큰 유효 시간 (초, 기본값: 300)
+         */
+        private long ttlSeconds = 300;
+        
+        /**
+         * 토큰 발급자 (iss)
+         */
+        private String issuer = "safeview";
+        
+        /**
+         * 토큰 권한 범위 (scope)
+         */
+        private String scope = "video:decrypt";
+    }
+}
@@ -2,6 +2,9 @@ package com.safeview.domain.decryption.config;
 
 import com.safeview.domain.decryption.service.BlockchainService;
 import com.safeview.domain.decryption.service.RealBlockchainServiceImpl;
+import com.safeview.global.trace.RequestTraceInterceptor;
+import com.safeview.global.util.TimedProxy;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -10,14 +13,17 @@ import org.springframework.context.annotation.Primary;
  * 서비스 설정 클래스
  * 
  * 복호화 관련 서비스 빈을 설정하는 클래스
- * 블록체인 서비스 구현체를 등록
+ * 블록체인 서비스 구현체를 호출 시간 측정 프록시로 감싸서 등록
+ * (메트릭: safeview.blockchain.calls, 태그: method, outcome, exception / 요청 구간: chain:BlockchainService.*)
  */
 @Configuration
 public class ServiceConfig {
 
     @Bean
     @Primary
-    public BlockchainService blockchainService() {
-        return new RealBlockchainServiceImpl();
+    public BlockchainService blockchainService(RealBlockchainServiceImpl realBlockchainService, MeterRegistry meterRegistry) {
+        BlockchainService traced = RequestTraceInterceptor.wrap(
+                BlockchainService.class, realBlockchainService, "chain", "BlockchainService");
+        return TimedProxy.wrap(BlockchainService.class, traced, meterRegistry, "safeview.blockchain.calls");
     }
-} 
\ No newline at end of file
+} 
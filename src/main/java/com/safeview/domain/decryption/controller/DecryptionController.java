@@ -2,6 +2,7 @@ package com.safeview.domain.decryption.controller;
 
 import com.safeview.domain.decryption.dto.*;
 import com.safeview.domain.decryption.service.DecryptionService;
+import com.safeview.domain.decryption.service.DecryptionTokenSigner;
 import com.safeview.global.config.ApiKeyValidator;
 import com.safeview.global.exception.ApiException;
 import com.safeview.global.response.ApiResponse;
@@ -9,12 +10,16 @@ import com.safeview.global.response.ErrorCode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.Map;
+
 import static com.safeview.global.response.ErrorCode.INVALID_API_KEY;
 
 /**
@@ -37,6 +42,7 @@ public class DecryptionController {
 
     private final DecryptionService decryptionService;
     private final ApiKeyValidator apiKeyValidator;
+    private final DecryptionTokenSigner decryptionTokenSigner;
 
     /**
      * CCTV 복호화 키 발급 (MODERATOR, ADMIN만 가능)
@@ -105,8 +111,7 @@ public class DecryptionController {
             @AuthenticationPrincipal Long userId,
             @Valid @RequestBody KeyVerificationRequestDto requestDto) {
         
-        log.info("키 검증 요청: userId={}, accessToken={}, cameraId={}", 
-                userId, requestDto.getAccessToken(), requestDto.getCameraId());
+        log.debug("키 검증 요청: userId={}, cameraId={}", userId, requestDto.getCameraId());
         
         // 사용자 ID 검증
         if (userId == null || userId <= 0) {
@@ -127,12 +132,11 @@ public class DecryptionController {
             @RequestHeader("AiApiKey") String aiApiKey,
             @Valid @RequestBody KeyVerificationRequestDto requestDto) {
 
-        log.info("키 검증 요청: aiApiKey={}, accessToken={}, cameraId={}",
-                aiApiKey, requestDto.getAccessToken(), requestDto.getCameraId());
+        log.debug("AI 서버 키 검증 요청: cameraId={}", requestDto.getCameraId());
 
         // API Key 검증
         if (!apiKeyValidator.isValidApiKey(aiApiKey)) {
-            log.warn("Invalid API Key provided: {}", aiApiKey);
+            log.warn("유효하지 않은 AI 서버 API Key: cameraId={}", requestDto.getCameraId());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.onFailure(ErrorCode.INVALID_API_KEY));
         }
@@ -143,6 +147,19 @@ public class DecryptionController {
                 .body(ApiResponse.onSuccessWithMessage(response, "키 검증이 완료되었습니다."));
     }
 
+    /**
+     * 복호화 토큰 검증용 공개키 (JWKS, 인증 불필요)
+     * 
+     * AI 서버는 이 공개키로 복호화 토큰(EdDSA JWT)의 서명, 만료(exp), 카메라(cam), 권한(scope)을 직접 검증합니다.
+     * 응답은 ApiResponse로 감싸지 않은 표준 JWKS 형식이며, 1시간 동안 캐시할 수 있습니다.
+     */
+    @GetMapping("/token-keys")
+    public ResponseEntity<Map<String, Object>> getTokenKeys() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+                .body(decryptionTokenSigner.jwks());
+    }
+
     /**
      * 키 취소 (MODERATOR, ADMIN만 가능)
      */
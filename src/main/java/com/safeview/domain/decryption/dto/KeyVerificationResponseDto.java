@@ -25,7 +25,7 @@ public class KeyVerificationResponseDto {
     private LocalDateTime verifiedAt;      // 검증 시간 (필수)
     
     // 보안 정보
-    private String decryptionToken;        // 복호화용 임시 토큰 (유효한 경우만)
+    private String decryptionToken;        // 복호화 토큰 (EdDSA 서명 JWT, 유효한 경우만, 공개키: /api/decryption/token-keys)
     private int remainingUses;             // 남은 사용 횟수
     
     // CCTV 정보
@@ -20,7 +20,10 @@ import java.time.LocalDateTime;
 @Getter
 @SuperBuilder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "decryption_keys")
+@Table(name = "decryption_keys", indexes = {
+        @Index(name = "idx_decryption_keys_valid_lookup",
+                columnList = "user_id, status, expires_at, remaining_uses, issued_at")
+})
 public class DecryptionKey extends BaseEntity {
 
     /*
@@ -55,4 +55,16 @@ public interface BlockchainTransactionRepository extends JpaRepository<Blockchai
     
     // 블록 번호 존재 여부 확인
     boolean existsByBlockNumber(Long blockNumber);
+
+    // 상태별 트랜잭션 개수 (관리자 대시보드 카운터 보정용, 주기 작업에서만 호출)
+    @Query("SELECT bt.status AS status, COUNT(bt) AS count FROM BlockchainTransaction bt GROUP BY bt.status")
+    List<StatusCount> countGroupByStatus();
+
+    /*
+     * 상태별 개수 프로젝션
+     */
+    interface StatusCount {
+        String getStatus();
+        long getCount();
+    }
 } 
\ No newline at end of file
@@ -4,6 +4,8 @@ import com.safeview.domain.decryption.entity.DecryptionKey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -27,4 +29,8 @@ public interface DecryptionKeyRepository extends JpaRepository<DecryptionKey, Lo
     // 사용자의 유효한 키 조회 (ACTIVE 상태이고 만료되지 않았으며 사용 횟수가 남은 키)
     Optional<DecryptionKey> findFirstByUserIdAndStatusAndExpiresAtAfterAndRemainingUsesGreaterThanOrderByIssuedAtDesc(
             Long userId, String status, LocalDateTime now, int remainingUses);
+
+    // 유효한 키 개수 (관리자 대시보드 카운터 보정용, 주기 작업에서만 호출)
+    @Query("SELECT COUNT(k) FROM DecryptionKey k WHERE k.status = 'ACTIVE' AND k.expiresAt > :now AND k.remainingUses > 0")
+    long countActiveKeys(@Param("now") LocalDateTime now);
 } 
\ No newline at end of file
@@ -84,9 +84,9 @@ public interface DecryptionService {
 
 
     /**
-     * 복호화용 임시 토큰 생성
+     * 복호화 토큰 생성 (Ed25519 서명, AI 서버가 공개키로 직접 검증)
      */
-    String generateDecryptionToken();
+    String generateDecryptionToken(DecryptionKey decryptionKey, String cameraId);
 
     /**
      * 새로운 복호화 키 생성 및 저장
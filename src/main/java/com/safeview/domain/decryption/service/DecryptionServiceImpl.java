@@ -1,5 +1,6 @@
 package com.safeview.domain.decryption.service;
 
+import com.safeview.domain.administrator.service.AdminDashboardCounters;
 import com.safeview.domain.decryption.dto.*;
 import com.safeview.domain.decryption.entity.DecryptionKey;
 import com.safeview.domain.decryption.entity.BlockchainTransaction;
@@ -12,6 +13,9 @@ import com.safeview.domain.user.entity.User;
 import com.safeview.domain.user.repository.UserRepository;
 import com.safeview.global.exception.ApiException;
 import com.safeview.global.response.ErrorCode;
+import com.safeview.global.util.CryptoUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -19,9 +23,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -36,6 +41,8 @@ import java.util.Optional;
  * 
  * 보안: 키 암호화, 토큰 검증, 블록체인 연동
  * 감사: 키 사용 이력, 블록체인 트랜잭션 추적
+ * 트랜잭션: 키 발급/취소의 블록체인 호출은 트랜잭션 밖에서 실행하고,
+ *          조회와 저장만 짧은 트랜잭션으로 나눠 DB 커넥션을 원격 호출 동안 점유하지 않음
  */
 @Slf4j
 @Service
@@ -43,12 +50,19 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class DecryptionServiceImpl implements DecryptionService {
 
+    private static final String BLOCKCHAIN_DISABLED = "BLOCKCHAIN_DISABLED";
+
     private final DecryptionKeyRepository decryptionKeyRepository;
     private final BlockchainTransactionRepository blockchainTransactionRepository;
     private final DecryptionConfig decryptionConfig;
     private final DecryptionKeyMapper decryptionKeyMapper;
     private final BlockchainService blockchainService;
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final CryptoUtil cryptoUtil;
+    private final DecryptionTokenSigner decryptionTokenSigner;
+    private final TransactionTemplate transactionTemplate;
+    private final AdminDashboardCounters adminDashboardCounters;
     // ===== 키 관리 메서드 =====
 
     /**
@@ -62,14 +76,14 @@ public class DecryptionServiceImpl implements DecryptionService {
      * 2. 새로운 AES-256 키 생성
      * 3. 키 해시 생성 및 암호화
      * 4. 보안 토큰 생성
-     * 5. 블록체인에 키 등록
-     * 6. 데이터베이스에 키 저장
+     * 5. 블록체인에 키 등록 (트랜잭션 밖)
+     * 6. 데이터베이스에 키와 블록체인 트랜잭션 저장 (단일 트랜잭션)
      * 
      * 보안: 키 암호화, 블록체인 등록
      * 중복 방지: 기존 유효 키 재사용
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public KeyIssuanceResponseDto issueKey(Long userId) {
         log.info("CCTV 복호화 키 발급 요청: userId={}", userId);
 
@@ -103,8 +117,12 @@ public class DecryptionServiceImpl implements DecryptionService {
         String blockchainTxHash = registerKeyOnBlockchain(keyHash, userId);
 
         // 키 저장
-        DecryptionKey savedKey = createAndSaveDecryptionKey(
-                userId, encryptedKey, keyHash, blockchainTxHash, accessToken);
+        DecryptionKey savedKey = transactionTemplate.execute(status -> {
+            recordBlockchainTransaction(blockchainTxHash, "CCTV_KEY_ISSUANCE");
+            DecryptionKey key = createAndSaveDecryptionKey(userId, encryptedKey, keyHash, blockchainTxHash, accessToken);
+            adminDashboardCounters.keyIssued();
+            return key;
+        });
 
         log.info("새로운 키 발급 완료: keyId={}, blockchainTxHash={}", savedKey.getId(), blockchainTxHash);
         return decryptionKeyMapper.toKeyIssuanceResponse(savedKey, accessToken);
@@ -168,7 +186,7 @@ public class DecryptionServiceImpl implements DecryptionService {
     @Override
     @Transactional
     public KeyVerificationResponseDto verifyKey(KeyVerificationRequestDto requestDto, Long userId) {
-        log.info("키 검증 요청: userId={}, accessToken={}", userId, requestDto.getAccessToken());
+        log.debug("키 검증 요청: userId={}", userId);
         
         // 키 검증
         DecryptionKey decryptionKey = findKeyByAccessToken(requestDto.getAccessToken());
@@ -186,7 +204,7 @@ public class DecryptionServiceImpl implements DecryptionService {
         updateKeyUsage(decryptionKey);
         
         // 복호화 토큰 생성
-        String decryptionToken = generateDecryptionToken();
+        String decryptionToken = generateDecryptionToken(decryptionKey, requestDto.getCameraId());
         
         log.info("키 검증 성공: keyId={}, remainingUses={}", decryptionKey.getId(), decryptionKey.getRemainingUses());
         
@@ -215,8 +233,7 @@ public class DecryptionServiceImpl implements DecryptionService {
     @Override
     @Transactional
     public KeyVerificationResponseDto verifyKeyByUserIdAndToken(KeyVerificationRequestDto requestDto, Long userId) {
-        log.info("사용자 ID+접근 토큰+카메라 ID 키 검증 요청: userId={}, accessToken={}, cameraId={}", 
-                userId, requestDto.getAccessToken(), requestDto.getCameraId());
+        log.debug("사용자 ID+접근 토큰+카메라 ID 키 검증 요청: userId={}, cameraId={}", userId, requestDto.getCameraId());
         
         // MODERATOR 또는 ADMIN 권한 검증
         User user = userRepository.findById(userId)
@@ -244,7 +261,7 @@ public class DecryptionServiceImpl implements DecryptionService {
         updateKeyUsage(decryptionKey);
         
         // 5. 복호화 토큰 생성
-        String decryptionToken = generateDecryptionToken();
+        String decryptionToken = generateDecryptionToken(decryptionKey, requestDto.getCameraId());
         
         log.info("키 검증 성공: keyId={}, userId={}, cameraId={}, remainingUses={}", 
                 decryptionKey.getId(), userId, requestDto.getCameraId(), decryptionKey.getRemainingUses());
@@ -257,8 +274,20 @@ public class DecryptionServiceImpl implements DecryptionService {
     @Override
     @Transactional
     public KeyVerificationResponseDto verifyKeyByToken(KeyVerificationRequestDto requestDto) {
-        log.info("사용자 ID+접근 토큰+카메라 ID 키 검증 요청: accessToken={}, cameraId={}",
-                requestDto.getAccessToken(), requestDto.getCameraId());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            KeyVerificationResponseDto response = verifyKeyByTokenInternal(requestDto);
+            outcome = response.isValid() ? "valid" : "invalid";
+            return response;
+        } finally {
+            // 트랜잭션 커밋 시간은 포함하지 않음 (요청 전체 시간은 http.server.requests)
+            sample.stop(meterRegistry.timer("safeview.decryption.verify", "outcome", outcome));
+        }
+    }
+
+    private KeyVerificationResponseDto verifyKeyByTokenInternal(KeyVerificationRequestDto requestDto) {
+        log.debug("접근 토큰+카메라 ID 키 검증 요청: cameraId={}", requestDto.getCameraId());
 
         // 1. 접근 토큰으로키 조회
         DecryptionKey decryptionKey = findKeyByAccessToken(requestDto.getAccessToken());
@@ -278,7 +307,7 @@ public class DecryptionServiceImpl implements DecryptionService {
         updateKeyUsage(decryptionKey);
 
         // 5. 복호화 토큰 생성
-        String decryptionToken = generateDecryptionToken();
+        String decryptionToken = generateDecryptionToken(decryptionKey, requestDto.getCameraId());
 
         log.info("키 검증 성공: keyId={}, cameraId={}, remainingUses={}",
                 decryptionKey.getId(), requestDto.getCameraId(), decryptionKey.getRemainingUses());
@@ -297,14 +326,14 @@ public class DecryptionServiceImpl implements DecryptionService {
      * 처리 과정:
      * 1. 접근 토큰으로 키 조회
      * 2. 키 취소 권한 검증
-     * 3. 블록체인에서 키 취소
-     * 4. 키 상태를 REVOKED로 변경
+     * 3. 블록체인에서 키 취소 (트랜잭션 밖)
+     * 4. 키 상태를 REVOKED로 변경하고 블록체인 트랜잭션 저장 (단일 트랜잭션)
      * 
      * 보안: 키 소유자 권한 확인
      * 감사: 블록체인 트랜잭션 기록
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void revokeKey(KeyRevocationRequestDto requestDto, Long userId) {
         log.info("키 취소 요청: accessToken={}, userId={}", requestDto.getAccessToken(), userId);
 
@@ -319,8 +348,16 @@ public class DecryptionServiceImpl implements DecryptionService {
         DecryptionKey decryptionKey = findKeyByAccessToken(requestDto.getAccessToken());
         validateKeyRevocation(decryptionKey, userId);
 
+        // 만료/소진된 키는 이미 유효한 키 수에서 빠져 있음
+        boolean wasValid = isKeyValid(decryptionKey);
         String blockchainTxHash = revokeKeyOnBlockchain(decryptionKey.getKeyHash(), userId);
-        updateKeyStatus(decryptionKey, "REVOKED", requestDto.getRevocationReason());
+        transactionTemplate.executeWithoutResult(status -> {
+            recordBlockchainTransaction(blockchainTxHash, "KEY_REVOCATION");
+            updateKeyStatus(decryptionKey, "REVOKED", requestDto.getRevocationReason());
+            if (wasValid) {
+                adminDashboardCounters.keyDeactivated();
+            }
+        });
 
         log.info("키 취소 완료: keyId={}, blockchainTxHash={}", decryptionKey.getId(), blockchainTxHash);
     }
@@ -346,16 +383,12 @@ public class DecryptionServiceImpl implements DecryptionService {
      * 
      * @return 생성된 키 (Base64 인코딩)
      * 
-     * 기능: SecureRandom을 사용하여 암호학적으로 안전한 키 생성
+     * 기능: 스레드별로 재사용하는 DRBG(CryptoUtil)로 암호학적으로 안전한 키 생성
      * 보안: 설정된 키 크기만큼의 랜덤 바이트 생성
      */
     @Override
     public String generateCCTVDecryptionKey() {
-        SecureRandom secureRandom = new SecureRandom();
-        int keySize = decryptionConfig.getKey().getSize();
-        byte[] keyBytes = new byte[keySize];
-        secureRandom.nextBytes(keyBytes);
-        return java.util.Base64.getEncoder().encodeToString(keyBytes);
+        return cryptoUtil.randomBase64(decryptionConfig.getKey().getSize());
     }
 
     /**
@@ -364,18 +397,12 @@ public class DecryptionServiceImpl implements DecryptionService {
      * @param rawKey 원본 키
      * @return 키 해시 (Base64 인코딩)
      * 
-     * 기능: SHA-256 해시 알고리즘을 사용하여 키의 해시값 생성
+     * 기능: 스레드별로 재사용하는 SHA-256 MessageDigest로 키의 해시값 생성
      * 보안: 키의 무결성 검증을 위한 해시 생성
      */
     @Override
     public String generateKeyHash(String rawKey) {
-        try {
-            java.security.MessageDigest digest = java.security.MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(rawKey.getBytes("UTF-8"));
-            return java.util.Base64.getEncoder().encodeToString(hash);
-        } catch (Exception e) {
-            throw new RuntimeException("키 해시 생성 실패", e);
-        }
+        return cryptoUtil.sha256Base64(rawKey);
     }
 
     @Override
@@ -383,24 +410,20 @@ public class DecryptionServiceImpl implements DecryptionService {
         return java.util.Base64.getEncoder().encodeToString(rawKey.getBytes());
     }
 
+    /*
+     * 접근 토큰 생성 (URL-safe Base64, 패딩 없음)
+     */
     @Override
     public String generateSecureToken() {
-        SecureRandom secureRandom = new SecureRandom();
-        int tokenSize = decryptionConfig.getSecurity().getTokenSize();
-        byte[] tokenBytes = new byte[tokenSize];
-        secureRandom.nextBytes(tokenBytes);
-        return java.util.Base64.getEncoder().encodeToString(tokenBytes);
+        return cryptoUtil.randomUrlSafe(decryptionConfig.getSecurity().getTokenSize());
     }
 
-
-
+    /*
+     * 복호화 토큰 생성 (키 ID, 카메라 ID, 만료, 권한 범위를 담은 Ed25519 서명 토큰)
+     */
     @Override
-    public String generateDecryptionToken() {
-        SecureRandom secureRandom = new SecureRandom();
-        int tokenSize = decryptionConfig.getSecurity().getTokenSize();
-        byte[] tokenBytes = new byte[tokenSize];
-        secureRandom.nextBytes(tokenBytes);
-        return java.util.Base64.getEncoder().encodeToString(tokenBytes);
+    public String generateDecryptionToken(DecryptionKey decryptionKey, String cameraId) {
+        return decryptionTokenSigner.sign(decryptionKey.getId(), cameraId, decryptionKey.getExpiresAt());
     }
 
     @Override
@@ -455,7 +478,7 @@ public class DecryptionServiceImpl implements DecryptionService {
         
         // 3. 카메라 ID 검증 (선택적 - 향후 카메라별 권한 관리 가능)
         if (requestDto.getCameraId() != null && !requestDto.getCameraId().isEmpty()) {
-            log.info("카메라 ID 검증: cameraId={}", requestDto.getCameraId());
+            log.debug("카메라 ID 검증: cameraId={}", requestDto.getCameraId());
         }
         
         // 4. 키 상태 확인 (활성 + 만료 + 사용횟수)
@@ -474,7 +497,7 @@ public class DecryptionServiceImpl implements DecryptionService {
 
         // 2. 카메라 ID 검증
         if(requestDto.getCameraId() != null && !requestDto.getCameraId().isEmpty()) {
-            log.info("카메라 ID 검증: cameraId={}", requestDto.getCameraId());
+            log.debug("카메라 ID 검증: cameraId={}", requestDto.getCameraId());
         }
 
         // 3. 키 상태 확인 (활성 + 만료 + 사용횟수)
@@ -523,8 +546,13 @@ public class DecryptionServiceImpl implements DecryptionService {
     @Override
     @Transactional
     public void updateKeyUsage(DecryptionKey decryptionKey) {
+        boolean hadRemainingUses = hasRemainingUses(decryptionKey);
         decryptionKey.decrementRemainingUses();
         decryptionKeyRepository.save(decryptionKey);
+        // 마지막 사용으로 소진된 키는 유효한 키 수에서 제외
+        if (hadRemainingUses && !hasRemainingUses(decryptionKey)) {
+            adminDashboardCounters.keyDeactivated();
+        }
     }
 
     @Override
@@ -588,11 +616,11 @@ public class DecryptionServiceImpl implements DecryptionService {
      * 감사: 트랜잭션 이력 저장
      */
     private String registerKeyOnBlockchain(String keyHash, Long userId) {
-        log.info("블록체인 설정 확인: enabled={}", decryptionConfig.getBlockchain().isEnabled());
+        log.debug("블록체인 설정 확인: enabled={}", decryptionConfig.getBlockchain().isEnabled());
         
         if (!decryptionConfig.getBlockchain().isEnabled()) {
             log.warn("블록체인이 비활성화되어 있습니다. 키 등록을 건너뜁니다.");
-            return "BLOCKCHAIN_DISABLED";
+            return BLOCKCHAIN_DISABLED;
         }
         
         log.info("블록체인에 키 등록: keyHash={}, userId={}", keyHash, userId);
@@ -602,21 +630,17 @@ public class DecryptionServiceImpl implements DecryptionService {
         Integer remainingUses = decryptionConfig.getKey().getDefaultUses();
         String keyType = decryptionConfig.getKey().getType();
         
-        String blockchainTxHash = blockchainService.registerKey(keyHash, userId, expiresAt, remainingUses, keyType);
-        saveBlockchainTransaction(blockchainTxHash, "CCTV_KEY_ISSUANCE");
-        return blockchainTxHash;
+        return blockchainService.registerKey(keyHash, userId, expiresAt, remainingUses, keyType);
     }
 
     private String revokeKeyOnBlockchain(String keyHash, Long userId) {
         if (!decryptionConfig.getBlockchain().isEnabled()) {
             log.warn("블록체인이 비활성화되어 있습니다. 키 취소를 건너뜁니다.");
-            return "BLOCKCHAIN_DISABLED";
+            return BLOCKCHAIN_DISABLED;
         }
         
         log.info("블록체인에서 키 취소: keyHash={}, userId={}", keyHash, userId);
-        String blockchainTxHash = blockchainService.revokeKey(keyHash, userId);
-        saveBlockchainTransaction(blockchainTxHash, "KEY_REVOCATION");
-        return blockchainTxHash;
+        return blockchainService.revokeKey(keyHash, userId);
     }
 
     private boolean isKeyValidOnBlockchain(DecryptionKey decryptionKey) {
@@ -627,13 +651,23 @@ public class DecryptionServiceImpl implements DecryptionService {
         
         // 블록체인에서 키 유효성 직접 확인
         boolean isValid = blockchainService.isKeyValid(decryptionKey.getKeyHash());
-        log.info("블록체인 키 유효성 확인: keyHash={}, isValid={}", decryptionKey.getKeyHash(), isValid);
+        log.debug("블록체인 키 유효성 확인: keyHash={}, isValid={}", decryptionKey.getKeyHash(), isValid);
         return isValid;
     }
 
+    /*
+     * 블록체인 트랜잭션 이력 저장 (블록체인 비활성화로 호출을 건너뛴 경우 제외)
+     */
+    private void recordBlockchainTransaction(String txHash, String txType) {
+        if (!BLOCKCHAIN_DISABLED.equals(txHash)) {
+            saveBlockchainTransaction(txHash, txType);
+        }
+    }
+
     private void saveBlockchainTransaction(String txHash, String txType) {
         BlockchainTransaction transaction = decryptionKeyMapper.createBlockchainTransaction(txHash, txType);
         blockchainTransactionRepository.save(transaction);
+        adminDashboardCounters.blockchainTransactionRecorded(transaction.getStatus());
     }
 
     private BlockchainTransaction findTransactionByHash(String txHash) {
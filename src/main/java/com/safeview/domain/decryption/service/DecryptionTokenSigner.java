@@ -0,0 +1,173 @@
+package com.safeview.domain.decryption.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safeview.domain.decryption.config.DecryptionConfig;
+import com.safeview.global.util.CryptoUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 복호화 토큰 서명기
+ *
+ * 키 검증 성공 시 발급하는 복호화 토큰을 Ed25519로 서명한 JWT(JWS Compact, alg=EdDSA)로 생성합니다.
+ * AI 서버는 공개키(JWKS: GET /api/decryption/token-keys)로 토큰을 직접 검증할 수 있으므로
+ * 새 세션마다 /keys/verify/ai를 다시 호출할 필요가 없습니다.
+ *
+ * 토큰 클레임
+ * - iss: 발급자, sub: 복호화 키 ID, cam: 카메라 ID, scope: 권한 범위
+ * - iat / exp: 발급 / 만료 시각 (초, 만료는 키 만료 시각을 넘지 않음)
+ * - jti: 토큰 ID
+ *
+ * 설정: cctv.decryption.token (키 미설정 시 기동 실패, dev/local/test/loadtest 프로필에서만 임시 키 쌍 생성)
+ */
+@Slf4j
+@Component
+public class DecryptionTokenSigner {
+
+    private static final String ALGORITHM = "Ed25519";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    /*
+     * 서명 키가 없을 때 임시 키 쌍으로 기동을 허용하는 프로필 (재기동하면 이전 토큰은 검증 불가)
+     */
+    private static final Profiles TEMPORARY_KEY_PROFILES = Profiles.of("dev", "local", "test", "loadtest");
+
+    /*
+     * X.509 SubjectPublicKeyInfo 인코딩에서 Ed25519 원시 공개키(32바이트) 앞에 붙는 고정 접두사 길이
+     */
+    private static final int X509_PREFIX_LENGTH = 12;
+
+    private final DecryptionConfig.TokenConfig config;
+    private final ObjectMapper objectMapper;
+    private final CryptoUtil cryptoUtil;
+    private final PrivateKey privateKey;
+    private final PublicKey publicKey;
+    private final String keyId;
+    private final String encodedHeader;
+
+    public DecryptionTokenSigner(DecryptionConfig decryptionConfig, ObjectMapper objectMapper, CryptoUtil cryptoUtil,
+                                 Environment environment) {
+        this.config = decryptionConfig.getToken();
+        this.objectMapper = objectMapper;
+        this.cryptoUtil = cryptoUtil;
+
+        KeyPair keyPair = loadOrGenerateKeyPair(config, environment.acceptsProfiles(TEMPORARY_KEY_PROFILES));
+        this.privateKey = keyPair.getPrivate();
+        this.publicKey = keyPair.getPublic();
+        this.keyId = cryptoUtil.sha256Base64(BASE64_URL.encodeToString(publicKey.getEncoded()))
+                .substring(0, 16).replace('+', '-').replace('/', '_');
+
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "EdDSA");
+        header.put("typ", "JWT");
+        header.put("kid", keyId);
+        this.encodedHeader = encodeJson(header);
+    }
+
+    /**
+     * 복호화 토큰 서명
+     *
+     * @param decryptionKeyId 복호화 키 ID
+     * @param cameraId 카메라 ID
+     * @param keyExpiresAt 복호화 키 만료 시각 (토큰 만료 시각 상한)
+     * @return 서명된 토큰 (header.payload.signature)
+     */
+    public String sign(Long decryptionKeyId, String cameraId, LocalDateTime keyExpiresAt) {
+        long now = Instant.now().getEpochSecond();
+        long expiresAt = now + config.getTtlSeconds();
+        if (keyExpiresAt != null) {
+            expiresAt = Math.min(expiresAt, keyExpiresAt.atZone(ZoneId.systemDefault()).toEpochSecond());
+        }
+
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", config.getIssuer());
+        claims.put("sub", String.valueOf(decryptionKeyId));
+        claims.put("cam", cameraId);
+        claims.put("scope", config.getScope());
+        claims.put("iat", now);
+        claims.put("exp", expiresAt);
+        claims.put("jti", cryptoUtil.randomUrlSafe(16));
+
+        String signingInput = encodedHeader + "." + encodeJson(claims);
+        return signingInput + "." + BASE64_URL.encodeToString(sign(signingInput.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * 토큰 검증용 공개키 목록 (JWKS, RFC 8037 OKP 형식)
+     */
+    public Map<String, Object> jwks() {
+        byte[] encoded = publicKey.getEncoded();
+        byte[] raw = Arrays.copyOfRange(encoded, X509_PREFIX_LENGTH, encoded.length);
+
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "OKP");
+        jwk.put("crv", "Ed25519");
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", "EdDSA");
+        jwk.put("x", BASE64_URL.encodeToString(raw));
+        return Map.of("keys", List.of(jwk));
+    }
+
+    private byte[] sign(byte[] signingInput) {
+        try {
+            Signature signer = Signature.getInstance(ALGORITHM);
+            signer.initSign(privateKey);
+            signer.update(signingInput);
+            return signer.sign();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("복호화 토큰 서명 실패", e);
+        }
+    }
+
+    private String encodeJson(Map<String, Object> value) {
+        try {
+            return BASE64_URL.encodeToString(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("복호화 토큰 직렬화 실패", e);
+        }
+    }
+
+    private static KeyPair loadOrGenerateKeyPair(DecryptionConfig.TokenConfig config, boolean temporaryKeyAllowed) {
+        try {
+            if (config.getPrivateKey().isBlank() || config.getPublicKey().isBlank()) {
+                if (!temporaryKeyAllowed) {
+                    throw new IllegalStateException(
+                            "복호화 토큰 서명 키가 설정되지 않았습니다. (cctv.decryption.token.private-key/public-key)");
+                }
+                log.warn("복호화 토큰 서명 키가 설정되지 않아 임시 키 쌍을 생성합니다. (cctv.decryption.token.private-key/public-key)");
+                return KeyPairGenerator.getInstance(ALGORITHM).generateKeyPair();
+            }
+            KeyFactory keyFactory = KeyFactory.getInstance(ALGORITHM);
+            PrivateKey privateKey = keyFactory.generatePrivate(
+                    new PKCS8EncodedKeySpec(Base64.getDecoder().decode(config.getPrivateKey())));
+            PublicKey publicKey = keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(config.getPublicKey())));
+            return new KeyPair(publicKey, privateKey);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("복호화 토큰 서명 키를 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.safeview.domain.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * 이메일 비동기 발송 설정 클래스
+ *
+ * 이메일 발송 큐와 발송 워커 관련 설정을 관리하는 클래스
+ * 큐 크기, 워커 수, 재시도 횟수 및 백오프 간격을 포함
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "email.dispatch")
+public class EmailDispatchConfig {
+
+    /**
+     * 발송 대기 큐 최대 크기 (초과 시 즉시 실패)
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * 발송 워커 수 (워커마다 SMTP 연결 1개 유지)
+     */
+    private int workers = 2;
+
+    /**
+     * 최대 발송 시도 횟수 (최초 시도 포함)
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 재시도 최초 대기 시간 (밀리초, 시도마다 2배 증가)
+     */
+    private long initialBackoffMs = 500;
+
+    /**
+     * 재시도 최대 대기 시간 (밀리초)
+     */
+    private long maxBackoffMs = 10000;
+
+    /**
+     * 종료 시 남은 메일 발송 대기 시간 (밀리초)
+     */
+    private long shutdownTimeoutMs = 10000;
+}
@@ -0,0 +1,49 @@
+package com.safeview.domain.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * 이메일 인증번호 저장소 설정 클래스
+ *
+ * 인증번호 및 인증 완료 상태의 유효 시간과 저장 개수 상한을 관리하는 클래스
+ * 저장소 종류와 만료 항목 정리 주기를 포함
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "email.verification")
+public class EmailVerificationConfig {
+
+    /**
+     * 저장소 종류 (memory: 단일 인스턴스, jdbc: 여러 인스턴스 공유)
+     */
+    private String store = "memory";
+
+    /**
+     * 인증번호 유효 시간 (초)
+     */
+    private long codeTtlSeconds = 300;
+
+    /**
+     * 인증 완료 상태 유지 시간 (초)
+     */
+    private long verifiedTtlSeconds = 1800;
+
+    /**
+     * 저장 항목 최대 개수 (인증번호, 인증 완료 각각 적용, 초과 시 오래된 항목부터 제거)
+     */
+    private int maxEntries = 100000;
+
+    /**
+     * 만료 항목 정리 주기 (밀리초)
+     */
+    private long sweepIntervalMs = 30000;
+
+    /**
+     * 만료 항목 1회 삭제 개수 (jdbc 저장소)
+     */
+    private int purgeBatchSize = 1000;
+}
@@ -0,0 +1,34 @@
+package com.safeview.domain.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * 가입 이메일 필터 설정 클래스
+ *
+ * 이메일 중복 확인에 사용하는 가입 이메일 블룸 필터의 크기와 동기화 주기를 관리하는 클래스
+ * 예상 가입자 수, 목표 오탐률, 다른 인스턴스 가입 반영 주기를 포함
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "email.registered-filter")
+public class RegisteredEmailFilterConfig {
+
+    /**
+     * 예상 가입자 수 (초과 시 두 배 크기로 재구성)
+     */
+    private long expectedEmails = 100000;
+
+    /**
+     * 목표 오탐률 (오탐 시에만 DB 조회)
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * 다른 인스턴스의 가입 반영 주기 (밀리초)
+     */
+    private long syncIntervalMs = 5000;
+}
@@ -9,6 +9,7 @@ import com.safeview.domain.user.dto.TempPasswordResponseDto;
 import com.safeview.domain.user.dto.EmailVerificationRequestDto;
 import com.safeview.domain.user.dto.EmailVerificationDto;
 import com.safeview.domain.user.dto.EmailVerificationResponseDto;
+import com.safeview.domain.user.service.UserProfileCache;
 import com.safeview.domain.user.service.UserService;
 import com.safeview.domain.user.dto.UserInfoResponseDto;
 import com.safeview.global.exception.ApiException;
@@ -19,6 +20,10 @@ import com.safeview.global.response.SuccessCode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -43,6 +48,7 @@ public class UserController {
 
 
     private final UserService userService;
+    private final UserProfileCache userProfileCache;
 
     /**
      * 회원가입
@@ -78,16 +84,15 @@ public class UserController {
      * 
      * 처리 과정:
      * 1. 이메일 형식 검증
-     * 2. 데이터베이스에서 이메일 중복 확인
-     * 3. 사용 가능 여부 반환
+     * 2. 가입 이메일 필터 확인 (양성일 때만 데이터베이스 재확인)
+     * 3. 사용 가능하면 200, 이미 가입된 이메일이면 409 (EMAIL_ALREADY_EXISTS, available=false)
      * 
+     * 입력 중 반복 호출되므로 중복 응답은 예외 없이 바로 생성
      * 보안: 이메일 형식 검증
      * 예외: 유효하지 않은 이메일 형식
      */
     @GetMapping("/check-email")
-    public ApiResponse<EmailCheckResponseDto> checkEmail(@RequestParam String email) {
-        log.info("이메일 중복 확인 요청: email={}", email);
-        
+    public ResponseEntity<ApiResponse<EmailCheckResponseDto>> checkEmail(@RequestParam String email) {
         // 이메일 검증
         if (email == null || email.trim().isEmpty()) {
             throw new ApiException(ErrorCode.BAD_REQUEST, "이메일을 입력해주세요.");
@@ -95,25 +100,34 @@ public class UserController {
         
         EmailCheckResponseDto response = userService.checkEmail(email);
         
-        log.info("이메일 중복 확인 완료: email={}, available={}", email, response.isAvailable());
-        return ApiResponse.onSuccessWithMessage(response, "사용가능한 이메일입니다.");
+        // 입력 중 반복 호출되는 엔드포인트이므로 DEBUG로만 남기고 이메일 주소는 기록하지 않음
+        log.debug("이메일 중복 확인 완료: available={}", response.isAvailable());
+        if (!response.isAvailable()) {
+            return ResponseEntity.status(ErrorCode.EMAIL_ALREADY_EXISTS.getHttpStatus())
+                    .body(ApiResponse.onFailure(ErrorCode.EMAIL_ALREADY_EXISTS, response));
+        }
+        return ResponseEntity.ok(ApiResponse.onSuccessWithMessage(response, "사용가능한 이메일입니다."));
     }
 
     /**
      * 현재 로그인한 사용자 정보 조회
      * 
      * @param userId 인증된 사용자 ID
-     * @return 현재 사용자의 상세 정보
+     * @param ifNoneMatch 클라이언트가 가진 응답의 ETag (If-None-Match)
+     * @return 현재 사용자의 상세 정보 (ETag 일치 시 본문 없는 304)
      * 
      * 처리 과정:
      * 1. JWT 필터에서 인증된 사용자 ID 자동 주입
-     * 2. 사용자 정보 조회 및 반환
+     * 2. 응답 캐시 조회 (미적중 시에만 사용자 정보 조회 및 직렬화)
+     * 3. If-None-Match가 ETag와 같으면 304, 아니면 직렬화된 본문 반환
      * 
-     * 보안: JWT 필터에서 이미 인증 검증 완료
+     * 보안: JWT 필터에서 이미 인증 검증 완료, 사용자별 응답이므로 Cache-Control: private
      * 예외: 존재하지 않는 사용자
      */
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<UserInfoResponseDto>> getMyInfo(@AuthenticationPrincipal Long userId) {
+    public ResponseEntity<byte[]> getMyInfo(
+            @AuthenticationPrincipal Long userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("사용자 정보 조회 요청: userId={}", userId);
         
         // 사용자 ID 검증
@@ -121,10 +135,23 @@ public class UserController {
             throw new ApiException(ErrorCode.UNAUTHORIZED, "유효하지 않은 사용자 정보입니다.");
         }
         
-        UserInfoResponseDto userInfo = userService.getUserInfoById(userId);
+        UserProfileCache.Profile profile = userProfileCache.get(userId, userService::getUserInfoById);
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+        if (profile.matches(ifNoneMatch)) {
+            log.info("사용자 정보 변경 없음: userId={}", userId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(profile.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
 
         log.info("사용자 정보 조회 완료: userId={}", userId);
-        return ApiResponse.toResponseEntity(SuccessCode.OK, userInfo);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(profile.etag())
+                .cacheControl(cacheControl)
+                .body(profile.body());
     }
 
     /**
@@ -0,0 +1,49 @@
+package com.safeview.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+ * 이메일 인증 엔티티
+ *
+ * 여러 인스턴스가 공유하는 이메일 인증번호 및 인증 완료 상태
+ * 이메일(기본키)로 조회하며, 만료 시각 인덱스로 만료 항목을 일괄 삭제
+ * 발급/인증 처리는 EmailVerificationRepository의 쿼리로만 기록 (엔티티를 직접 저장하지 않음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "email_verifications", indexes = {
+        @Index(name = "idx_email_verifications_expires_at", columnList = "expires_at")
+})
+public class EmailVerification {
+
+    /*
+     * 이메일 주소 (기본키)
+     */
+    @Id
+    @Column(name = "email", length = 50)
+    private String email;
+
+    /*
+     * 인증번호 (인증 완료 후 null)
+     */
+    @Column(name = "code", length = 10)
+    private String code;
+
+    /*
+     * 인증 완료 여부
+     */
+    @Column(name = "verified", nullable = false)
+    private boolean verified;
+
+    /*
+     * 만료 시각 (인증 전: 인증번호 만료, 인증 후: 인증 상태 만료)
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
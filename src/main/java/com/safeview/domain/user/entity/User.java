@@ -6,20 +6,40 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import java.util.regex.Pattern;
 
 /*
  * 사용자 엔티티
  * 
  * 시스템의 사용자 정보를 관리하는 엔티티
  * 이메일, 비밀번호, 개인정보, 역할 등을 포함
+ * 2차 캐시 대상 (ID, 이메일 조회 모두 캐시 사용, EntityCacheConfig 참고)
  */
 @Entity
 @Getter
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = User.PHONE_UNIQUE_CONSTRAINT, columnNames = "phone")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 public class User extends BaseEntity {
 
+    /*
+     * 고유 제약조건 이름 (중복 INSERT/UPDATE 시 어떤 값이 중복인지 구분하는 데 사용)
+     */
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+    public static final String PHONE_UNIQUE_CONSTRAINT = "uk_users_phone";
+
+    private static final Pattern PHONE_SEPARATORS = Pattern.compile("[\\s-]");
+
     /*
      * 사용자 ID (기본키)
      */
@@ -29,9 +49,10 @@ public class User extends BaseEntity {
     private Long id;
 
     /*
-     * 이메일 주소 (고유값)
+     * 이메일 주소 (고유값, 자연 키이므로 변경 불가)
      */
-    @Column(name = "email", nullable = false, unique = true, length = 50)
+    @NaturalId
+    @Column(name = "email", nullable = false, length = 50)
     private String email;
 
     /*
@@ -53,9 +74,9 @@ public class User extends BaseEntity {
     private String address;
 
     /*
-     * 전화번호 (고유값)
+     * 전화번호 (고유값, 하이픈/공백을 제거한 숫자만 저장)
      */
-    @Column(name = "phone", nullable = false, unique = true)
+    @Column(name = "phone", nullable = false)
     private String phone;
 
     /*
@@ -87,7 +108,7 @@ public class User extends BaseEntity {
                 .password(password)
                 .name(name)
                 .address(address)
-                .phone(phone)
+                .phone(normalizePhone(phone))
                 .gender(gender)
                 .birthday(birthday)
                 .role(Role.USER)
@@ -103,7 +124,7 @@ public class User extends BaseEntity {
                 .password(password)
                 .name(name)
                 .address(address)
-                .phone(phone)
+                .phone(normalizePhone(phone))
                 .gender(gender)
                 .birthday(birthday)
                 .role(Role.ADMIN)
@@ -119,7 +140,7 @@ public class User extends BaseEntity {
                 .password(password)
                 .name(name)
                 .address(address)
-                .phone(phone)
+                .phone(normalizePhone(phone))
                 .gender(gender)
                 .birthday(birthday)
                 .role(Role.MODERATOR)
@@ -140,7 +161,7 @@ public class User extends BaseEntity {
         this.password = password;
         this.name = name;
         this.address = address;
-        this.phone = phone;
+        this.phone = normalizePhone(phone);
         this.gender = gender;
         this.birthday = birthday;
     }
@@ -151,4 +172,11 @@ public class User extends BaseEntity {
     public void updatePassword(String password) {
         this.password = password;
     }
+
+    /*
+     * 전화번호 정규화 (010-1234-5678, 010 1234 5678 -> 01012345678)
+     */
+    public static String normalizePhone(String phone) {
+        return phone == null ? null : PHONE_SEPARATORS.matcher(phone).replaceAll("");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.safeview.domain.user.repository;
+
+import com.safeview.domain.user.entity.EmailVerification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailVerificationRepository extends JpaRepository<EmailVerification, String> {
+
+    // 인증번호 발급/재발급 (행이 없으면 INSERT, 있으면 갱신하는 단일 문장, 동시 발급에도 중복 키 오류 없음)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO email_verifications (email, code, verified, expires_at) VALUES (:email, :code, false, :expiresAt) " +
+            "ON DUPLICATE KEY UPDATE code = VALUES(code), verified = false, expires_at = VALUES(expires_at)", nativeQuery = true)
+    int upsert(@Param("email") String email, @Param("code") String code, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 인증번호 일치 및 미만료 시 인증 완료 처리 (조건부 갱신으로 1회 사용 보장)
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailVerification v SET v.code = null, v.verified = true, v.expiresAt = :verifiedUntil " +
+            "WHERE v.email = :email AND v.code = :code AND v.verified = false AND v.expiresAt > :now")
+    int markVerified(@Param("email") String email, @Param("code") String code,
+                     @Param("now") LocalDateTime now, @Param("verifiedUntil") LocalDateTime verifiedUntil);
+
+    // 인증 완료 상태 유효 여부
+    boolean existsByEmailAndVerifiedTrueAndExpiresAtAfter(String email, LocalDateTime now);
+
+    // 만료된 이메일 조회 (expires_at 인덱스 사용, 일괄 삭제용)
+    @Query("SELECT v.email FROM EmailVerification v WHERE v.expiresAt <= :now ORDER BY v.expiresAt")
+    List<String> findExpiredEmails(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 만료 항목 일괄 삭제 (조회 이후 갱신된 항목은 제외)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailVerification v WHERE v.email IN :emails AND v.expiresAt <= :now")
+    int deleteExpired(@Param("emails") List<String> emails, @Param("now") LocalDateTime now);
+}
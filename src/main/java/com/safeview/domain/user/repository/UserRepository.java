@@ -1,12 +1,41 @@
 package com.safeview.domain.user.repository;
 
+import com.safeview.domain.user.entity.Role;
 import com.safeview.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
-    boolean existsByPhone(String phone);
-    boolean existsByPhoneAndIdNot(String phone, Long id);
-}
\ No newline at end of file
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
+
+    // 이메일 존재 여부 (엔티티를 읽지 않는 고유 인덱스 조회)
+    boolean existsByEmail(String email);
+
+    // 마지막으로 반영한 ID 이후 가입한 사용자의 이메일 (가입 이메일 필터 구성/동기화용, 기본키 범위 조회)
+    @Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<RegisteredEmail> findEmailsAfter(@Param("lastId") long lastId, Pageable pageable);
+
+    // 주어진 사용자 중 현재 역할이 role인 사용자 ID (역할 일괄 변경 대상 확인, 기본키 조회)
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.role = :role")
+    List<Long> findIdsByIdInAndRole(@Param("ids") Collection<Long> ids, @Param("role") Role role);
+
+    // 역할 일괄 변경 (UPDATE 한 번, 현재 역할이 from인 사용자만 변경, 변경 전 대기 중인 변경 사항을 먼저 반영)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.role = :to, u.updatedAt = :now WHERE u.id IN :ids AND u.role = :from")
+    int updateRoles(@Param("ids") Collection<Long> ids, @Param("from") Role from, @Param("to") Role to,
+                    @Param("now") LocalDateTime now);
+
+    /*
+     * 사용자 ID와 이메일 프로젝션
+     */
+    interface RegisteredEmail {
+        Long getId();
+        String getEmail();
+    }
+}
@@ -0,0 +1,16 @@
+package com.safeview.domain.user.repository;
+
+import com.safeview.domain.user.entity.User;
+
+import java.util.Optional;
+
+/*
+ * 사용자 리포지토리 직접 구현 메서드
+ */
+public interface UserRepositoryCustom {
+
+    /*
+     * 이메일(자연 키)로 사용자 조회 (자연 키 캐시와 엔티티 캐시를 거쳐 조회)
+     */
+    Optional<User> findByEmail(String email);
+}
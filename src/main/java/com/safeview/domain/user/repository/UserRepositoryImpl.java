@@ -0,0 +1,29 @@
+package com.safeview.domain.user.repository;
+
+import com.safeview.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/*
+ * 사용자 리포지토리 직접 구현
+ *
+ * 파생 쿼리(findByEmail)는 매번 SELECT를 실행하므로, 자연 키 조회로 바꿔 2차 캐시를 사용
+ * (email -> ID: 자연 키 캐시, ID -> 사용자: 엔티티 캐시, 캐시에 없을 때만 DB 조회)
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
@@ -0,0 +1,298 @@
+package com.safeview.domain.user.service;
+
+import com.safeview.domain.user.config.EmailDispatchConfig;
+import com.safeview.global.exception.ApiException;
+import com.safeview.global.response.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * 이메일 비동기 발송기
+ *
+ * 요청 스레드에서 SMTP 연결을 맺지 않도록 메일을 큐에 적재하고 워커가 발송합니다.
+ * - 크기가 제한된 발송 큐 (가득 차면 즉시 실패)
+ * - 워커별 SMTP Transport 연결 재사용
+ * - 지수 백오프 재시도 (잘못된 수신자 주소처럼 재시도해도 실패하는 오류는 즉시 실패 처리)
+ * - 메일 1건의 예상치 못한 오류는 해당 메일만 실패 처리하고 워커는 계속 동작
+ * - 큐 길이 및 발송 지연 통계
+ *
+ * 메트릭: 적재부터 발송 완료/최종 실패까지 시간(safeview.email.send, 태그 outcome)
+ */
+@Component
+@Slf4j
+public class EmailDispatcher {
+
+    private static final long POLL_TIMEOUT_MS = 500;
+
+    private final JavaMailSenderImpl mailSender;
+    private final EmailDispatchConfig dispatchConfig;
+    private final BlockingQueue<PendingMail> queue;
+    private final Timer sentTimer;
+    private final Timer failedTimer;
+
+    private ExecutorService workerPool;
+    private volatile boolean running;
+
+    // 발송 통계
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong connectionCount = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Long::max, 0);
+
+    public EmailDispatcher(JavaMailSenderImpl mailSender, EmailDispatchConfig dispatchConfig, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.dispatchConfig = dispatchConfig;
+        this.queue = new ArrayBlockingQueue<>(dispatchConfig.getQueueCapacity());
+        this.sentTimer = meterRegistry.timer("safeview.email.send", "outcome", "sent");
+        this.failedTimer = meterRegistry.timer("safeview.email.send", "outcome", "failed");
+    }
+
+    /*
+     * 발송 워커 시작
+     */
+    @PostConstruct
+    public void start() {
+        int workers = Math.max(1, dispatchConfig.getWorkers());
+        AtomicInteger sequence = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "mail-dispatch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::runWorker);
+        }
+        log.info("이메일 발송 워커 시작: workers={}, queueCapacity={}", workers, dispatchConfig.getQueueCapacity());
+    }
+
+    /*
+     * 발송 워커 종료 (남은 메일은 제한 시간 내에서 발송)
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (workerPool == null) {
+            return;
+        }
+        workerPool.shutdown();
+        try {
+            if (!workerPool.awaitTermination(dispatchConfig.getShutdownTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                workerPool.shutdownNow();
+                log.warn("이메일 발송 워커 강제 종료: 미발송={}", queue.size());
+            }
+        } catch (InterruptedException e) {
+            workerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 메일 발송 요청 적재
+     *
+     * @param recipient 수신자 이메일 (로그용)
+     * @param message 발송할 메시지
+     *
+     * 큐가 가득 찬 경우 대기하지 않고 EMAIL_QUEUE_FULL 예외를 발생시킵니다.
+     */
+    public void enqueue(String recipient, MimeMessage message) {
+        try {
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+        } catch (MessagingException e) {
+            log.error("이메일 메시지 준비 실패: {}", recipient, e);
+            throw new RuntimeException("이메일 발송에 실패했습니다.", e);
+        }
+
+        if (!queue.offer(new PendingMail(recipient, message, System.nanoTime()))) {
+            rejectedCount.incrementAndGet();
+            log.warn("이메일 발송 큐 포화: recipient={}, queueSize={}", recipient, queue.size());
+            throw new ApiException(ErrorCode.EMAIL_QUEUE_FULL);
+        }
+        enqueuedCount.incrementAndGet();
+    }
+
+    /*
+     * 워커 루프: 큐에서 메일을 꺼내 연결된 Transport로 발송
+     */
+    private void runWorker() {
+        Transport transport = null;
+        try {
+            while (running || !queue.isEmpty()) {
+                PendingMail mail = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (mail != null) {
+                    transport = deliver(mail, transport);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeQuietly(transport);
+        }
+    }
+
+    /*
+     * 메일 1건 발송 (실패 시 연결을 새로 맺고 백오프 후 재시도, 주소 거부와 예상치 못한 오류는 재시도하지 않음)
+     *
+     * @return 다음 발송에 재사용할 Transport (실패 시 null)
+     */
+    private Transport deliver(PendingMail mail, Transport transport) throws InterruptedException {
+        long backoffMs = dispatchConfig.getInitialBackoffMs();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (transport == null || !transport.isConnected()) {
+                    closeQuietly(transport);
+                    transport = connect();
+                }
+                transport.sendMessage(mail.message(), mail.message().getAllRecipients());
+
+                long latency = System.nanoTime() - mail.enqueuedAt();
+                sentCount.incrementAndGet();
+                totalLatencyNanos.addAndGet(latency);
+                maxLatencyNanos.accumulate(latency);
+                sentTimer.record(latency, TimeUnit.NANOSECONDS);
+                log.info("이메일 발송 완료: recipient={}, attempt={}, latencyMs={}",
+                        mail.recipient(), attempt, TimeUnit.NANOSECONDS.toMillis(latency));
+                return transport;
+            } catch (MessagingException e) {
+                if (isPermanentFailure(e)) {
+                    // 잘못된 수신자 주소는 재시도해도 실패하므로 즉시 실패 처리 (연결은 정상이므로 유지)
+                    recordFailure(mail);
+                    log.error("이메일 발송 실패 (잘못된 주소): recipient={}, attempt={}, error={}",
+                            mail.recipient(), attempt, e.getMessage());
+                    return transport;
+                }
+
+                closeQuietly(transport);
+                transport = null;
+
+                if (attempt >= dispatchConfig.getMaxAttempts()) {
+                    recordFailure(mail);
+                    log.error("이메일 발송 실패: recipient={}, attempts={}", mail.recipient(), attempt, e);
+                    return null;
+                }
+
+                retryCount.incrementAndGet();
+                log.warn("이메일 발송 재시도 예정: recipient={}, attempt={}, backoffMs={}, error={}",
+                        mail.recipient(), attempt, backoffMs, e.getMessage());
+                Thread.sleep(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, dispatchConfig.getMaxBackoffMs());
+            } catch (RuntimeException e) {
+                // 메시지 문제(주소 파싱, 본문 등)로 워커가 종료되지 않도록 해당 메일만 실패 처리
+                closeQuietly(transport);
+                recordFailure(mail);
+                log.error("이메일 발송 중 예상치 못한 오류: recipient={}", mail.recipient(), e);
+                return null;
+            }
+        }
+    }
+
+    /*
+     * 서버가 수신자 주소를 거부한 경우 (재시도해도 같은 결과)
+     */
+    private static boolean isPermanentFailure(MessagingException e) {
+        return e instanceof SendFailedException sendFailed
+                && sendFailed.getInvalidAddresses() != null
+                && sendFailed.getInvalidAddresses().length > 0;
+    }
+
+    private void recordFailure(PendingMail mail) {
+        failedCount.incrementAndGet();
+        failedTimer.record(System.nanoTime() - mail.enqueuedAt(), TimeUnit.NANOSECONDS);
+    }
+
+    private Transport connect() throws MessagingException {
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp";
+        Transport transport = mailSender.getSession().getTransport(protocol);
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        connectionCount.incrementAndGet();
+        return transport;
+    }
+
+    private void closeQuietly(Transport transport) {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    // ===== 발송 통계 =====
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    public long getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /*
+     * 적재부터 발송 완료까지 평균 지연 시간 (밀리초)
+     */
+    public double getAverageLatencyMs() {
+        long sent = sentCount.get();
+        return sent == 0 ? 0 : totalLatencyNanos.get() / (double) sent / 1_000_000;
+    }
+
+    /*
+     * 적재부터 발송 완료까지 최대 지연 시간 (밀리초)
+     */
+    public double getMaxLatencyMs() {
+        return maxLatencyNanos.get() / 1_000_000.0;
+    }
+
+    /*
+     * 발송 대기 메일
+     */
+    private record PendingMail(String recipient, MimeMessage message, long enqueuedAt) {
+    }
+}
@@ -6,6 +6,9 @@ package com.safeview.domain.user.service;
  * 이메일 발송 관련 기능을 담당합니다.
  * - 임시 비밀번호 발송
  * - 이메일 인증번호 발송
+ *
+ * 발송은 비동기로 처리되며, 메서드는 발송 큐 적재 후 즉시 반환합니다.
+ * 발송 큐가 가득 찬 경우 EMAIL_QUEUE_FULL 예외가 발생합니다.
  */
 public interface EmailService {
 
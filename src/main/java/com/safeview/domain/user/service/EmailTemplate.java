@@ -0,0 +1,153 @@
+package com.safeview.domain.user.service;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사전 컴파일된 이메일 템플릿
+ *
+ * 템플릿 원문을 한 번만 분석하여 고정 문자열 조각과 치환 위치로 나눠 둡니다.
+ * 렌더링 시에는 스레드별로 재사용하는 버퍼에 조각과 값을 순서대로 이어 붙입니다.
+ *
+ * 문법: {{name}} 형태의 치환자 (값은 HTML 이스케이프 후 삽입)
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private final String[] literals;
+    private final int[] slots;
+    private final List<String> placeholders;
+    private final int literalLength;
+
+    private EmailTemplate(String[] literals, int[] slots, List<String> placeholders) {
+        this.literals = literals;
+        this.slots = slots;
+        this.placeholders = List.copyOf(placeholders);
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 템플릿 컴파일
+     *
+     * @param source 템플릿 원문
+     * @return 컴파일된 템플릿
+     *
+     * 예외: 닫히지 않은 치환자, 비어 있는 치환자 이름
+     */
+    public static EmailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int cursor = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, cursor);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 템플릿 치환자가 있습니다. (위치: " + open + ")");
+            }
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("템플릿 치환자 이름이 비어 있습니다. (위치: " + open + ")");
+            }
+
+            int slot = placeholders.indexOf(name);
+            if (slot < 0) {
+                placeholders.add(name);
+                slot = placeholders.size() - 1;
+            }
+            literals.add(source.substring(cursor, open));
+            slots.add(slot);
+            cursor = close + CLOSE.length();
+        }
+        literals.add(source.substring(cursor));
+
+        return new EmailTemplate(
+                literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(),
+                placeholders);
+    }
+
+    /**
+     * 클래스패스 리소스에서 템플릿 로드 후 컴파일
+     *
+     * @param path 클래스패스 경로 (예: templates/email/verification-code.html)
+     * @return 컴파일된 템플릿
+     */
+    public static EmailTemplate load(String path) {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return compile(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("이메일 템플릿을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 템플릿 렌더링
+     *
+     * @param values 치환 값 (placeholders() 순서, 즉 템플릿 내 최초 등장 순서)
+     * @return 렌더링된 HTML
+     */
+    public String render(String... values) {
+        if (values.length != placeholders.size()) {
+            throw new IllegalArgumentException(
+                    "템플릿 치환 값 개수가 맞지 않습니다. 기대=" + placeholders.size() + ", 실제=" + values.length);
+        }
+
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(literalLength + 64);
+
+        for (int i = 0; i < slots.length; i++) {
+            buffer.append(literals[i]);
+            appendEscaped(buffer, values[slots[i]]);
+        }
+        buffer.append(literals[slots.length]);
+
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    public List<String> placeholders() {
+        return placeholders;
+    }
+
+    private static void appendEscaped(StringBuilder buffer, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> buffer.append("&lt;");
+                case '>' -> buffer.append("&gt;");
+                case '&' -> buffer.append("&amp;");
+                case '"' -> buffer.append("&quot;");
+                case '\'' -> buffer.append("&#39;");
+                default -> buffer.append(c);
+            }
+        }
+    }
+}
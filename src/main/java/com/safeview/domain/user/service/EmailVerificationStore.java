@@ -1,34 +1,25 @@
 package com.safeview.domain.user.service;
 
-import org.springframework.stereotype.Component;
-
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
- * 이메일 인증번호 저장소
+ * 이메일 인증번호 저장소 인터페이스
  *
- * 이메일 인증번호를 메모리에 임시 저장하는 컴포넌트
- * - 인증번호 발송 시 저장
- * - 인증번호 검증 시 조회 및 삭제
- * - 5분 후 자동 만료
- * - 인증 완료된 이메일 관리
+ * 이메일 인증번호와 인증 완료 상태를 임시 저장합니다.
+ * - memory: JVM 메모리 저장 (단일 인스턴스 배포용, 기본값)
+ * - jdbc: 데이터베이스 저장 (여러 인스턴스가 같은 인증 상태를 공유)
+ *
+ * 설정: email.verification.store
  */
-@Component
-public class EmailVerificationStore {
-
-    private final Map<String, VerificationData> verificationStore = new ConcurrentHashMap<>();
-    private final Map<String, Boolean> verifiedEmails = new ConcurrentHashMap<>();
+public interface EmailVerificationStore {
 
     /**
      * 인증번호 저장
      *
      * @param email 이메일 주소
      * @param code 인증번호
+     *
+     * 같은 이메일로 다시 저장하면 이전 인증번호는 무효화됩니다.
      */
-    public void storeVerificationCode(String email, String code) {
-        verificationStore.put(email, new VerificationData(code, System.currentTimeMillis()));
-    }
+    void storeVerificationCode(String email, String code);
 
     /**
      * 인증번호 검증
@@ -36,29 +27,10 @@ public class EmailVerificationStore {
      * @param email 이메일 주소
      * @param code 인증번호
      * @return 검증 성공 여부
+     *
+     * 성공한 인증번호는 즉시 삭제되어 재사용할 수 없습니다.
      */
-    public boolean verifyCode(String email, String code) {
-        VerificationData data = verificationStore.get(email);
-        if (data == null) {
-            return false;
-        }
-
-        // 5분(300초) 만료 확인
-        if (System.currentTimeMillis() - data.getTimestamp() > 300000) {
-            verificationStore.remove(email);
-            return false;
-        }
-
-        // 인증번호 일치 확인
-        if (data.getCode().equals(code)) {
-            verificationStore.remove(email);
-            // 인증 완료 표시
-            verifiedEmails.put(email, true);
-            return true;
-        }
-
-        return false;
-    }
+    boolean verifyCode(String email, String code);
 
     /**
      * 이메일 인증 완료 여부 확인
@@ -66,28 +38,5 @@ public class EmailVerificationStore {
      * @param email 이메일 주소
      * @return 인증 완료 여부
      */
-    public boolean isEmailVerified(String email) {
-        return verifiedEmails.getOrDefault(email, false);
-    }
-
-    /**
-     * 인증번호 데이터 클래스
-     */
-    private static class VerificationData {
-        private final String code;
-        private final long timestamp;
-
-        public VerificationData(String code, long timestamp) {
-            this.code = code;
-            this.timestamp = timestamp;
-        }
-
-        public String getCode() {
-            return code;
-        }
-
-        public long getTimestamp() {
-            return timestamp;
-        }
-    }
+    boolean isEmailVerified(String email);
 }
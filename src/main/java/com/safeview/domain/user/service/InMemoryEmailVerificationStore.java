@@ -0,0 +1,221 @@
+package com.safeview.domain.user.service;
+
+import com.safeview.domain.user.config.EmailVerificationConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 메모리 기반 이메일 인증번호 저장소
+ *
+ * 이메일 인증번호를 JVM 메모리에 임시 저장하는 구현체 (단일 인스턴스 배포용)
+ * - 인증번호 발송 시 저장
+ * - 인증번호 검증 시 조회 및 삭제
+ * - 유효 시간(기본 5분) 경과 후 자동 만료
+ * - 인증 완료된 이메일 관리 (유효 시간 경과 후 만료)
+ *
+ * 메모리 관리:
+ * - 항목은 저장 순서대로 보관하며, 유효 시간이 고정이므로 앞쪽이 항상 먼저 만료됩니다.
+ * - 같은 이메일로 다시 저장하면 이전 항목을 대체하고 맨 뒤로 이동합니다. (이메일당 항목 하나)
+ * - 주기적 정리 작업은 앞쪽의 만료 항목만 제거합니다. (전체 순회 없음)
+ * - 보관 중인 이메일 수가 상한을 넘으면 만료 항목을 먼저 지우고, 그다음 가장 먼저 만료될 항목부터 제거합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "email.verification", name = "store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryEmailVerificationStore implements EmailVerificationStore {
+
+    private final EmailVerificationConfig verificationConfig;
+    private final LongSupplier clock;
+
+    private final ExpiringEntries<String> verificationCodes;
+    private final ExpiringEntries<Boolean> verifiedEmails;
+
+    private ScheduledExecutorService sweeper;
+
+    @Autowired
+    public InMemoryEmailVerificationStore(EmailVerificationConfig verificationConfig) {
+        this(verificationConfig, System::currentTimeMillis);
+    }
+
+    InMemoryEmailVerificationStore(EmailVerificationConfig verificationConfig, LongSupplier clock) {
+        this.verificationConfig = verificationConfig;
+        this.clock = clock;
+        this.verificationCodes = new ExpiringEntries<>(
+                TimeUnit.SECONDS.toMillis(verificationConfig.getCodeTtlSeconds()), verificationConfig.getMaxEntries());
+        this.verifiedEmails = new ExpiringEntries<>(
+                TimeUnit.SECONDS.toMillis(verificationConfig.getVerifiedTtlSeconds()), verificationConfig.getMaxEntries());
+    }
+
+    /*
+     * 만료 항목 정리 작업 시작
+     */
+    @PostConstruct
+    public void startSweeper() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-verification-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = verificationConfig.getSweepIntervalMs();
+        sweeper.scheduleWithFixedDelay(this::sweepExpired, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopSweeper() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    @Override
+    public void storeVerificationCode(String email, String code) {
+        verificationCodes.put(email, code, clock.getAsLong());
+    }
+
+    @Override
+    public boolean verifyCode(String email, String code) {
+        long now = clock.getAsLong();
+        String storedCode = verificationCodes.get(email, now);
+        if (storedCode == null || !storedCode.equals(code)) {
+            return false;
+        }
+
+        // 인증번호는 1회만 사용 가능
+        if (!verificationCodes.remove(email, storedCode)) {
+            return false;
+        }
+
+        // 인증 완료 표시
+        verifiedEmails.put(email, Boolean.TRUE, now);
+        return true;
+    }
+
+    @Override
+    public boolean isEmailVerified(String email) {
+        return verifiedEmails.get(email, clock.getAsLong()) != null;
+    }
+
+    /*
+     * 만료 항목 정리
+     */
+    void sweepExpired() {
+        long now = clock.getAsLong();
+        int expiredCodes = verificationCodes.sweep(now);
+        int expiredVerified = verifiedEmails.sweep(now);
+        if (expiredCodes > 0 || expiredVerified > 0) {
+            log.debug("이메일 인증 만료 항목 정리: codes={}, verified={}", expiredCodes, expiredVerified);
+        }
+    }
+
+    // ===== 저장소 통계 =====
+
+    public int getPendingCodeCount() {
+        return verificationCodes.size();
+    }
+
+    public int getVerifiedEmailCount() {
+        return verifiedEmails.size();
+    }
+
+    public long getExpiredCount() {
+        return verificationCodes.expiredCount.get() + verifiedEmails.expiredCount.get();
+    }
+
+    public long getCapacityEvictionCount() {
+        return verificationCodes.evictedCount.get() + verifiedEmails.evictedCount.get();
+    }
+
+    /*
+     * 유효 시간과 개수 상한이 있는 저장 공간
+     *
+     * 유효 시간이 고정이므로 저장 순서가 곧 만료 순서입니다.
+     * 같은 이메일을 다시 저장하면 이전 항목을 지우고 맨 뒤에 다시 넣으므로, 이메일당 항목은 항상 하나이고
+     * 개수 상한은 실제로 보관 중인 이메일 수로 계산됩니다.
+     * 상한을 넘으면 이미 만료된 항목을 먼저 지우고, 그래도 넘으면 가장 먼저 만료될 항목부터 제거합니다.
+     */
+    private static final class ExpiringEntries<V> {
+
+        private final long ttlMillis;
+        private final int maxEntries;
+
+        private final LinkedHashMap<String, Entry<V>> entries = new LinkedHashMap<>();
+
+        private final AtomicLong expiredCount = new AtomicLong();
+        private final AtomicLong evictedCount = new AtomicLong();
+
+        private ExpiringEntries(long ttlMillis, int maxEntries) {
+            this.ttlMillis = ttlMillis;
+            this.maxEntries = Math.max(1, maxEntries);
+        }
+
+        synchronized void put(String key, V value, long now) {
+            entries.remove(key);
+            entries.put(key, new Entry<>(value, now + ttlMillis));
+
+            if (entries.size() > maxEntries) {
+                sweep(now);
+                Iterator<Entry<V>> oldest = entries.values().iterator();
+                while (entries.size() > maxEntries) {
+                    oldest.next();
+                    oldest.remove();
+                    evictedCount.incrementAndGet();
+                }
+            }
+        }
+
+        synchronized V get(String key, long now) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= now) {
+                entries.remove(key);
+                expiredCount.incrementAndGet();
+                return null;
+            }
+            return entry.value();
+        }
+
+        synchronized boolean remove(String key, V value) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null || !entry.value().equals(value)) {
+                return false;
+            }
+            entries.remove(key);
+            return true;
+        }
+
+        /*
+         * 앞쪽의 만료 항목만 제거 (만료되지 않은 첫 항목에서 멈춤)
+         */
+        synchronized int sweep(long now) {
+            int removed = 0;
+            Iterator<Entry<V>> iterator = entries.values().iterator();
+            while (iterator.hasNext() && iterator.next().expiresAt() <= now) {
+                iterator.remove();
+                expiredCount.incrementAndGet();
+                removed++;
+            }
+            return removed;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
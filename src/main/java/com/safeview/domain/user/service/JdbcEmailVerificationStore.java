@@ -0,0 +1,114 @@
+package com.safeview.domain.user.service;
+
+import com.safeview.domain.user.config.EmailVerificationConfig;
+import com.safeview.domain.user.repository.EmailVerificationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 데이터베이스 기반 이메일 인증번호 저장소
+ *
+ * 여러 인스턴스가 인증 상태를 공유하도록 email_verifications 테이블에 저장하는 구현체
+ * - 발급: INSERT ... ON DUPLICATE KEY UPDATE 1회 (MySQL)
+ * - 조회/검증: 이메일(기본키) 단건 접근
+ * - 검증: 조건부 UPDATE 1회로 일치 확인과 1회 사용 처리를 동시에 수행
+ * - 만료 정리: expires_at 인덱스로 만료 항목을 일정 개수씩 삭제
+ */
+@Component
+@ConditionalOnProperty(prefix = "email.verification", name = "store", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcEmailVerificationStore implements EmailVerificationStore {
+
+    private final EmailVerificationRepository emailVerificationRepository;
+    private final EmailVerificationConfig verificationConfig;
+
+    private final AtomicLong purgedCount = new AtomicLong();
+
+    private ScheduledExecutorService purger;
+
+    /*
+     * 만료 항목 정리 작업 시작
+     */
+    @PostConstruct
+    public void startPurger() {
+        purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-verification-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = verificationConfig.getSweepIntervalMs();
+        purger.scheduleWithFixedDelay(this::purgeExpired, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopPurger() {
+        if (purger != null) {
+            purger.shutdownNow();
+        }
+    }
+
+    @Override
+    public void storeVerificationCode(String email, String code) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(verificationConfig.getCodeTtlSeconds());
+
+        // 기존 행이 있으면 갱신, 없으면 INSERT (다른 인스턴스와 동시에 발급해도 호출자 트랜잭션이 실패하지 않음)
+        emailVerificationRepository.upsert(email, code, expiresAt);
+    }
+
+    @Override
+    public boolean verifyCode(String email, String code) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime verifiedUntil = now.plusSeconds(verificationConfig.getVerifiedTtlSeconds());
+        return emailVerificationRepository.markVerified(email, code, now, verifiedUntil) == 1;
+    }
+
+    @Override
+    public boolean isEmailVerified(String email) {
+        return emailVerificationRepository.existsByEmailAndVerifiedTrueAndExpiresAtAfter(email, LocalDateTime.now());
+    }
+
+    /*
+     * 만료 항목 일괄 삭제
+     * (한 번에 purgeBatchSize 개씩 삭제하여 긴 잠금을 피함)
+     */
+    void purgeExpired() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            PageRequest batch = PageRequest.of(0, verificationConfig.getPurgeBatchSize());
+            int total = 0;
+            List<String> expired;
+            do {
+                expired = emailVerificationRepository.findExpiredEmails(now, batch);
+                if (!expired.isEmpty()) {
+                    total += emailVerificationRepository.deleteExpired(expired, now);
+                }
+            } while (expired.size() == batch.getPageSize());
+
+            if (total > 0) {
+                purgedCount.addAndGet(total);
+                log.debug("이메일 인증 만료 항목 삭제: count={}", total);
+            }
+        } catch (Exception e) {
+            log.error("이메일 인증 만료 항목 삭제 실패", e);
+        }
+    }
+
+    // ===== 저장소 통계 =====
+
+    public long getPurgedCount() {
+        return purgedCount.get();
+    }
+}
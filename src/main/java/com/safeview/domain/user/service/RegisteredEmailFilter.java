@@ -0,0 +1,190 @@
+package com.safeview.domain.user.service;
+
+import com.safeview.domain.user.config.RegisteredEmailFilterConfig;
+import com.safeview.domain.user.repository.UserRepository;
+import com.safeview.domain.user.repository.UserRepository.RegisteredEmail;
+import com.safeview.global.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가입 이메일 필터
+ * 
+ * 가입된 이메일을 블룸 필터에 보관하여 이메일 중복 확인(입력 중 반복 호출)의 대부분을 DB 조회 없이 판별합니다.
+ * - mightContain == false: 확실히 미가입 (DB 조회 없음)
+ * - mightContain == true: 가입되었을 수 있음 (users 테이블로 재확인)
+ * 
+ * 구성: 기동 시 users 테이블을 ID 순으로 나누어 읽어 구성합니다.
+ * 동기화: 이 인스턴스의 가입은 즉시, 다른 인스턴스의 가입은 ID 순으로 주기적으로 반영합니다.
+ *        반영 전에는 가입된 이메일도 사용 가능으로 응답할 수 있으나, 가입 자체는 고유 제약조건으로 막힙니다.
+ * 크기: 가입 수가 예상 원소 수를 넘으면 두 배 크기로 다시 구성하여 오탐률을 유지합니다.
+ * 이메일은 공백 제거 후 소문자로 비교합니다. (DB의 대소문자 무시 비교와 맞춤)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegisteredEmailFilter {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    /*
+     * 동기화 시 다시 읽는 ID 범위 (늦게 커밋된 낮은 ID 행을 놓치지 않기 위함, 재반영은 멱등)
+     */
+    private static final long SYNC_OVERLAP = 100;
+
+    private final UserRepository userRepository;
+    private final RegisteredEmailFilterConfig registeredEmailFilterConfig;
+
+    private volatile BloomFilter filter;
+    private volatile long capacity;
+    private volatile long lastSyncedId;
+
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder possibleHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+
+    /*
+     * 기동 시 필터 구성 및 동기화 시작
+     */
+    @PostConstruct
+    public void init() {
+        rebuild(registeredEmailFilterConfig.getExpectedEmails());
+        log.info("가입 이메일 필터 구성 완료: emails={}, memoryBytes={}, expectedFalsePositiveRate={}",
+                filter.getInsertionCount(), filter.getMemoryBytes(), filter.expectedFalsePositiveRate());
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "registered-email-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long syncIntervalMs = registeredEmailFilterConfig.getSyncIntervalMs();
+        scheduler.scheduleWithFixedDelay(this::sync, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 가입되었을 수 있는지 확인 (false면 확실히 미가입)
+     * 
+     * @param email 이메일
+     * @return 가입 가능성 여부
+     */
+    public boolean mightContain(String email) {
+        boolean result = filter.mightContain(normalize(email));
+        (result ? possibleHits : definiteMisses).increment();
+        return result;
+    }
+
+    /**
+     * 가입 이메일 추가 (회원가입)
+     * 
+     * @param email 이메일
+     */
+    public void add(String email) {
+        filter.put(normalize(email));
+    }
+
+    /**
+     * 필터 양성이었으나 DB에 없던 경우 기록 (실측 오탐률 계산용)
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /*
+     * 다른 인스턴스에서 가입한 이메일 반영 (예상 원소 수를 넘었으면 다시 구성)
+     */
+    void sync() {
+        try {
+            if (filter.getInsertionCount() > capacity) {
+                rebuild(capacity * 2);
+                log.info("가입 이메일 필터 확장: emails={}, memoryBytes={}", filter.getInsertionCount(), filter.getMemoryBytes());
+                return;
+            }
+            lastSyncedId = load(filter, Math.max(0, lastSyncedId - SYNC_OVERLAP));
+        } catch (Exception e) {
+            log.error("가입 이메일 필터 동기화 실패", e);
+        }
+    }
+
+    /*
+     * 전체 이메일로 새 필터를 구성한 뒤 교체 (구성 중에는 기존 필터로 응답)
+     */
+    private void rebuild(long expected) {
+        long size = Math.max(expected, userRepository.count() * 2);
+        BloomFilter rebuilt = BloomFilter.create(size, registeredEmailFilterConfig.getFalsePositiveRate());
+        long lastId = load(rebuilt, 0);
+        capacity = size;
+        filter = rebuilt;
+        lastSyncedId = lastId;
+    }
+
+    /*
+     * fromId 이후 가입한 이메일을 필터에 추가하고 마지막 ID 반환
+     */
+    private long load(BloomFilter target, long fromId) {
+        PageRequest batch = PageRequest.of(0, LOAD_BATCH_SIZE);
+        long lastId = fromId;
+        List<RegisteredEmail> added;
+        do {
+            added = userRepository.findEmailsAfter(lastId, batch);
+            for (RegisteredEmail registered : added) {
+                // 동기화 중첩 구간에서 다시 읽은 이메일은 원소 수에 중복 집계하지 않음
+                String email = normalize(registered.getEmail());
+                if (!target.mightContain(email)) {
+                    target.put(email);
+                }
+                lastId = registered.getId();
+            }
+        } while (added.size() == LOAD_BATCH_SIZE);
+        return Math.max(lastId, lastSyncedId);
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ===== 필터 통계 =====
+
+    public long getMemoryBytes() {
+        return filter.getMemoryBytes();
+    }
+
+    public long getEmailCount() {
+        return filter.getInsertionCount();
+    }
+
+    public double getExpectedFalsePositiveRate() {
+        return filter.expectedFalsePositiveRate();
+    }
+
+    public long getDefiniteMissCount() {
+        return definiteMisses.sum();
+    }
+
+    public long getPossibleHitCount() {
+        return possibleHits.sum();
+    }
+
+    public long getFalsePositiveCount() {
+        return falsePositives.sum();
+    }
+}
@@ -0,0 +1,116 @@
+package com.safeview.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.safeview.domain.user.dto.UserInfoResponseDto;
+import com.safeview.global.response.ApiResponse;
+import com.safeview.global.util.CryptoUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 내 정보(/api/users/me) 응답 캐시
+ * 
+ * 화면 이동마다 호출되는 내 정보 조회 응답을 사용자별로 직렬화된 JSON 본문과 ETag로 보관합니다.
+ * - 캐시 적중: 사용자 조회, DTO 변환, JSON 직렬화 없이 본문 바이트 그대로 응답
+ * - If-None-Match가 ETag와 같으면 본문 없이 304 응답
+ * 
+ * 무효화: 사용자 정보 수정, 비밀번호 변경(임시 비밀번호, 로그인 시 재해시), 역할 변경 시 evict 호출
+ *        트랜잭션 안에서 호출하면 커밋 후에 한 번 더 삭제 (커밋 전 조회가 이전 값을 다시 채우는 것 방지)
+ * 다른 인스턴스의 변경은 유지 시간(ttl-seconds)이 지나면 반영됩니다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final ObjectMapper objectMapper;
+    private final CryptoUtil cryptoUtil;
+    private final Cache<Long, Profile> cache;
+
+    public UserProfileCache(ObjectMapper objectMapper,
+                            CryptoUtil cryptoUtil,
+                            @Value("${user.profile-cache.max-entries:10000}") long maxEntries,
+                            @Value("${user.profile-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.cryptoUtil = cryptoUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 응답 조회 (없으면 loader로 조회 후 직렬화하여 저장)
+     * 
+     * @param userId 사용자 ID
+     * @param loader 사용자 정보 조회 (캐시 미적중 시에만 호출)
+     * @return 직렬화된 응답 본문과 ETag
+     */
+    public Profile get(Long userId, Function<Long, UserInfoResponseDto> loader) {
+        return cache.get(userId, id -> serialize(loader.apply(id)));
+    }
+
+    /**
+     * 사용자 응답 캐시 삭제 (사용자 정보/비밀번호/역할 변경 시 호출)
+     * 
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private Profile serialize(UserInfoResponseDto userInfo) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(ApiResponse.onSuccess(userInfo));
+            return new Profile(body, "\"" + cryptoUtil.sha256Base64(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("내 정보 응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 직렬화된 응답 본문과 ETag (본문 SHA-256)
+     */
+    public record Profile(byte[] body, String etag) {
+
+        /*
+         * If-None-Match 헤더가 이 응답의 ETag와 일치하는지 확인 (여러 값, 약한 비교(W/), * 지원)
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // ===== 캐시 통계 =====
+
+    public Cache<Long, Profile> getCache() {
+        return cache;
+    }
+}
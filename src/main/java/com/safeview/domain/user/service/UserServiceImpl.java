@@ -7,8 +7,11 @@ import com.safeview.domain.user.repository.UserRepository;
 import com.safeview.domain.user.dto.UserInfoResponseDto;
 import com.safeview.global.exception.ApiException;
 import com.safeview.global.response.ErrorCode;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import java.security.SecureRandom;
+import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,8 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
  * 사용자 서비스 구현체
  * 
  * 사용자 관련 비즈니스 로직을 담당합니다.
- * - 회원가입 처리 (이메일/전화번호 중복 확인, 비밀번호 암호화)
- * - 이메일 중복 확인
+ * - 회원가입 처리 (이메일/전화번호 고유 제약조건으로 중복 판별, 비밀번호 암호화)
+ * - 이메일 중복 확인 (가입 이메일 블룸 필터 → 양성 시 DB 재확인)
  * 
  * 보안: 비밀번호 암호화, 중복 데이터 검증
  * 감사: 회원가입 이력 관리
@@ -35,6 +38,8 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
     private final EmailVerificationStore emailVerificationStore;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final UserProfileCache userProfileCache;
 
     /**
      * 회원가입 처리
@@ -43,32 +48,22 @@ public class UserServiceImpl implements UserService {
      * @return 회원가입 성공 정보
      * 
      * 처리 과정:
-     * 1. 이메일 중복 확인
-     * 2. 전화번호 중복 확인
-     * 3. User 엔티티 생성 (비밀번호 암호화 포함)
-     * 4. 데이터베이스에 저장
+     * 1. User 엔티티 생성 (비밀번호 암호화, 전화번호 정규화 포함)
+     * 2. 데이터베이스에 저장 (INSERT 한 번, 중복 확인 조회 없음)
+     * 3. 이메일/전화번호 고유 제약조건 위반 시 중복 예외로 변환
+     * 4. 가입 이메일 필터에 추가 (이메일 중복 확인용)
      * 5. 회원가입 성공 응답 생성
      * 
+     * 동시성: 같은 이메일/전화번호로 동시에 가입해도 제약조건으로 한 건만 성공
      * 보안: 비밀번호 암호화, 중복 데이터 검증
      * 예외: 중복된 이메일, 중복된 전화번호
      */
     @Override
     @Transactional
     public UserSignUpResponseDto signUp(UserSignUpRequestDto requestDto) {
-        // 이메일 중복 확인
-        if (userRepository.findByEmail(requestDto.getEmail()).isPresent()) {
-            throw new ApiException(ErrorCode.EMAIL_ALREADY_EXISTS);
-        }
-
-        // 전화번호 중복 확인 (하이픈 제거 후 확인)
-        String phoneWithoutHyphen = requestDto.getPhone().replaceAll("-", "");
-        if (userRepository.existsByPhone(phoneWithoutHyphen)) {
-            throw new ApiException(ErrorCode.PHONE_ALREADY_EXISTS);
-        }
-
-        // User 엔티티 생성
         User user = userMapper.toEntity(requestDto);
-        User savedUser = userRepository.save(user);
+        User savedUser = saveUnique(user);
+        registeredEmailFilter.add(savedUser.getEmail());
 
         return userMapper.toSignUpResponseDto(savedUser);
     }
@@ -80,42 +75,30 @@ public class UserServiceImpl implements UserService {
      * @return 이메일 사용 가능 여부
      * 
      * 처리 과정:
-     * 1. 데이터베이스에서 이메일 존재 여부 확인
-     * 2. 중복된 경우 예외 발생
-     * 3. 사용 가능한 경우 true 반환
+     * 1. 이메일 형식 검증
+     * 2. 가입 이메일 필터에 없으면 사용 가능 (DB 조회 없음)
+     * 3. 필터에 있으면 DB에서 존재 여부만 재확인 (엔티티 조회 없음)
      * 
-     * 예외: 중복된 이메일
+     * 입력 중 반복 호출되므로 중복 여부는 예외 대신 결과(available)로 반환
+     * 예외: 유효하지 않은 이메일 형식
      */
     @Override
     public EmailCheckResponseDto checkEmail(String email) {
-        log.info("이메일 중복 확인: email={}", email);
-        
-        try {
-            // 이메일 검증
-            if (email == null || email.trim().isEmpty()) {
-                throw new ApiException(ErrorCode.BAD_REQUEST, "이메일을 입력해주세요.");
-            }
-            if (!email.contains("@") || !email.contains(".")) {
-                throw new ApiException(ErrorCode.BAD_REQUEST, "이메일 형식이 아닙니다.");
-            }
-            
-            boolean exists = userRepository.findByEmail(email).isPresent();
-            
-            if (exists) {
-                log.warn("이메일 중복 확인 실패 - 이미 존재: email={}", email);
-                throw new ApiException(ErrorCode.EMAIL_ALREADY_EXISTS, new EmailCheckResponseDto(false));
-            }
-            
-            log.info("이메일 중복 확인 성공 - 사용 가능: email={}", email);
+        if (email == null || email.trim().isEmpty()) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "이메일을 입력해주세요.");
+        }
+        if (!email.contains("@") || !email.contains(".")) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "이메일 형식이 아닙니다.");
+        }
+
+        if (!registeredEmailFilter.mightContain(email)) {
             return new EmailCheckResponseDto(true);
-            
-        } catch (ApiException e) {
-            log.error("이메일 중복 확인 실패: email={}, error={}", email, e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("이메일 중복 확인 중 예상치 못한 오류: email={}", email, e);
-            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR, "이메일 중복 확인 중 오류가 발생했습니다.");
         }
+        boolean exists = userRepository.existsByEmail(email);
+        if (!exists) {
+            registeredEmailFilter.recordFalsePositive();
+        }
+        return new EmailCheckResponseDto(!exists);
     }
 
     /**
@@ -160,9 +143,9 @@ public class UserServiceImpl implements UserService {
      * 
      * 처리 과정:
      * 1. 사용자 ID로 사용자 조회
-     * 2. 전화번호 중복 확인 (다른 사용자와 중복되지 않는지)
-     * 3. 비밀번호 암호화
-     * 4. 사용자 정보 업데이트
+     * 2. 비밀번호 암호화
+     * 3. 사용자 정보 업데이트 (전화번호 정규화 포함)
+     * 4. 즉시 반영, 전화번호 고유 제약조건 위반 시 중복 예외로 변환
      * 5. 수정된 사용자 정보 반환
      * 
      * 예외: 존재하지 않는 사용자, 중복된 전화번호
@@ -177,12 +160,6 @@ public class UserServiceImpl implements UserService {
             User user = userRepository.findById(userId)
                     .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
 
-            // 전화번호 중복 확인 (현재 사용자 제외)
-            if (userRepository.existsByPhoneAndIdNot(requestDto.getPhone(), userId)) {
-                log.warn("사용자 정보 수정 실패 - 전화번호 중복: userId={}, phone={}", userId, requestDto.getPhone());
-                throw new ApiException(ErrorCode.PHONE_ALREADY_EXISTS);
-            }
-
             // 비밀번호 암호화
             String encodedPassword = passwordEncoder.encode(requestDto.getPassword());
 
@@ -196,7 +173,8 @@ public class UserServiceImpl implements UserService {
                     requestDto.getBirthday()
             );
 
-            User savedUser = userRepository.save(user);
+            User savedUser = saveUnique(user);
+            userProfileCache.evict(userId);
 
             log.info("사용자 정보 수정 완료: userId={}", userId);
             return userMapper.toUserInfoResponseDto(savedUser);
@@ -239,6 +217,7 @@ public class UserServiceImpl implements UserService {
         String encodedTempPassword = passwordEncoder.encode(tempPassword);
         user.updatePassword(encodedTempPassword);
         userRepository.save(user);
+        userProfileCache.evict(user.getId());
 
         // 이메일로 임시 비밀번호 발송
         emailService.sendTempPassword(requestDto.getEmail(), tempPassword);
@@ -290,6 +269,44 @@ public class UserServiceImpl implements UserService {
         return new EmailVerificationResponseDto("이메일 인증이 완료되었습니다.");
     }
 
+    /**
+     * 사용자 저장 후 즉시 반영 (고유 제약조건 위반은 중복 예외로 변환)
+     *
+     * @param user 저장할 사용자
+     * @return 저장된 사용자
+     */
+    private User saveUnique(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            ErrorCode errorCode = duplicateErrorCode(e);
+            if (errorCode == null) {
+                throw e;
+            }
+            log.warn("사용자 저장 실패 - 중복: email={}, error={}", user.getEmail(), errorCode);
+            throw new ApiException(errorCode);
+        }
+    }
+
+    /**
+     * 위반한 고유 제약조건으로 중복 항목 판별
+     *
+     * @return 이메일/전화번호 중복 오류 (다른 제약조건 위반이면 null)
+     */
+    private static ErrorCode duplicateErrorCode(DataIntegrityViolationException e) {
+        String constraint = e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : String.valueOf(e.getMostSpecificCause().getMessage());
+        constraint = constraint.toLowerCase(Locale.ROOT);
+        if (constraint.contains(User.EMAIL_UNIQUE_CONSTRAINT)) {
+            return ErrorCode.EMAIL_ALREADY_EXISTS;
+        }
+        if (constraint.contains(User.PHONE_UNIQUE_CONSTRAINT)) {
+            return ErrorCode.PHONE_ALREADY_EXISTS;
+        }
+        return null;
+    }
+
     /**
      * 임시 비밀번호 생성
      * 
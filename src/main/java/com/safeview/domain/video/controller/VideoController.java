@@ -131,7 +131,7 @@ public class VideoController {
      */
     @GetMapping("/all")
     public ResponseEntity<ApiResponse<List<VideoResponseDto>>> getAllVideos (@AuthenticationPrincipal Long userId) {
-        log.info("사용자 영상 목록 조회: userId={}", userId);
+        log.debug("사용자 영상 목록 조회: userId={}", userId);
         
         // 사용자 ID 검증
         if (userId == null || userId <= 0) {
@@ -160,7 +160,7 @@ public class VideoController {
     @PreAuthorize("hasAnyRole('ADMIN', 'MODERATOR')")
     @GetMapping("/all/admin")
     public ResponseEntity<ApiResponse<List<VideoListResponseDto>>> getAllVideosForAdmin(@AuthenticationPrincipal Long userId) {
-        log.info("관리자 영상 목록 조회: adminId={}", userId);
+        log.debug("관리자 영상 목록 조회: adminId={}", userId);
         
         // 관리자 ID 검증
         if (userId == null || userId <= 0) {
@@ -229,7 +229,7 @@ public class VideoController {
             @PathVariable String filename,
             @RequestHeader(value = "Range", required = false) String rangeHeader) {
 
-        log.info("영상 스트리밍 요청: userId={}, filename={}", userId, filename);
+        log.debug("영상 스트리밍 요청: userId={}, filename={}", userId, filename);
 
         // 사용자 ID 검증
         if (userId == null || userId <= 0) {
@@ -241,7 +241,7 @@ public class VideoController {
             throw new ApiException(ErrorCode.BAD_REQUEST, "파일명 오류.");
         }
 
-        log.info("영상 스트리밍 성공: userId={}, filename={}", userId, filename);
+        log.debug("영상 스트리밍 성공: userId={}, filename={}", userId, filename);
         return videoService.streamVideo(filename, rangeHeader);
     }
 }
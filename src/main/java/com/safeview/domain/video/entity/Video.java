@@ -12,6 +12,10 @@ import lombok.experimental.SuperBuilder;
  * 사용자별 영상 파일 정보와 S3 저장소 URL을 포함
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_video_user_id", columnList = "user_id"),
+        @Index(name = "idx_video_filename", columnList = "filename")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @SuperBuilder
@@ -10,7 +10,7 @@ import java.util.List;
  * 비디오 리포지토리
  * 
  * Video 엔티티의 데이터베이스 접근을 담당
- * 사용자별 영상 조회, 파일명으로 영상 조회 기능 제공
+ * 사용자별 영상 조회, 파일명으로 영상 조회, 사용자별 영상 개수 조회 기능 제공
  */
 @Repository
 public interface VideoRepository extends JpaRepository<Video, Long> {
@@ -25,4 +25,8 @@ public interface VideoRepository extends JpaRepository<Video, Long> {
      */
     Video findByFilename(String filename);
 
+    /*
+     * 사용자 ID로 영상 개수 조회 (관리자 대시보드, user_id 인덱스 사용)
+     */
+    long countByUserId(Long userId);
 }
@@ -3,6 +3,7 @@ package com.safeview.domain.video.service;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.safeview.domain.administrator.service.AdminDashboardCounters;
 import com.safeview.domain.video.dto.DownloadResponseDto;
 import com.safeview.domain.video.dto.RecordingResponseDto;
 import com.safeview.domain.video.dto.VideoListResponseDto;
@@ -12,11 +13,16 @@ import com.safeview.domain.video.mapper.VideoMapper;
 import com.safeview.domain.video.repository.VideoRepository;
 import com.safeview.global.exception.ApiException;
 import com.safeview.global.response.ErrorCode;
+import com.safeview.global.trace.RequestTrace;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
@@ -35,6 +41,8 @@ import java.util.*;
  * 보안: 사용자별 영상 접근 권한 검증
  * 감사: 영상 생성 및 조회 이력 관리
  * 외부 연동: AI 서버와 REST API 통신
+ * 메트릭: 스트리밍 응답 시간(safeview.video.stream), 응답 바이트(safeview.video.stream.bytes)
+ * 트랜잭션: AI 서버/S3 호출 메서드는 트랜잭션 없이 실행 (원격 호출 동안 DB 커넥션을 점유하지 않음)
  */
 @Service
 @RequiredArgsConstructor
@@ -42,6 +50,8 @@ import java.util.*;
 @Slf4j
 public class VideoServiceImpl implements VideoService{
 
+    private static final String S3_READ_SPAN = "s3:read";
+
     private final VideoRepository videoRepository;
     private final RestTemplate restTemplate;
     private final VideoMapper videoMapper;
@@ -53,6 +63,8 @@ public class VideoServiceImpl implements VideoService{
     private String bucketName;
 
     private final AmazonS3 amazonS3;
+    private final MeterRegistry meterRegistry;
+    private final AdminDashboardCounters adminDashboardCounters;
 
     /**
      * 비디오 엔티티 생성
@@ -89,6 +101,7 @@ public class VideoServiceImpl implements VideoService{
                         .build();
 
                 videoRepository.save(video);
+                adminDashboardCounters.videoSaved();
                 log.debug("비디오 엔티티 저장: filename={}, userId={}", filename, userId);
             }
             
@@ -112,7 +125,7 @@ public class VideoServiceImpl implements VideoService{
      * 예외: 녹화 시작 실패, AI 서버 오류
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RecordingResponseDto startRecording(){
         log.info("영상 녹화 시작 요청");
         
@@ -151,13 +164,13 @@ public class VideoServiceImpl implements VideoService{
      * 처리 과정:
      * 1. AI 서버에 녹화 중지 요청
      * 2. 응답 검증
-     * 3. Video 엔티티 생성 및 저장
+     * 3. Video 엔티티 생성 및 저장 (AI 서버 응답 후 저장 쿼리만 트랜잭션으로 실행)
      * 
      * 외부 연동: AI 서버 REST API 호출
      * 예외: 녹화 중지 실패, AI 서버 오류
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RecordingResponseDto stopRecording(Long userId) {
         log.info("영상 녹화 중지 요청: userId={}", userId);
         
@@ -182,6 +195,7 @@ public class VideoServiceImpl implements VideoService{
                     .build();
 
             videoRepository.save(video);
+            adminDashboardCounters.videoSaved();
             log.info("영상 녹화 중지 완료: userId={}, filename={}", userId, response.getFilename());
             return response;
         } catch (ApiException e) {
@@ -207,7 +221,7 @@ public class VideoServiceImpl implements VideoService{
      */
     @Override
     public List<VideoResponseDto> getAllVideosByUserId(Long userId){
-        log.info("사용자 영상 목록 조회: userId={}", userId);
+        log.debug("사용자 영상 목록 조회: userId={}", userId);
         
         try {
             List<Video> list = videoRepository.findAllByUserId(userId);
@@ -234,7 +248,7 @@ public class VideoServiceImpl implements VideoService{
      */
     @Override
     public List<VideoListResponseDto> getAllVideosGroupedByUser() {
-        log.info("관리자용 전체 영상 목록 조회 시작");
+        log.debug("관리자용 전체 영상 목록 조회 시작");
         
         try {
             List<Video> videos = videoRepository.findAll();
@@ -282,6 +296,7 @@ public class VideoServiceImpl implements VideoService{
      * 예외: 영상 없음, 다운로드 실패, AI 서버 오류
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DownloadResponseDto downloadVideo(String filename){
         log.info("영상 다운로드 요청: filename={}", filename);
         
@@ -291,8 +306,9 @@ public class VideoServiceImpl implements VideoService{
                 throw new ApiException(ErrorCode.VIDEO_NOT_FOUND, "비디오를 찾을 수 없습니다.");
             }
             
-            String url = aiServerUrl + "/recordings/" + filename;
-            DownloadResponseDto response = restTemplate.getForObject(url, DownloadResponseDto.class);
+            // 파일명은 템플릿 인자로 전달 (URL 인코딩, 메트릭 uri 태그를 템플릿 단위로 유지)
+            String url = aiServerUrl + "/recordings/{filename}";
+            DownloadResponseDto response = restTemplate.getForObject(url, DownloadResponseDto.class, filename);
 
             if(response == null){
                 log.error("AI 서버 응답 없음: 다운로드 실패, filename={}", filename);
@@ -338,7 +354,24 @@ public class VideoServiceImpl implements VideoService{
      * - I/O 처리 중 오류 발생 시 RuntimeException으로 래핑되어 전파
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseEntity<byte[]> streamVideo(String filename, String rangeHeader) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            ResponseEntity<byte[]> response = readRange(filename, rangeHeader);
+            outcome = "success";
+            DistributionSummary.builder("safeview.video.stream.bytes")
+                    .baseUnit("bytes")
+                    .register(meterRegistry)
+                    .record(response.getBody().length);
+            return response;
+        } finally {
+            sample.stop(meterRegistry.timer("safeview.video.stream", "outcome", outcome));
+        }
+    }
+
+    private ResponseEntity<byte[]> readRange(String filename, String rangeHeader) {
         String key = "recordings/" + filename;
 
         S3Object s3Object = amazonS3.getObject(bucketName, key);
@@ -358,8 +391,11 @@ public class VideoServiceImpl implements VideoService{
         long chunkSize = rangeEnd - rangeStart + 1;
 
         try (S3ObjectInputStream inputStream = s3Object.getObjectContent()) {
+            // 본문 전송 시간은 getObject 호출 밖에서 발생하므로 별도 구간으로 기록
+            long readStart = RequestTrace.startSpan();
             inputStream.skip(rangeStart);
             byte[] data = inputStream.readNBytes((int) chunkSize);
+            RequestTrace.endSpan(S3_READ_SPAN, readStart);
 
             HttpHeaders headers = new HttpHeaders();
             headers.add(HttpHeaders.CONTENT_TYPE, "video/mp4");
@@ -0,0 +1,89 @@
+package com.safeview.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.safeview.domain.user.entity.User;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 엔티티 2차 캐시 설정 클래스
+ *
+ * 거의 모든 인증 요청이 ID로 조회하는 User를 인스턴스 로컬 캐시(Caffeine, JCache)에 보관
+ * - 엔티티 캐시: findById (getUserInfoById, 복호화/관리자 서비스 권한 확인, refreshAccessToken)
+ * - 자연 키(email) 캐시: findByEmail (로그인, 회원가입, 임시 비밀번호)
+ * - READ_WRITE 전략: updateUserInfo/updatePassword/updateRole 변경은 커밋 시 캐시에 반영
+ * - 다른 인스턴스의 캐시는 만료 시간까지 유지되므로, 역할 변경 시에는 Access Token 차단으로 재로그인 유도
+ *
+ * 캐시 리전은 여기서 미리 만들며, 설정에 없는 리전을 쓰는 엔티티는 기동 시 실패 (크기 제한 없는 캐시 방지)
+ * 적중률: hibernate.second.level.cache.requests, hibernate.cache.natural.id.requests 메트릭
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "entity-cache")
+public class EntityCacheConfig {
+
+    /*
+     * 캐시 대상 엔티티 (리전 이름 = 엔티티 클래스 이름, 자연 키 리전 = 엔티티 리전 + "##NaturalId")
+     */
+    static final List<Class<?>> CACHED_ENTITIES = List.of(User.class);
+
+    /**
+     * 리전당 최대 항목 수
+     */
+    private long maxEntries = 10000;
+
+    /**
+     * 항목 유지 시간 (초, 다른 인스턴스에서 변경된 값이 반영되기까지의 최대 시간)
+     */
+    private long ttlSeconds = 300;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager() {
+        return createCacheManager(maxEntries, ttlSeconds);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /*
+     * 캐시 대상 엔티티의 리전을 만든 CacheManager 생성 (애플리케이션 컨텍스트마다 독립된 인스턴스)
+     */
+    public static CacheManager createCacheManager(long maxEntries, long ttlSeconds) {
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("safeview-entity-cache-" + UUID.randomUUID()), EntityCacheConfig.class.getClassLoader());
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.SECONDS, ttlSeconds)));
+        for (Class<?> entity : CACHED_ENTITIES) {
+            cacheManager.createCache(entity.getName(), configuration);
+            cacheManager.createCache(entity.getName() + "##NaturalId", configuration);
+        }
+        return cacheManager;
+    }
+}
@@ -0,0 +1,221 @@
+package com.safeview.global.config;
+
+import com.safeview.domain.administrator.entity.AdminRequestStatus;
+import com.safeview.domain.administrator.service.AdminDashboardCounters;
+import com.safeview.domain.user.service.EmailDispatcher;
+import com.safeview.domain.user.service.InMemoryEmailVerificationStore;
+import com.safeview.domain.user.service.JdbcEmailVerificationStore;
+import com.safeview.domain.user.service.RegisteredEmailFilter;
+import com.safeview.domain.user.service.UserProfileCache;
+import com.safeview.global.datasource.ReplicaLagMonitor;
+import com.safeview.global.datasource.ReplicaRoutingDataSource;
+import com.safeview.global.security.AccessTokenDenylist;
+import com.safeview.global.security.PasswordHashingExecutor;
+import com.safeview.global.security.RateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToDoubleFunction;
+
+/*
+ * 메트릭 설정 클래스
+ * 
+ * 각 컴포넌트가 통계 getter로 제공하는 값을 Micrometer 게이지/카운터로 등록하는 설정 클래스
+ * 요청 경로의 시간 측정(타이머)은 각 컴포넌트에서 직접 기록
+ * 
+ * 노출: 액추에이터 전용 포트의 /actuator/prometheus (application.yml management 설정)
+ */
+@Configuration
+public class MetricsConfig {
+
+    /*
+     * 이메일 발송 큐 메트릭
+     */
+    @Bean
+    public MeterBinder emailDispatcherMetrics(EmailDispatcher emailDispatcher) {
+        return registry -> {
+            Gauge.builder("safeview.email.queue.depth", emailDispatcher, EmailDispatcher::getQueueDepth)
+                    .register(registry);
+            counter(registry, "safeview.email.enqueued", emailDispatcher, EmailDispatcher::getEnqueuedCount);
+            counter(registry, "safeview.email.rejected", emailDispatcher, EmailDispatcher::getRejectedCount);
+            counter(registry, "safeview.email.retries", emailDispatcher, EmailDispatcher::getRetryCount);
+            counter(registry, "safeview.email.connections", emailDispatcher, EmailDispatcher::getConnectionCount);
+        };
+    }
+
+    /*
+     * 이메일 인증 저장소 메트릭 (설정된 저장소만 등록)
+     */
+    @Bean
+    public MeterBinder emailVerificationMetrics(ObjectProvider<InMemoryEmailVerificationStore> inMemoryStore,
+                                                ObjectProvider<JdbcEmailVerificationStore> jdbcStore) {
+        return registry -> {
+            inMemoryStore.ifAvailable(store -> {
+                Gauge.builder("safeview.email.verification.entries", store, InMemoryEmailVerificationStore::getPendingCodeCount)
+                        .tag("type", "code")
+                        .register(registry);
+                Gauge.builder("safeview.email.verification.entries", store, InMemoryEmailVerificationStore::getVerifiedEmailCount)
+                        .tag("type", "verified")
+                        .register(registry);
+                FunctionCounter.builder("safeview.email.verification.evictions", store, InMemoryEmailVerificationStore::getExpiredCount)
+                        .tag("reason", "expired")
+                        .register(registry);
+                FunctionCounter.builder("safeview.email.verification.evictions", store, InMemoryEmailVerificationStore::getCapacityEvictionCount)
+                        .tag("reason", "capacity")
+                        .register(registry);
+            });
+            jdbcStore.ifAvailable(store ->
+                    counter(registry, "safeview.email.verification.purged", store, JdbcEmailVerificationStore::getPurgedCount));
+        };
+    }
+
+    /*
+     * 가입 이메일 필터 메트릭 (실측 오탐률 = false_positive / (false_positive + definite_miss))
+     */
+    @Bean
+    public MeterBinder registeredEmailFilterMetrics(RegisteredEmailFilter registeredEmailFilter) {
+        return registry -> {
+            Gauge.builder("safeview.email.registered.filter.size", registeredEmailFilter, RegisteredEmailFilter::getMemoryBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("safeview.email.registered.filter.entries", registeredEmailFilter, RegisteredEmailFilter::getEmailCount)
+                    .register(registry);
+            Gauge.builder("safeview.email.registered.filter.expected.fpp", registeredEmailFilter,
+                            RegisteredEmailFilter::getExpectedFalsePositiveRate)
+                    .register(registry);
+            FunctionCounter.builder("safeview.email.registered.filter.lookups", registeredEmailFilter,
+                            RegisteredEmailFilter::getDefiniteMissCount)
+                    .tag("result", "definite_miss")
+                    .register(registry);
+            FunctionCounter.builder("safeview.email.registered.filter.lookups", registeredEmailFilter,
+                            RegisteredEmailFilter::getPossibleHitCount)
+                    .tag("result", "possible_hit")
+                    .register(registry);
+            counter(registry, "safeview.email.registered.filter.false.positives", registeredEmailFilter,
+                    RegisteredEmailFilter::getFalsePositiveCount);
+        };
+    }
+
+    /*
+     * 내 정보 응답 캐시 메트릭 (cache.gets{result=hit|miss}, cache.size, cache.evictions 등, cache=userProfile)
+     */
+    @Bean
+    public MeterBinder userProfileCacheMetrics(UserProfileCache userProfileCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, userProfileCache.getCache(), "userProfile");
+    }
+
+    /*
+     * 관리자 대시보드 카운터 메트릭 (카운터 값을 그대로 게이지로 노출, 조회 시 DB 집계 없음)
+     */
+    @Bean
+    public MeterBinder adminDashboardMetrics(AdminDashboardCounters adminDashboardCounters) {
+        return registry -> {
+            for (AdminRequestStatus status : AdminRequestStatus.values()) {
+                Gauge.builder("safeview.admin.requests", adminDashboardCounters, counters -> counters.getRequestCount(status))
+                        .tag("status", status.name())
+                        .register(registry);
+            }
+            Gauge.builder("safeview.videos", adminDashboardCounters, AdminDashboardCounters::getTotalVideoCount)
+                    .register(registry);
+            Gauge.builder("safeview.decryption.keys.active", adminDashboardCounters, AdminDashboardCounters::getActiveKeyCount)
+                    .register(registry);
+            Gauge.builder("safeview.blockchain.transactions", adminDashboardCounters,
+                            AdminDashboardCounters::getPendingTransactionCount)
+                    .tag("status", "PENDING")
+                    .register(registry);
+            Gauge.builder("safeview.blockchain.transactions", adminDashboardCounters,
+                            AdminDashboardCounters::getFailedTransactionCount)
+                    .tag("status", "FAILED")
+                    .register(registry);
+        };
+    }
+
+    /*
+     * 요청 속도 제한 메트릭
+     */
+    @Bean
+    public MeterBinder rateLimiterMetrics(RateLimiter rateLimiter) {
+        return registry -> {
+            Gauge.builder("safeview.ratelimit.keys", rateLimiter, RateLimiter::getTrackedKeyCount)
+                    .register(registry);
+            FunctionCounter.builder("safeview.ratelimit.requests", rateLimiter, RateLimiter::getAllowedCount)
+                    .tag("outcome", "allowed")
+                    .register(registry);
+            FunctionCounter.builder("safeview.ratelimit.requests", rateLimiter, RateLimiter::getRejectedCount)
+                    .tag("outcome", "rejected")
+                    .register(registry);
+            FunctionCounter.builder("safeview.ratelimit.evictions", rateLimiter, RateLimiter::getEvictedCount)
+                    .register(registry);
+        };
+    }
+
+    /*
+     * 비밀번호 해시 전용 스레드 풀 메트릭
+     */
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingExecutor passwordHashingExecutor) {
+        return registry -> {
+            Gauge.builder("safeview.password.hashing.queue", passwordHashingExecutor, PasswordHashingExecutor::getQueueDepth)
+                    .register(registry);
+            Gauge.builder("safeview.password.hashing.active", passwordHashingExecutor, PasswordHashingExecutor::getActiveCount)
+                    .register(registry);
+            FunctionCounter.builder("safeview.password.hashing.rejected", passwordHashingExecutor, PasswordHashingExecutor::getRejectedCount)
+                    .tag("reason", "queue_full")
+                    .register(registry);
+            FunctionCounter.builder("safeview.password.hashing.rejected", passwordHashingExecutor, PasswordHashingExecutor::getTimeoutCount)
+                    .tag("reason", "timeout")
+                    .register(registry);
+        };
+    }
+
+    /*
+     * Access Token 차단 목록 메트릭
+     */
+    @Bean
+    public MeterBinder tokenRevocationMetrics(AccessTokenDenylist accessTokenDenylist) {
+        return registry -> {
+            Gauge.builder("safeview.jwt.denylist.entries", accessTokenDenylist, AccessTokenDenylist::getDeniedTokenCount)
+                    .tag("type", "token")
+                    .register(registry);
+            Gauge.builder("safeview.jwt.denylist.entries", accessTokenDenylist, AccessTokenDenylist::getDeniedUserCount)
+                    .tag("type", "user")
+                    .register(registry);
+        };
+    }
+
+    /*
+     * 읽기 전용 복제본 라우팅 메트릭 (복제본 설정 시에만 등록)
+     */
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ObjectProvider<ReplicaRoutingDataSource> routingDataSource,
+                                             ObjectProvider<ReplicaLagMonitor> lagMonitor) {
+        return registry -> {
+            routingDataSource.ifAvailable(dataSource -> {
+                FunctionCounter.builder("safeview.datasource.reads", dataSource, ReplicaRoutingDataSource::getReplicaReadCount)
+                        .tag("target", "replica")
+                        .register(registry);
+                FunctionCounter.builder("safeview.datasource.reads", dataSource, ReplicaRoutingDataSource::getStickyReadCount)
+                        .tag("target", "primary_sticky")
+                        .register(registry);
+                FunctionCounter.builder("safeview.datasource.reads", dataSource, ReplicaRoutingDataSource::getFallbackReadCount)
+                        .tag("target", "primary_fallback")
+                        .register(registry);
+            });
+            lagMonitor.ifAvailable(monitor ->
+                    Gauge.builder("safeview.datasource.replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+                            .baseUnit("seconds")
+                            .register(registry));
+        };
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T source,
+                                    ToDoubleFunction<T> count) {
+        FunctionCounter.builder(name, source, count).register(registry);
+    }
+}
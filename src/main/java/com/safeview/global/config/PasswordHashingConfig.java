@@ -0,0 +1,63 @@
+package com.safeview.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * 비밀번호 해시 설정 클래스
+ *
+ * 비밀번호 해시 알고리즘 강도와 해시 전용 작업 풀 관련 설정을 관리하는 클래스
+ * BCrypt 강도, 작업 스레드 수, 대기열 크기, 대기 제한 시간을 포함
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordHashingConfig {
+
+    /**
+     * BCrypt 강도 (변경 시 기존 해시는 다음 로그인에서 재해시)
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * 해시 작업 스레드 수 (0이면 CPU 코어 수)
+     */
+    private int workers = 0;
+
+    /**
+     * 해시 작업 대기열 크기 (초과 시 즉시 실패)
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 해시 작업 최대 대기 시간 (밀리초)
+     */
+    private long timeoutMs = 5000;
+
+    /*
+     * 비밀번호 인코더 Bean 등록
+     * 
+     * 비밀번호 암호화를 위한 위임형 인코더 (신규 해시: {bcrypt} 접두사 + 설정된 강도)
+     * 접두사 없는 기존 BCrypt 해시도 검증하며, 로그인 성공 시 현재 설정으로 재해시
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        String idForEncode = "bcrypt";
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(idForEncode, new BCryptPasswordEncoder(bcryptStrength));
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(encoders.get(idForEncode));
+        return passwordEncoder;
+    }
+}
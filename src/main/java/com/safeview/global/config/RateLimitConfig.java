@@ -0,0 +1,93 @@
+package com.safeview.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 요청 속도 제한 설정 클래스
+ *
+ * 인증 없이 호출 가능한 고비용 엔드포인트(로그인, 인증번호 발송 등)의 요청 속도 제한을 관리하는 클래스
+ * 엔드포인트별 IP 기준, 이메일 기준 토큰 버킷 크기와 충전 속도를 포함
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitConfig {
+
+    /**
+     * 속도 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 추적할 최대 키(IP, 이메일) 개수 (메모리 상한)
+     */
+    private int maxKeys = 100000;
+
+    /**
+     * 유휴 키 정리 주기 (밀리초)
+     */
+    private long sweepIntervalMs = 60000;
+
+    /**
+     * X-Forwarded-For 헤더 신뢰 여부 (프록시 뒤에 배포된 경우에만 true)
+     */
+    private boolean trustForwardedFor = false;
+
+    /**
+     * 앞단 신뢰 프록시 수 (X-Forwarded-For 오른쪽에서 이 수만큼 떨어진 항목을 클라이언트 IP로 사용)
+     * 왼쪽 항목은 클라이언트가 임의로 넣을 수 있으므로 신뢰 프록시가 추가한 항목만 사용
+     */
+    private int trustedProxyCount = 1;
+
+    /**
+     * 엔드포인트별 제한 규칙
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * 규칙 이름 (키 구분용)
+         */
+        private String name;
+
+        /**
+         * HTTP 메서드
+         */
+        private String method = "POST";
+
+        /**
+         * 요청 경로
+         */
+        private String path;
+
+        /**
+         * IP별 버킷 크기 (순간 허용 요청 수, 0이면 미적용)
+         */
+        private int ipCapacity;
+
+        /**
+         * IP별 분당 충전 토큰 수
+         */
+        private int ipRefillPerMinute;
+
+        /**
+         * 이메일별 버킷 크기 (요청 본문의 email 필드 기준, 0이면 미적용)
+         */
+        private int emailCapacity;
+
+        /**
+         * 이메일별 분당 충전 토큰 수
+         */
+        private int emailRefillPerMinute;
+    }
+}
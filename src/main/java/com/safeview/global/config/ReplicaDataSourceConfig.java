@@ -0,0 +1,111 @@
+package com.safeview.global.config;
+
+import com.safeview.global.datasource.ReplicaLagMonitor;
+import com.safeview.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/*
+ * 읽기 전용 복제본 설정 클래스
+ *
+ * datasource.replica.url이 설정된 경우에만 동작하며, 설정하지 않으면 기본 DataSource(주 DB) 하나만 사용
+ * - 주 DB 풀: spring.datasource.* / spring.datasource.hikari.* (기존 설정 그대로)
+ * - 복제본 풀: datasource.replica.*
+ * - 애플리케이션이 사용하는 DataSource: LazyConnectionDataSourceProxy(ReplicaRoutingDataSource)
+ *
+ * 라우팅 규칙은 ReplicaRoutingDataSource, 지연 감시는 ReplicaLagMonitor 참고
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "datasource.replica")
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * 복제본 JDBC URL
+     */
+    private String url;
+
+    /**
+     * 복제본 사용자 (미설정 시 spring.datasource.username)
+     */
+    private String username;
+
+    /**
+     * 복제본 비밀번호 (미설정 시 spring.datasource.password)
+     */
+    private String password;
+
+    /**
+     * 복제본 커넥션 풀 최대 크기
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * 복제본을 사용할 최대 복제 지연 (초, 초과 시 읽기를 주 DB로)
+     */
+    private long maxLagSeconds = 5;
+
+    /**
+     * 복제 지연 확인 주기 (밀리초)
+     */
+    private long checkIntervalMs = 1000;
+
+    /**
+     * 복제 지연 조회 쿼리 (Seconds_Behind_Source 컬럼 또는 첫 번째 컬럼을 지연(초)으로 사용)
+     */
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username != null ? username : properties.determineUsername());
+        dataSource.setPassword(password != null ? password : properties.determinePassword());
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLagSeconds);
+        monitor.start(checkIntervalMs);
+        return monitor;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                             @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                             ReplicaLagMonitor replicaLagMonitor) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,68 @@
+package com.safeview.global.config;
+
+import com.safeview.global.trace.RequestTraceInterceptor;
+import com.safeview.global.trace.TracingJpaTransactionManager;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/*
+ * 요청 구간 기록 설정 클래스
+ *
+ * 요청별 구간(DB, S3, AI 서버, 블록체인, 커밋) 소요 시간 기록 관련 설정을 관리하는 클래스
+ * - 모든 Spring Data 리포지토리 호출을 db 구간으로 기록
+ * - 트랜잭션 커밋을 tx:commit 구간으로 기록
+ * S3, 블록체인, RestTemplate 구간은 각 빈 설정(S3Config, ServiceConfig, RestTemplateConfig)에서 등록
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "request-trace")
+public class RequestTraceConfig {
+
+    /**
+     * 요청 구간 기록 사용 여부 (false면 기록 필터를 등록하지 않음)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 기록할 최소 요청 시간 (밀리초, 0이면 모든 요청 기록)
+     */
+    private long minDurationMs = 0;
+
+    /*
+     * 리포지토리 프록시에 구간 기록 인터셉터 추가
+     */
+    @Bean
+    public static BeanPostProcessor repositoryTraceBeanPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                                    proxyFactory.addAdvice(new RequestTraceInterceptor(
+                                            "db", repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /*
+     * 커밋 구간을 기록하는 트랜잭션 매니저 (기본 JpaTransactionManager 대체)
+     */
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        TracingJpaTransactionManager transactionManager = new TracingJpaTransactionManager();
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+}
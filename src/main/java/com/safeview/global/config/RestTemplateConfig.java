@@ -1,5 +1,7 @@
 package com.safeview.global.config;
 
+import com.safeview.global.trace.RequestTraceHttpInterceptor;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -17,7 +19,14 @@ public class RestTemplateConfig {
      * RestTemplate Bean 등록
      * 
      * HTTP 클라이언트 Bean을 등록하여 AI 서버와의 통신에 사용
+     * RestTemplateBuilder로 생성하여 호출별 시간/상태가 http.client.requests 메트릭으로 기록됨
+     * (uri 태그는 URI 템플릿 기준이므로 경로 변수는 템플릿 인자로 전달)
+     * 호출 시간은 요청 구간(http:*)으로도 기록
      */
     @Bean
-    public RestTemplate restTemplate() {return new RestTemplate();}
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return restTemplateBuilder
+                .additionalInterceptors(new RequestTraceHttpInterceptor())
+                .build();
+    }
 }
@@ -2,8 +2,10 @@ package com.safeview.global.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.safeview.global.trace.RequestTraceInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,15 +22,31 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    /*
+     * S3 호환 엔드포인트 (비어 있으면 AWS S3 사용, 부하 테스트 등에서 로컬 S3 호환 서버 지정)
+     */
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public AmazonS3 amazonS3() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
 
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-                .build();
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials));
+
+        if (endpoint.isBlank()) {
+            builder.withRegion(region);
+        } else {
+            // 로컬 S3 호환 서버는 버킷 서브도메인을 지원하지 않으므로 경로 방식 사용
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        }
+
+        AmazonS3 amazonS3 = builder.build();
 
+        // S3 호출을 요청 구간(s3:AmazonS3.*)으로 기록
+        return RequestTraceInterceptor.wrap(AmazonS3.class, amazonS3, "s3", "AmazonS3");
     }
 
 }
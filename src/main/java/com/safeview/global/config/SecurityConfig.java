@@ -1,9 +1,17 @@
 package com.safeview.global.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safeview.global.security.AccessTokenDenylist;
 import com.safeview.global.security.JwtAuthenticationFilter;
 import com.safeview.global.security.JwtAuthenticationEntryPoint;
 import com.safeview.global.security.JwtTokenProvider;
+import com.safeview.global.security.RateLimitFilter;
+import com.safeview.global.security.RateLimiter;
+import com.safeview.global.trace.RequestTraceFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,8 +19,9 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.security.web.session.DisableEncodeUrlFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /*
@@ -28,6 +37,24 @@ public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final RateLimitConfig rateLimitConfig;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final MeterRegistry meterRegistry;
+    private final RequestTraceConfig requestTraceConfig;
+
+    /*
+     * 액추에이터 전용 포트 (application.yml management.server.port, 미설정 시 서비스 포트와 공유)
+     */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
+    /*
+     * 서비스 포트 (application.yml server.port)
+     */
+    @Value("${server.port:8080}")
+    private int serverPort;
 
     /*
      * 보안 필터 체인 설정
@@ -37,6 +64,11 @@ public class SecurityConfig {
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        // 요청 구간 기록 필터 등록 (보안 필터 체인 가장 앞, 보안 처리 시간까지 포함)
+        if (requestTraceConfig.isEnabled()) {
+            http.addFilterBefore(new RequestTraceFilter(requestTraceConfig.getMinDurationMs()), DisableEncodeUrlFilter.class);
+        }
+
         return http
                 .csrf(csrf -> csrf.disable()) // CSRF 비활성화 (JWT는 상태를 저장하지 않음)
 
@@ -57,8 +89,16 @@ public class SecurityConfig {
 
                         // AI 서버 키 검증 엔드포인트 허용
                         .requestMatchers("/api/decryption/keys/verify/ai").permitAll()
+                        .requestMatchers("/api/decryption/token-keys").permitAll()
                         .requestMatchers("/api/videos/make-entity").permitAll()
 
+                        // 헬스 체크
+                        .requestMatchers("/actuator/health").permitAll()
+
+                        // 메트릭 수집: 액추에이터 전용 포트(내부망)로 들어온 액추에이터 요청만 허용, 서비스 포트에서는 관리자만
+                        .requestMatchers(managementPortEndpoints(EndpointRequest.toAnyEndpoint(), managementPort, serverPort)).permitAll()
+                        .requestMatchers("/actuator/prometheus").hasRole("ADMIN")
+
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -69,28 +109,34 @@ public class SecurityConfig {
                 )
 
                 // 커스텀 JWT 인증 필터 등록 (기존 UsernamePasswordAuthenticationFilter 앞에)
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, accessTokenDenylist, meterRegistry), UsernamePasswordAuthenticationFilter.class)
+
+                // 요청 속도 제한 필터 등록 (JWT 검증보다 먼저 수행하여 초과 요청을 즉시 거부)
+                .addFilterBefore(new RateLimitFilter(rateLimitConfig, rateLimiter, objectMapper), JwtAuthenticationFilter.class)
 
                 .build();
     }
 
     /*
-     * 인증 매니저 Bean 등록
-     * 
-     * 로그인 시 사용자 인증을 처리하는 AuthenticationManager
+     * 액추에이터 전용 포트로 들어온 액추에이터 요청
+     *
+     * 포트만 보면 전용 포트를 서비스 포트와 같게 설정했을 때 모든 API 요청이 인증 없이 허용되므로,
+     * 액추에이터 경로일 때만, 그리고 두 포트가 다를 때만 일치합니다.
      */
-    @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
-        return config.getAuthenticationManager();
+    static RequestMatcher managementPortEndpoints(RequestMatcher endpoints, int managementPort, int serverPort) {
+        return request -> managementPort > 0
+                && managementPort != serverPort
+                && request.getLocalPort() == managementPort
+                && endpoints.matches(request);
     }
 
     /*
-     * 비밀번호 인코더 Bean 등록
+     * 인증 매니저 Bean 등록
      * 
-     * 비밀번호 암호화를 위한 BCrypt 인코더
+     * 로그인 시 사용자 인증을 처리하는 AuthenticationManager
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder();
+    public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
+        return config.getAuthenticationManager();
     }
 }
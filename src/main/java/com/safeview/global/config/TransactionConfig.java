@@ -0,0 +1,26 @@
+package com.safeview.global.config;
+
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+
+/*
+ * 트랜잭션 설정 클래스
+ *
+ * 트랜잭션 동기화를 실제 트랜잭션이 있을 때만 사용하도록 변경
+ * - 기본값(SYNCHRONIZATION_ALWAYS)은 NOT_SUPPORTED 구간에도 EntityManager를 묶어 두어,
+ *   구간 안에서 처음 조회한 커넥션을 구간이 끝날 때까지(원격 호출 동안에도) 점유함
+ * - 변경 후에는 트랜잭션 밖의 조회가 각자 짧은 트랜잭션에서 커넥션을 빌리고 바로 반환
+ *
+ * 원격 호출(AI 서버, S3, 블록체인) 메서드는 @Transactional(propagation = NOT_SUPPORTED)로 트랜잭션 밖에서 실행
+ */
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    public TransactionManagerCustomizer<AbstractPlatformTransactionManager> transactionSynchronizationCustomizer() {
+        return transactionManager -> transactionManager.setTransactionSynchronization(
+                AbstractPlatformTransactionManager.SYNCHRONIZATION_ON_ACTUAL_TRANSACTION);
+    }
+}
@@ -0,0 +1,124 @@
+package com.safeview.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 읽기 전용 복제본 지연 감시
+ *
+ * 주기적으로 복제본에서 지연 조회 쿼리를 실행해 복제 지연(초)을 기록하고,
+ * 지연이 허용치 이하일 때만 복제본을 사용 가능으로 표시
+ * - 기본 쿼리: SHOW REPLICA STATUS (Seconds_Behind_Source, 구버전은 Seconds_Behind_Master)
+ * - 위 컬럼이 없으면 첫 번째 컬럼을 지연(초)으로 사용 (하트비트 테이블 조회 등)
+ * - 결과 없음, NULL(복제 중지), 조회 실패는 사용 불가로 처리
+ *
+ * 기동 직후 한 번 확인하기 전까지는 사용 불가 상태 (읽기도 주 DB로)
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final DataSource replicaDataSource;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaUsable;
+    private volatile long lagSeconds = -1;
+
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagSeconds) {
+        this.replicaDataSource = replicaDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /*
+     * 최초 확인 후 주기 확인 시작
+     *
+     * @param checkIntervalMs 확인 주기 (밀리초)
+     */
+    public void start(long checkIntervalMs) {
+        check();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /*
+     * 복제 지연 확인 (테스트에서 직접 호출 가능)
+     */
+    public void check() {
+        boolean wasUsable = replicaUsable;
+        try {
+            Long lag = queryLagSeconds();
+            lagSeconds = lag == null ? -1 : lag;
+            replicaUsable = lag != null && lag <= maxLagSeconds;
+        } catch (SQLException | RuntimeException e) {
+            lagSeconds = -1;
+            replicaUsable = false;
+            if (wasUsable) {
+                log.warn("복제본 지연 확인 실패, 읽기를 주 DB로 전환합니다.", e);
+            }
+            return;
+        }
+
+        if (wasUsable != replicaUsable) {
+            log.warn("복제본 사용 {}: lagSeconds={}, maxLagSeconds={}",
+                    replicaUsable ? "재개" : "중단", lagSeconds, maxLagSeconds);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /*
+     * 마지막으로 확인한 복제 지연 (초, 확인 실패 또는 복제 중지 시 -1)
+     */
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private Long queryLagSeconds() throws SQLException {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            long lag = resultSet.getLong(lagColumn(resultSet));
+            return resultSet.wasNull() ? null : lag;
+        }
+    }
+
+    private static int lagColumn(ResultSet resultSet) throws SQLException {
+        for (String column : LAG_COLUMNS) {
+            try {
+                return resultSet.findColumn(column);
+            } catch (SQLException ignored) {
+                // 다음 후보 컬럼 확인
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,97 @@
+package com.safeview.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 주 DB / 읽기 전용 복제본 라우팅 DataSource
+ *
+ * 커넥션을 실제로 얻는 시점의 트랜잭션 속성으로 대상을 결정
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true)): 복제본
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖): 주 DB
+ * - 같은 요청에서 쓰기 트랜잭션이 있었으면 이후 읽기도 주 DB (자신이 쓴 데이터 읽기 보장)
+ * - 복제 지연이 허용치를 넘거나 복제본 확인에 실패하면 주 DB (ReplicaLagMonitor)
+ *
+ * 트랜잭션 시작 후 첫 쿼리 시점에 커넥션을 얻어야 읽기 전용 여부를 알 수 있으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용 (ReplicaDataSourceConfig)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String WROTE_IN_REQUEST = ReplicaRoutingDataSource.class.getName() + ".WROTE";
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder stickyReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Target.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWrite();
+            return Target.PRIMARY;
+        }
+        if (wroteInRequest()) {
+            stickyReads.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            fallbackReads.increment();
+            return Target.PRIMARY;
+        }
+        replicaReads.increment();
+        return Target.REPLICA;
+    }
+
+    /*
+     * 복제본으로 보낸 읽기 수
+     */
+    public long getReplicaReadCount() {
+        return replicaReads.sum();
+    }
+
+    /*
+     * 같은 요청의 이전 쓰기 때문에 주 DB로 보낸 읽기 수
+     */
+    public long getStickyReadCount() {
+        return stickyReads.sum();
+    }
+
+    /*
+     * 복제 지연 또는 복제본 장애로 주 DB로 보낸 읽기 수
+     */
+    public long getFallbackReadCount() {
+        return fallbackReads.sum();
+    }
+
+    private static void markWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(WROTE_IN_REQUEST, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static boolean wroteInRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && attributes.getAttribute(WROTE_IN_REQUEST, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
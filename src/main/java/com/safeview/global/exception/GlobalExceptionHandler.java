@@ -2,6 +2,7 @@ package com.safeview.global.exception;
 
 import com.safeview.global.response.ApiResponse;
 import com.safeview.global.response.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -18,6 +19,7 @@ import org.springframework.web.servlet.NoHandlerFoundException;
  * 애플리케이션에서 발생하는 모든 예외를 처리하는 클래스
  * ApiException을 포함한 다양한 예외를 일관된 형태로 응답
  */
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -104,9 +106,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleException(Exception e) {
-        // 로깅 (실제 운영에서는 로그 레벨에 따라 조정)
-        System.err.println("예상치 못한 예외 발생: " + e.getMessage());
-        e.printStackTrace();
+        log.error("예상치 못한 예외 발생", e);
         
         return handleExceptionInternal(ErrorCode.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
     }
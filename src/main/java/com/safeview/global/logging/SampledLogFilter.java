@@ -0,0 +1,66 @@
+package com.safeview.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그 샘플링 필터 (logback TurboFilter)
+ *
+ * 지정한 로거(하위 로거 포함)의 로그 중 sampleRate 건마다 1건만 통과시킵니다.
+ * 운영 환경에서 SQL 로그(org.hibernate.SQL)처럼 요청마다 여러 줄 찍히는 로그를
+ * 완전히 끄지 않고 일부만 남기는 용도입니다.
+ *
+ * 설정: logback-spring.xml의 turboFilter (loggerName, sampleRate)
+ * - sampleRate가 1 이하이면 모두 통과
+ * - 다른 로거의 로그에는 관여하지 않음 (NEUTRAL)
+ */
+public class SampledLogFilter extends TurboFilter {
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private String loggerName;
+    private int sampleRate = 100;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        // 레벨 비활성 상태의 로그와 isDebugEnabled() 등 레벨 확인 호출(format 없음)은 카운트하지 않음
+        // (JBoss Logging을 쓰는 Hibernate는 로그마다 레벨 확인을 먼저 호출)
+        if (format == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (sampleRate <= 1) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    @Override
+    public void start() {
+        if (loggerName == null || loggerName.isBlank()) {
+            addError("SampledLogFilter의 loggerName이 설정되지 않았습니다.");
+            return;
+        }
+        super.start();
+    }
+
+    private boolean matches(String name) {
+        return name.startsWith(loggerName)
+                && (name.length() == loggerName.length() || name.charAt(loggerName.length()) == '.');
+    }
+
+    public void setLoggerName(String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
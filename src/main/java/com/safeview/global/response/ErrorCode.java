@@ -21,6 +21,7 @@ public enum ErrorCode {
     FORBIDDEN(HttpStatus.FORBIDDEN, "403", "금지된 요청입니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "404", "요청한 리소스를 찾을 수 없습니다."),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "405", "지원하지 않는 HTTP 메서드입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "429", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "USER4091", "이미 존재하는 이메일입니다."),
     PHONE_ALREADY_EXISTS(HttpStatus.CONFLICT, "USER4092", "이미 존재하는 전화번호입니다."),
     NICKNAME_ALREADY_EXISTS(HttpStatus.CONFLICT, "USER4093", "이미 사용 중인 닉네임입니다."),
@@ -32,7 +33,15 @@ public enum ErrorCode {
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "USER_001", "사용자를 찾을 수 없습니다."),
     INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "USER_002", "비밀번호가 일치하지 않습니다."),
 
-    INVALID_API_KEY(HttpStatus.UNAUTHORIZED, "AUTH_003", "유효하지 않은 API Key입니다.");
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AUTH_004", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+    EMAIL_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "MAIL_001", "이메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+    INVALID_API_KEY(HttpStatus.UNAUTHORIZED, "AUTH_003", "유효하지 않은 API Key입니다."),
+
+    INVALID_DECRYPTION_TOKEN(HttpStatus.UNAUTHORIZED, "KEY_001", "유효하지 않은 복호화 토큰입니다."),
+
+    ADMIN_REQUEST_CONFLICT(HttpStatus.CONFLICT, "ADMIN_001", "다른 관리자가 먼저 처리한 요청입니다. 목록을 새로고침 후 다시 시도해주세요.");
 
 
     /*
@@ -0,0 +1,254 @@
+package com.safeview.global.security;
+
+import com.safeview.domain.auth.entity.AccessTokenDenial;
+import com.safeview.domain.auth.repository.AccessTokenDenialRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token 차단 목록
+ * 
+ * 만료 전에 무효화된 Access Token을 메모리에 보관하고, 인증 필터가 요청마다 DB 조회 없이 확인합니다.
+ * - 토큰 단위 차단: jti → 토큰 만료 시각 (로그아웃)
+ * - 사용자 단위 차단: userId → 기준 시각, 그 이전에 발급된 토큰 전체 차단 (역할 변경)
+ * 
+ * 확인 비용: ConcurrentHashMap 조회 2회 (락 없음)
+ * 영속화: access_token_denials 테이블에 기록하고 기동 시 유효한 행으로 재구성합니다.
+ *        트랜잭션 안에서 호출하면 커밋 후에 메모리 목록에 반영합니다. (롤백되면 반영하지 않음)
+ * 동기화: 다른 인스턴스에서 추가된 차단은 ID 순으로 주기적으로 가져옵니다.
+ * 정리: 대상 토큰이 모두 만료된 항목은 메모리와 테이블에서 주기적으로 삭제합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccessTokenDenylist {
+
+    private static final int SYNC_BATCH_SIZE = 1000;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    /*
+     * 동기화 시 다시 읽는 ID 범위 (늦게 커밋된 낮은 ID 행을 놓치지 않기 위함, 재반영은 멱등)
+     */
+    private static final long SYNC_OVERLAP = 100;
+
+    private final AccessTokenDenialRepository accessTokenDenialRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Value("${jwt.denylist.sync-interval-ms:5000}")
+    private long syncIntervalMs;
+
+    @Value("${jwt.denylist.purge-interval-ms:600000}")
+    private long purgeIntervalMs;
+
+    /*
+     * 차단된 토큰: jti → 만료 시각 (epoch ms)
+     */
+    private final Map<String, Long> deniedTokens = new ConcurrentHashMap<>();
+
+    /*
+     * 사용자 단위 차단: userId → 기준 시각과 만료 시각
+     */
+    private final Map<Long, UserDenial> deniedUsers = new ConcurrentHashMap<>();
+
+    private volatile long lastSyncedId;
+
+    private ScheduledExecutorService scheduler;
+
+    /*
+     * 기동 시 테이블에서 차단 목록 재구성 및 주기 작업 시작
+     */
+    @PostConstruct
+    public void init() {
+        List<AccessTokenDenial> active = accessTokenDenialRepository.findActive(LocalDateTime.now());
+        active.forEach(this::apply);
+        log.info("Access Token 차단 목록 구성 완료: tokens={}, users={}", deniedTokens.size(), deniedUsers.size());
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "access-token-denylist");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sync, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgeExpired, purgeIntervalMs, purgeIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 차단 여부 확인 (요청마다 호출, DB 조회 없음)
+     * 
+     * @param tokenId 토큰 jti (없으면 사용자 단위 차단만 확인)
+     * @param userId 사용자 ID
+     * @param issuedAt 토큰 발급 시각 (JWT iat, 초 단위)
+     * @return 차단 여부
+     */
+    public boolean isDenied(String tokenId, Long userId, Instant issuedAt) {
+        if (tokenId != null && !deniedTokens.isEmpty() && deniedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        if (deniedUsers.isEmpty()) {
+            return false;
+        }
+        UserDenial userDenial = deniedUsers.get(userId);
+        return userDenial != null && issuedAt != null && issuedAt.getEpochSecond() < userDenial.notBeforeEpochSecond;
+    }
+
+    /**
+     * 토큰 단위 차단 (로그아웃)
+     * 
+     * @param tokenId 토큰 jti
+     * @param userId 사용자 ID
+     * @param expiresAt 토큰 만료 시각
+     */
+    public void denyToken(String tokenId, Long userId, Instant expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        AccessTokenDenial denial = accessTokenDenialRepository.save(
+                AccessTokenDenial.ofToken(tokenId, userId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+        applyAfterCommit(denial);
+    }
+
+    /**
+     * 사용자 단위 차단 (역할 변경 등)
+     * 
+     * @param userId 사용자 ID
+     * 
+     * 현재 시각(초 단위 절삭) 이전에 발급된 Access Token을 모두 차단합니다.
+     * 이후 Refresh Token으로 재발급받은 토큰은 현재 역할로 다시 발급되므로 통과합니다.
+     * JWT iat가 초 단위이므로 차단과 같은 초에 먼저 발급된 토큰은 통과할 수 있습니다.
+     */
+    public void denyAllForUser(Long userId) {
+        LocalDateTime notBefore = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime expiresAt = notBefore.plus(jwtTokenProvider.getAccessTokenExpirationTime(), ChronoUnit.MILLIS);
+        AccessTokenDenial denial = accessTokenDenialRepository.save(AccessTokenDenial.ofUser(userId, notBefore, expiresAt));
+        applyAfterCommit(denial);
+    }
+
+    /*
+     * 트랜잭션 안이면 커밋 후에, 아니면 즉시 메모리 목록에 반영
+     */
+    private void applyAfterCommit(AccessTokenDenial denial) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(denial);
+                }
+            });
+        } else {
+            apply(denial);
+        }
+    }
+
+    /*
+     * 차단 행을 메모리 목록에 반영 (같은 행을 여러 번 반영해도 결과 동일)
+     */
+    void apply(AccessTokenDenial denial) {
+        long expiresAtMillis = toEpochMilli(denial.getExpiresAt());
+        if (denial.getTokenId() != null) {
+            deniedTokens.merge(denial.getTokenId(), expiresAtMillis, Math::max);
+        } else if (denial.getNotBefore() != null) {
+            UserDenial userDenial = new UserDenial(
+                    toEpochMilli(denial.getNotBefore()) / 1000, expiresAtMillis);
+            deniedUsers.merge(denial.getUserId(), userDenial, UserDenial::later);
+        }
+        if (denial.getId() != null && denial.getId() > lastSyncedId) {
+            lastSyncedId = denial.getId();
+        }
+    }
+
+    /*
+     * 다른 인스턴스에서 추가된 차단 반영
+     */
+    void sync() {
+        try {
+            PageRequest batch = PageRequest.of(0, SYNC_BATCH_SIZE);
+            List<AccessTokenDenial> added;
+            long from = Math.max(0, lastSyncedId - SYNC_OVERLAP);
+            do {
+                added = accessTokenDenialRepository.findAddedAfter(from, batch);
+                added.forEach(this::apply);
+                if (!added.isEmpty()) {
+                    from = added.get(added.size() - 1).getId();
+                }
+            } while (added.size() == SYNC_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("Access Token 차단 목록 동기화 실패", e);
+        }
+    }
+
+    /*
+     * 만료 차단 삭제 (메모리 → 테이블 순)
+     */
+    void purgeExpired() {
+        long nowMillis = System.currentTimeMillis();
+        deniedTokens.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+        deniedUsers.values().removeIf(userDenial -> userDenial.expiresAtMillis <= nowMillis);
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            PageRequest batch = PageRequest.of(0, PURGE_BATCH_SIZE);
+            int total = 0;
+            List<Long> expired;
+            do {
+                expired = accessTokenDenialRepository.findExpiredIds(now, batch);
+                if (!expired.isEmpty()) {
+                    total += accessTokenDenialRepository.deleteExpired(expired, now);
+                }
+            } while (expired.size() == PURGE_BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("만료 Access Token 차단 삭제: count={}", total);
+            }
+        } catch (Exception e) {
+            log.error("만료 Access Token 차단 삭제 실패", e);
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record UserDenial(long notBeforeEpochSecond, long expiresAtMillis) {
+
+        UserDenial later(UserDenial other) {
+            return new UserDenial(
+                    Math.max(notBeforeEpochSecond, other.notBeforeEpochSecond),
+                    Math.max(expiresAtMillis, other.expiresAtMillis));
+        }
+    }
+
+    // ===== 차단 목록 통계 =====
+
+    public int getDeniedTokenCount() {
+        return deniedTokens.size();
+    }
+
+    public int getDeniedUserCount() {
+        return deniedUsers.size();
+    }
+}
@@ -1,5 +1,9 @@
 package com.safeview.global.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,6 +15,8 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 
 /*
  * JWT 인증 필터 클래스
@@ -21,12 +27,25 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     /*
-     * JWT 토큰 제공자 주입을 위한 생성자
+     * 필터 처리 시간 (다음 필터 처리 시간은 제외)
      */
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    private final Timer authenticatedTimer;
+    private final Timer anonymousTimer;
+    private final Timer rejectedTimer;
+
+    /*
+     * JWT 토큰 제공자, Access Token 차단 목록, 메트릭 레지스트리 주입을 위한 생성자
+     */
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, AccessTokenDenylist accessTokenDenylist,
+                                   MeterRegistry meterRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.authenticatedTimer = meterRegistry.timer("safeview.security.jwt.filter", "outcome", "authenticated");
+        this.anonymousTimer = meterRegistry.timer("safeview.security.jwt.filter", "outcome", "anonymous");
+        this.rejectedTimer = meterRegistry.timer("safeview.security.jwt.filter", "outcome", "rejected");
     }
 
     /*
@@ -34,6 +53,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * 
      * 모든 HTTP 요청에 대해 JWT 토큰을 검증하고 인증 처리
      * 특정 경로는 인증 없이 통과 허용
+     * 
+     * 토큰은 한 번만 파싱하며, Access Token이 아니거나 차단 목록(메모리)에 있으면 인증하지 않음
      */
     @Override
     protected void doFilterInternal(
@@ -44,20 +65,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // /api/videos/make-entity 경로는 인증 없이 통과
         String uri = request.getRequestURI();
-        System.out.println("JwtFilter URI: " + uri);
         if (uri.endsWith("/api/videos/make-entity")) {
             filterChain.doFilter(request, response);
             return;
         }
 
+        long start = System.nanoTime();
+
         // 1. Authorization 헤더에서 토큰 추출
         String token = resolveToken(request);
 
-        // 2. 토큰이 존재하고 유효하면
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+        // 2. 토큰이 존재하고 유효한 Access Token이며 차단되지 않았으면
+        Claims claims = StringUtils.hasText(token) ? parseAccessToken(token) : null;
+        if (claims != null) {
             // 사용자 ID와 Role 추출
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
-            String role = jwtTokenProvider.getRoleFromToken(token);
+            Long userId = Long.parseLong(claims.getSubject());
+            String role = "ROLE_" + claims.get("role", String.class);
 
             // 3. 인증 객체 생성 (여기선 비밀번호 없이 인증만 함)
             UsernamePasswordAuthenticationToken authentication =
@@ -74,10 +97,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
+        Timer timer = claims != null ? authenticatedTimer : StringUtils.hasText(token) ? rejectedTimer : anonymousTimer;
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
         // 5. 다음 필터로 요청 전달
         filterChain.doFilter(request, response);
     }
 
+    /*
+     * Access Token 파싱 및 차단 여부 확인
+     * 
+     * 서명/만료 검증 실패, Access Token 아님, 차단된 토큰이면 null 반환
+     */
+    private Claims parseAccessToken(String token) {
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.getClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (!"ACCESS".equals(claims.get("type", String.class))) {
+            return null;
+        }
+        Long userId = Long.parseLong(claims.getSubject());
+        Instant issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+        if (accessTokenDenylist.isDenied(claims.getId(), userId, issuedAt)) {
+            return null;
+        }
+        return claims;
+    }
+
     /*
      * 요청에서 JWT 토큰 추출
      * 
@@ -4,6 +4,7 @@ import com.safeview.domain.user.entity.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -14,6 +15,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 /*
  * JWT 토큰 제공자 클래스
@@ -21,6 +23,7 @@ import java.util.Date;
  * JWT 토큰의 생성, 검증, 파싱을 담당하는 클래스
  * Access Token과 Refresh Token을 관리하며 쿠키 기반 토큰 처리
  */
+@Slf4j
 @Component
 public class JwtTokenProvider {
 
@@ -47,6 +50,11 @@ public class JwtTokenProvider {
      */
     private Key key;
 
+    /*
+     * 서명 검증용 파서 (불변, 스레드 안전하므로 한 번만 생성)
+     */
+    private JwtParser parser;
+
     /*
      * JWT 키 초기화
      * 
@@ -56,6 +64,7 @@ public class JwtTokenProvider {
     protected void init() {
         byte[] decodedKey = Base64.getEncoder().encode(secretKey.getBytes());
         this.key = Keys.hmacShaKeyFor(decodedKey);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     /*
@@ -65,7 +74,7 @@ public class JwtTokenProvider {
      * @param role 사용자 역할
      * @return 생성된 JWT 문자열
      * 
-     * 기능: 사용자 ID, 역할, 토큰 타입을 포함한 Access Token 생성
+     * 기능: 사용자 ID, 토큰 ID(jti, 차단 목록용), 역할, 토큰 타입을 포함한 Access Token 생성
      * 만료 시간: 1시간
      */
     public String generateAccessToken(Long userId, Role role) {
@@ -74,6 +83,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setSubject(String.valueOf(userId)) // 사용자 ID 저장
+                .setId(UUID.randomUUID().toString()) // 토큰 ID (jti)
                 .claim("role", role.name())        // Role enum의 name() 사용
                 .claim("type", "ACCESS")           // 토큰 타입 구분
                 .setIssuedAt(now)
@@ -86,17 +96,21 @@ public class JwtTokenProvider {
      * Refresh Token 생성
      * 
      * @param userId 사용자 식별자
+     * @param tokenId 토큰 ID (jti, 회전/폐기 관리용)
+     * @param familyId 토큰 family ID (같은 로그인에서 회전된 토큰 묶음)
      * @return 생성된 Refresh Token 문자열
      * 
-     * 기능: 사용자 ID와 토큰 타입을 포함한 Refresh Token 생성
+     * 기능: 사용자 ID, 토큰 ID, family ID, 토큰 타입을 포함한 Refresh Token 생성
      * 만료 시간: 7일
      */
-    public String generateRefreshToken(Long userId) {
+    public String generateRefreshToken(Long userId, String tokenId, String familyId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshTokenExpirationTime);
 
         return Jwts.builder()
                 .setSubject(String.valueOf(userId)) // 사용자 ID 저장
+                .setId(tokenId)                     // 토큰 ID (jti)
+                .claim("fid", familyId)             // 토큰 family ID
                 .claim("type", "REFRESH")           // 토큰 타입 구분
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
@@ -105,81 +119,27 @@ public class JwtTokenProvider {
     }
 
     /*
-     * 토큰에서 사용자 ID 추출
+     * 토큰 클레임 전체 추출 (서명 검증 포함, 1회 파싱)
      * 
      * @param token JWT 토큰
-     * @return 사용자 ID
+     * @return 토큰 클레임
      */
-    public Long getUserIdFromToken(String token) {
-        return Long.parseLong(Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject());
+    public Claims getClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /*
-     * 토큰에서 Role 추출
-     * 
-     * @param token JWT 토큰
-     * @return ROLE_ 접두사가 추가된 역할 문자열
+     * Access Token 만료 시간 (ms)
      */
-    public String getRoleFromToken(String token) {
-        String roleName = (String) Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("role");
-        
-        // ROLE_ 접두사 추가
-        return "ROLE_" + roleName;
+    public long getAccessTokenExpirationTime() {
+        return accessTokenExpirationTime;
     }
 
     /*
-     * 토큰 타입 확인
-     * 
-     * @param token JWT 토큰
-     * @return 토큰 타입 (ACCESS 또는 REFRESH)
+     * Refresh Token 만료 시간 (ms)
      */
-    public String getTokenType(String token) {
-        return (String) Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("type");
-    }
-
-    /*
-     * Refresh Token 여부 확인
-     * 
-     * @param token JWT 토큰
-     * @return Refresh Token인지 여부
-     */
-    public boolean isRefreshToken(String token) {
-        try {
-            String tokenType = getTokenType(token);
-            return "REFRESH".equals(tokenType);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    /*
-     * Access Token 여부 확인
-     * 
-     * @param token JWT 토큰
-     * @return Access Token인지 여부
-     */
-    public boolean isAccessToken(String token) {
-        try {
-            String tokenType = getTokenType(token);
-            return "ACCESS".equals(tokenType);
-        } catch (Exception e) {
-            return false;
-        }
+    public long getRefreshTokenExpirationTime() {
+        return refreshTokenExpirationTime;
     }
 
     /*
@@ -192,32 +152,6 @@ public class JwtTokenProvider {
         return List.of(new SimpleGrantedAuthority(role));
     }
 
-    /*
-     * 토큰 유효성 검증
-     * 
-     * @param token JWT 토큰
-     * @return 토큰이 유효한지 여부
-     * 
-     * 검증 항목: 만료 여부, 서명 유효성, 형식 검증
-     */
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            System.out.println("만료된 JWT 토큰입니다.");
-        } catch (UnsupportedJwtException e) {
-            System.out.println("지원하지 않는 JWT 토큰입니다.");
-        } catch (MalformedJwtException e) {
-            System.out.println("잘못된 JWT 서명입니다.");
-        } catch (IllegalArgumentException e) {
-            System.out.println("JWT claims 문자열이 비었습니다.");
-        } catch (SecurityException e) {
-            System.out.println("JWT 서명 검증에 실패했습니다.");
-        }
-        return false;
-    }
-
     /*
      * 쿠키에서 Access Token 추출
      * 
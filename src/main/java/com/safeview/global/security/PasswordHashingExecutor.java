@@ -0,0 +1,139 @@
+package com.safeview.global.security;
+
+import com.safeview.global.config.PasswordHashingConfig;
+import com.safeview.global.exception.ApiException;
+import com.safeview.global.response.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 비밀번호 해시 전용 실행기
+ *
+ * BCrypt 검증/해시를 요청 스레드가 아닌 CPU 코어 수 크기의 전용 풀에서 실행하는 클래스
+ * 로그인 폭주 시에도 해시 연산이 모든 코어와 요청 스레드를 점유하지 않도록 제한
+ * 대기열이 가득 차면 기다리지 않고 즉시 503 응답 (AUTH_BUSY)
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingConfig passwordHashingConfig;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder, PasswordHashingConfig passwordHashingConfig) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingConfig = passwordHashingConfig;
+
+        int workers = passwordHashingConfig.getWorkers() > 0
+                ? passwordHashingConfig.getWorkers()
+                : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, passwordHashingConfig.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 비밀번호 일치 확인
+     *
+     * @param rawPassword 입력 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치 여부
+     *
+     * 예외: 해시 작업 대기열 포화 또는 대기 시간 초과 (AUTH_BUSY)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     *
+     * @param rawPassword 원본 비밀번호
+     * @return 현재 설정(알고리즘, 강도)으로 생성한 해시
+     *
+     * 예외: 해시 작업 대기열 포화 또는 대기 시간 초과 (AUTH_BUSY)
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /*
+     * 저장된 해시가 현재 설정보다 오래된 방식(접두사 없음, 낮은 강도 등)인지 확인
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            log.warn("비밀번호 해시 대기열 포화: active={}, queued={}", executor.getActiveCount(), executor.getQueue().size());
+            throw new ApiException(ErrorCode.AUTH_BUSY);
+        }
+
+        try {
+            return future.get(passwordHashingConfig.getTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCount.incrementAndGet();
+            log.warn("비밀번호 해시 대기 시간 초과: timeoutMs={}", passwordHashingConfig.getTimeoutMs());
+            throw new ApiException(ErrorCode.AUTH_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.AUTH_BUSY);
+        } catch (ExecutionException e) {
+            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR, "비밀번호 확인 중 오류가 발생했습니다.");
+        }
+    }
+
+    // ===== 해시 작업 통계 =====
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+}
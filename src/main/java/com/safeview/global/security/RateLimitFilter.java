@@ -0,0 +1,204 @@
+package com.safeview.global.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safeview.global.config.RateLimitConfig;
+import com.safeview.global.response.ApiResponse;
+import com.safeview.global.response.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 요청 속도 제한 필터 클래스
+ *
+ * 설정된 엔드포인트에 대해 IP별, 이메일별 토큰 버킷으로 요청 속도를 제한하는 필터
+ * 제한 초과 시 컨트롤러까지 가지 않고 즉시 429 Too Many Requests 응답 반환
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final RateLimitConfig rateLimitConfig;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    /*
+     * 속도 제한 설정 및 제한기 주입을 위한 생성자
+     */
+    public RateLimitFilter(RateLimitConfig rateLimitConfig, RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimitConfig = rateLimitConfig;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RateLimitConfig.Rule rule = rateLimitConfig.isEnabled() ? findRule(request) : null;
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 1. IP 기준 제한 (본문을 읽기 전에 먼저 확인)
+        long waitNanos = rateLimiter.tryAcquire(
+                rule.getName() + ":ip:" + resolveClientIp(request), rule.getIpCapacity(), rule.getIpRefillPerMinute());
+        if (waitNanos > 0) {
+            reject(response, waitNanos);
+            return;
+        }
+
+        // 2. 이메일 기준 제한 (본문의 email 필드)
+        if (rule.getEmailCapacity() > 0) {
+            CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+            String email = cachedRequest.complete ? extractEmail(cachedRequest.body) : null;
+            if (email != null) {
+                waitNanos = rateLimiter.tryAcquire(
+                        rule.getName() + ":email:" + email, rule.getEmailCapacity(), rule.getEmailRefillPerMinute());
+                if (waitNanos > 0) {
+                    reject(response, waitNanos);
+                    return;
+                }
+            }
+            request = cachedRequest;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitConfig.Rule findRule(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        for (RateLimitConfig.Rule rule : rateLimitConfig.getRules()) {
+            if (rule.getMethod().equalsIgnoreCase(method) && uri.equals(rule.getPath())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String resolveClientIp(HttpServletRequest request) {
+        if (rateLimitConfig.isTrustForwardedFor()) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwarded)) {
+                // 신뢰 프록시가 추가한 항목 (왼쪽 항목은 클라이언트가 위조 가능)
+                String[] hops = forwarded.split(",");
+                int index = Math.max(0, hops.length - Math.max(1, rateLimitConfig.getTrustedProxyCount()));
+                return hops[index].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            if (email == null || !email.isTextual() || email.asText().isBlank()) {
+                return null;
+            }
+            return email.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            // 잘못된 본문은 컨트롤러의 입력값 검증에 맡김
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getHttpStatus().value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json;charset=UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.onFailure(ErrorCode.TOO_MANY_REQUESTS));
+    }
+
+    /*
+     * 본문 앞부분(최대 MAX_BODY_BYTES)을 미리 읽어 두고 다시 제공하는 요청 래퍼
+     * (이메일 추출 후에도 컨트롤러가 @RequestBody를 읽을 수 있도록 함)
+     * 본문이 더 길면 읽어 둔 앞부분 뒤에 원래 스트림을 이어서 제공
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+        private final boolean complete;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+            this.complete = body.length <= MAX_BODY_BYTES;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            InputStream in = complete
+                    ? new ByteArrayInputStream(body)
+                    : new SequenceInputStream(new ByteArrayInputStream(body), super.getInputStream());
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    try {
+                        return in.available() == 0;
+                    } catch (IOException e) {
+                        return true;
+                    }
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // 본문이 이미 메모리에 있으므로 바로 읽기 가능 상태를 알림
+                    try {
+                        readListener.onDataAvailable();
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() throws IOException {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.safeview.global.security;
+
+import com.safeview.global.config.RateLimitConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/*
+ * 토큰 버킷 속도 제한기
+ *
+ * 키(규칙 + IP 또는 이메일)별 토큰 버킷을 GCRA 방식으로 구현한 클래스
+ * 버킷 상태를 "다음 토큰 도착 예정 시각" 하나의 long 값으로 표현하여 CAS만으로 갱신 (잠금 없음)
+ * 버킷이 가득 찬 키는 상태가 없는 키와 같으므로 주기적으로 제거하여 메모리를 제한
+ * 키 상한에 도달하면 일부 키만 살펴 유휴 키(없으면 가장 먼저 유휴가 될 키)를 밀어내고 새 키를 추적
+ * (요청 스레드에서는 전체 정리하지 않고 정리 작업을 앞당겨 요청, 새 키를 일괄 거부하지 않음)
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    /*
+     * 키 상한 도달 시 밀어낼 키를 찾기 위해 살펴보는 최대 키 수
+     */
+    private static final int EVICTION_SCAN_LIMIT = 64;
+
+    private final RateLimitConfig rateLimitConfig;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    private final AtomicLong allowedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    private final AtomicBoolean sweepRequested = new AtomicBoolean();
+    private ScheduledExecutorService sweeper;
+
+    @Autowired
+    public RateLimiter(RateLimitConfig rateLimitConfig) {
+        this(rateLimitConfig, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitConfig rateLimitConfig, LongSupplier nanoClock) {
+        this.rateLimitConfig = rateLimitConfig;
+        this.nanoClock = nanoClock;
+    }
+
+    /*
+     * 유휴 키 정리 작업 시작
+     */
+    @PostConstruct
+    public void startSweeper() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = rateLimitConfig.getSweepIntervalMs();
+        sweeper.scheduleWithFixedDelay(this::sweepIdle, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopSweeper() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    /*
+     * 토큰 1개 사용 시도
+     *
+     * @param key 버킷 키
+     * @param capacity 버킷 크기
+     * @param refillPerMinute 분당 충전 토큰 수
+     * @return 허용 시 0, 거부 시 다음 토큰까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(String key, int capacity, int refillPerMinute) {
+        if (capacity <= 0 || refillPerMinute <= 0) {
+            return 0;
+        }
+        long interval = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        long tolerance = interval * (capacity - 1);
+        long now = nanoClock.getAsLong();
+
+        AtomicLong bucket = bucketFor(key, now);
+
+        while (true) {
+            long arrival = bucket.get();
+            long base = Math.max(arrival, now);
+            long allowAt = base - tolerance;
+            if (allowAt > now) {
+                rejectedCount.incrementAndGet();
+                return allowAt - now;
+            }
+            if (bucket.compareAndSet(arrival, base + interval)) {
+                allowedCount.incrementAndGet();
+                return 0;
+            }
+        }
+    }
+
+    private AtomicLong bucketFor(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= rateLimitConfig.getMaxKeys()) {
+            evictOne(now);
+            requestSweep();
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    /*
+     * 키 상한 도달 시 키 하나 밀어내기
+     *
+     * 최대 EVICTION_SCAN_LIMIT개만 살펴 유휴 키를 제거하고, 없으면 그중 가장 먼저 유휴가 될 키를 제거
+     * 밀려난 키는 버킷이 가득 찬 상태로 다시 시작하므로, 제한 중인 키보다 곧 유휴가 될 키를 우선
+     */
+    private void evictOne(long now) {
+        Map.Entry<String, AtomicLong> candidate = null;
+        Iterator<Map.Entry<String, AtomicLong>> iterator = buckets.entrySet().iterator();
+        for (int scanned = 0; scanned < EVICTION_SCAN_LIMIT && iterator.hasNext(); scanned++) {
+            Map.Entry<String, AtomicLong> entry = iterator.next();
+            if (entry.getValue().get() <= now) {
+                candidate = entry;
+                break;
+            }
+            if (candidate == null || entry.getValue().get() < candidate.getValue().get()) {
+                candidate = entry;
+            }
+        }
+        if (candidate != null && buckets.remove(candidate.getKey(), candidate.getValue())) {
+            evictedCount.incrementAndGet();
+        }
+    }
+
+    /*
+     * 정리 작업을 다음 주기 전에 한 번 실행하도록 요청 (요청 중복 시 한 번만 실행)
+     */
+    private void requestSweep() {
+        if (sweeper != null && sweepRequested.compareAndSet(false, true)) {
+            sweeper.execute(() -> {
+                sweepRequested.set(false);
+                sweepIdle();
+            });
+        }
+    }
+
+    /*
+     * 버킷이 가득 찬(유휴) 키 제거
+     */
+    void sweepIdle() {
+        long now = nanoClock.getAsLong();
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() <= now);
+    }
+
+    // ===== 속도 제한 통계 =====
+
+    public int getTrackedKeyCount() {
+        return buckets.size();
+    }
+
+    public long getAllowedCount() {
+        return allowedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+}
@@ -0,0 +1,196 @@
+package com.safeview.global.trace;
+
+import java.util.Arrays;
+
+/*
+ * 요청 단위 구간 시간 기록
+ *
+ * 요청을 처리하는 스레드에 연결되어 DB, S3, AI 서버, 블록체인 호출 등 구간별 소요 시간을 누적하는 클래스
+ * - 같은 이름의 구간은 호출 횟수와 합계 시간으로 합산
+ * - 구간 종류가 MAX_SPANS를 넘으면 이후 구간은 "other"로 합산
+ * - 진행 중인 요청이 없는 스레드(비동기 워커 등)에서는 아무것도 기록하지 않음
+ *
+ * 구간 이름은 호출부에서 상수 또는 캐시된 문자열로 전달하여 요청 중 할당을 최소화
+ */
+public final class RequestTrace {
+
+    /*
+     * 진행 중인 요청이 없을 때 startSpan()이 반환하는 값
+     */
+    public static final long NOT_TRACING = Long.MIN_VALUE;
+
+    private static final int INITIAL_SPANS = 8;
+    private static final int MAX_SPANS = 32;
+    private static final String OVERFLOW_SPAN = "other";
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final String method;
+    private final String uri;
+    private final long startNanos;
+    private String[] names = new String[INITIAL_SPANS];
+    private int[] counts = new int[INITIAL_SPANS];
+    private long[] nanos = new long[INITIAL_SPANS];
+    private int size;
+    private long totalNanos;
+
+    private RequestTrace(String method, String uri) {
+        this.method = method;
+        this.uri = uri;
+        this.startNanos = System.nanoTime();
+    }
+
+    /*
+     * 현재 스레드에서 요청 기록 시작
+     */
+    public static RequestTrace begin(String method, String uri) {
+        RequestTrace trace = new RequestTrace(method, uri);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /*
+     * 구간 시작 시각 (진행 중인 요청이 없으면 NOT_TRACING)
+     */
+    public static long startSpan() {
+        return CURRENT.get() != null ? System.nanoTime() : NOT_TRACING;
+    }
+
+    /*
+     * 구간 종료 및 누적
+     *
+     * @param name 구간 이름 (예: db:UserRepository.findByEmail)
+     * @param spanStart startSpan() 반환값
+     */
+    public static void endSpan(String name, long spanStart) {
+        if (spanStart == NOT_TRACING) {
+            return;
+        }
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.add(name, System.nanoTime() - spanStart);
+        }
+    }
+
+    /*
+     * 요청 기록 종료 (스레드 연결 해제)
+     *
+     * @return 요청 전체 소요 시간 (나노초)
+     */
+    public long finish() {
+        CURRENT.remove();
+        totalNanos = System.nanoTime() - startNanos;
+        return totalNanos;
+    }
+
+    void add(String name, long elapsedNanos) {
+        int index = indexOf(name);
+        counts[index]++;
+        nanos[index] += elapsedNanos;
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i] == name || names[i].equals(name)) {
+                return i;
+            }
+        }
+        if (size < MAX_SPANS - 1) {
+            if (size == names.length) {
+                grow();
+            }
+            names[size] = name;
+            return size++;
+        }
+        // 마지막 칸은 초과 구간 합산용
+        if (names[MAX_SPANS - 1] == null) {
+            names[MAX_SPANS - 1] = OVERFLOW_SPAN;
+            size = MAX_SPANS;
+        }
+        return MAX_SPANS - 1;
+    }
+
+    private void grow() {
+        int capacity = Math.min(names.length * 2, MAX_SPANS);
+        names = Arrays.copyOf(names, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        nanos = Arrays.copyOf(nanos, capacity);
+    }
+
+    /*
+     * 요청 1건의 구간별 소요 시간 기록 (JSON 한 줄)
+     *
+     * 예: {"method":"POST","uri":"/api/decryption/keys/verify/ai","status":200,"totalMs":12.41,
+     *      "spans":{"db:DecryptionKeyRepository.findByAccessToken":{"count":1,"ms":1.92},...},"otherMs":3.10}
+     * otherMs: 기록된 구간을 제외한 시간 (컨트롤러/직렬화/보안 필터 등)
+     */
+    public String toRecord(int status) {
+        StringBuilder record = new StringBuilder(128 + size * 64);
+        record.append("{\"method\":\"").append(method)
+                .append("\",\"uri\":\"");
+        appendEscaped(record, uri);
+        record.append("\",\"status\":").append(status)
+                .append(",\"totalMs\":");
+        appendMillis(record, totalNanos);
+        record.append(",\"spans\":{");
+        long spanNanos = 0;
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                record.append(',');
+            }
+            record.append('"');
+            appendEscaped(record, names[i]);
+            record.append("\":{\"count\":").append(counts[i]).append(",\"ms\":");
+            appendMillis(record, nanos[i]);
+            record.append('}');
+            spanNanos += nanos[i];
+        }
+        record.append("},\"otherMs\":");
+        appendMillis(record, Math.max(0, totalNanos - spanNanos));
+        return record.append('}').toString();
+    }
+
+    // ===== 조회 (테스트용) =====
+
+    long getSpanNanos(String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                return nanos[i];
+            }
+        }
+        return 0;
+    }
+
+    int getSpanCount(String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                return counts[i];
+            }
+        }
+        return 0;
+    }
+
+    private static void appendMillis(StringBuilder record, long nanos) {
+        // 소수점 둘째 자리까지 (10µs 단위)
+        long hundredths = nanos / 10_000;
+        record.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            record.append('0');
+        }
+        record.append(fraction);
+    }
+
+    private static void appendEscaped(StringBuilder record, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                record.append('\\').append(c);
+            } else if (c < 0x20) {
+                record.append(' ');
+            } else {
+                record.append(c);
+            }
+        }
+    }
+}
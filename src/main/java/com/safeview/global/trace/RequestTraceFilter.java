@@ -0,0 +1,45 @@
+package com.safeview.global.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 요청 구간 기록 필터
+ *
+ * 보안 필터 체인 가장 앞에서 요청 기록을 시작하고, 응답 후 구간별 소요 시간을 JSON 한 줄로 남기는 필터
+ * (보안 필터, 컨트롤러, 트랜잭션 커밋까지 포함한 전체 시간)
+ * minDurationMs 미만인 요청은 기록하지 않음 (0이면 모든 요청 기록)
+ */
+@Slf4j
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private final long minDurationNanos;
+
+    public RequestTraceFilter(long minDurationMs) {
+        this.minDurationNanos = TimeUnit.MILLISECONDS.toNanos(minDurationMs);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestTrace trace = RequestTrace.begin(request.getMethod(), request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long totalNanos = trace.finish();
+            if (totalNanos >= minDurationNanos && log.isInfoEnabled()) {
+                log.info(trace.toRecord(response.getStatus()));
+            }
+        }
+    }
+}
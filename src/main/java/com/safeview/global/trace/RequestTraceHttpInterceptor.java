@@ -0,0 +1,39 @@
+package com.safeview.global.trace;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/*
+ * RestTemplate 호출 구간 기록 인터셉터
+ *
+ * 외부 HTTP 호출(AI 서버)을 요청 구간으로 기록
+ * 구간 이름: http:{METHOD} {첫 번째 경로} (파일명 등 경로 변수로 구간이 늘어나지 않도록 첫 경로만 사용)
+ * 응답 본문 읽기 시간은 포함하지 않음 (본문 변환은 RestTemplate이 인터셉터 밖에서 수행)
+ */
+public class RequestTraceHttpInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = RequestTrace.startSpan();
+        if (start == RequestTrace.NOT_TRACING) {
+            return execution.execute(request, body);
+        }
+        try {
+            return execution.execute(request, body);
+        } finally {
+            RequestTrace.endSpan(spanName(request), start);
+        }
+    }
+
+    private static String spanName(HttpRequest request) {
+        String path = request.getURI().getPath();
+        int next = path == null ? -1 : path.indexOf('/', 1);
+        String firstSegment = path == null || path.isEmpty() ? "/" : next < 0 ? path : path.substring(0, next);
+        return "http:" + request.getMethod().name() + " " + firstSegment;
+    }
+}
@@ -0,0 +1,60 @@
+package com.safeview.global.trace;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 메서드 호출 구간 기록 인터셉터
+ *
+ * 리포지토리, S3 클라이언트, 블록체인 서비스 등 외부 자원 호출을 요청 구간으로 기록
+ * 구간 이름: {stage}:{component}.{method} (메서드별로 한 번만 생성하여 캐시)
+ */
+public class RequestTraceInterceptor implements MethodInterceptor {
+
+    private final String prefix;
+    private final Map<Method, String> spanNames = new ConcurrentHashMap<>();
+
+    /*
+     * @param stage 구간 종류 (db, s3, chain)
+     * @param component 호출 대상 이름 (예: DecryptionKeyRepository)
+     */
+    public RequestTraceInterceptor(String stage, String component) {
+        this.prefix = stage + ":" + component + ".";
+    }
+
+    /*
+     * 대상 객체의 인터페이스를 구간 기록 프록시로 감싸기
+     */
+    public static <T> T wrap(Class<T> type, T target, String stage, String component) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setInterfaces(type);
+        proxyFactory.addAdvice(new RequestTraceInterceptor(stage, component));
+        return type.cast(proxyFactory.getProxy());
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long start = RequestTrace.startSpan();
+        if (start == RequestTrace.NOT_TRACING) {
+            return invocation.proceed();
+        }
+        try {
+            return invocation.proceed();
+        } finally {
+            RequestTrace.endSpan(spanName(invocation.getMethod()), start);
+        }
+    }
+
+    private String spanName(Method method) {
+        String name = spanNames.get(method);
+        if (name == null) {
+            name = spanNames.computeIfAbsent(method, m -> prefix + m.getName());
+        }
+        return name;
+    }
+}
@@ -0,0 +1,24 @@
+package com.safeview.global.trace;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/*
+ * 커밋 구간을 기록하는 JPA 트랜잭션 매니저
+ *
+ * 커밋 시점의 flush(쓰기 지연된 INSERT/UPDATE)와 DB 커밋 시간을 tx:commit 구간으로 기록
+ */
+public class TracingJpaTransactionManager extends JpaTransactionManager {
+
+    private static final String COMMIT_SPAN = "tx:commit";
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        long start = RequestTrace.startSpan();
+        try {
+            super.doCommit(status);
+        } finally {
+            RequestTrace.endSpan(COMMIT_SPAN, start);
+        }
+    }
+}
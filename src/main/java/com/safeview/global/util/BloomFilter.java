@@ -0,0 +1,117 @@
+package com.safeview.global.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * 블룸 필터
+ *
+ * 문자열 집합의 포함 여부를 고정 크기 비트 배열로 근사 판별하는 클래스
+ * - mightContain == false: 확실히 없음
+ * - mightContain == true: 있을 수 있음 (오탐 가능, 원본 저장소로 재확인 필요)
+ * 비트 설정은 CAS로 처리하여 여러 스레드가 잠금 없이 동시에 추가/조회 가능
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.words = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    /*
+     * 예상 원소 수와 목표 오탐률로 최적 크기의 필터 생성
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        bits = Math.max(64, Math.min(bits, Integer.MAX_VALUE));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * 현재 추가된 원소 수 기준 예상 오탐률
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-hashCount * (double) insertions.get() / bitSize), hashCount);
+    }
+
+    public long getInsertionCount() {
+        return insertions.get();
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public long getMemoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long bit) {
+        int wordIndex = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word;
+        do {
+            word = words.get(wordIndex);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    /*
+     * 64비트 문자열 해시 (FNV-1a + MurmurHash3 finalizer)
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,129 @@
+package com.safeview.global.util;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DrbgParameters;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import static java.security.DrbgParameters.Capability.RESEED_ONLY;
+
+/*
+ * 암호 유틸리티
+ *
+ * 난수 키/토큰 생성과 SHA-256 해시를 담당하는 컴포넌트
+ * - 난수 생성기(DRBG)와 MessageDigest를 스레드별로 한 번만 만들어 재사용
+ *   (호출마다 new SecureRandom(), MessageDigest.getInstance() 하지 않음)
+ * - DRBG는 최초 사용 시 운영체제 엔트로피로 시드되며, 스레드 간 잠금 경합이 없음
+ * - 난수 바이트와 Base64 결과는 스레드별 버퍼에 채운 뒤 문자열 1개만 생성
+ */
+@Component
+public class CryptoUtil {
+
+    private static final Base64.Encoder STANDARD = Base64.getEncoder();
+    private static final Base64.Encoder URL_SAFE = Base64.getUrlEncoder().withoutPadding();
+
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(CryptoUtil::newSecureRandom);
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(CryptoUtil::newSha256);
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    /*
+     * 난수 바이트를 표준 Base64로 인코딩 (패딩 포함)
+     *
+     * @param byteLength 난수 바이트 수
+     */
+    public String randomBase64(int byteLength) {
+        return random(byteLength, STANDARD);
+    }
+
+    /*
+     * 난수 바이트를 URL-safe Base64로 인코딩 (패딩 없음, 쿠키/헤더/URL에 그대로 사용 가능)
+     *
+     * @param byteLength 난수 바이트 수
+     */
+    public String randomUrlSafe(int byteLength) {
+        return random(byteLength, URL_SAFE);
+    }
+
+    /*
+     * SHA-256 해시를 표준 Base64로 인코딩
+     *
+     * @param value 해시할 문자열 (UTF-8)
+     */
+    public String sha256Base64(String value) {
+        MessageDigest digest = SHA_256.get();
+        byte[] hash = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+        return encode(hash, STANDARD);
+    }
+
+    /*
+     * SHA-256 해시를 표준 Base64로 인코딩
+     *
+     * @param value 해시할 바이트 (응답 본문 ETag 등)
+     */
+    public String sha256Base64(byte[] value) {
+        MessageDigest digest = SHA_256.get();
+        return encode(digest.digest(value), STANDARD);
+    }
+
+    /*
+     * 스레드별 난수 생성기 (키 생성 외 난수가 필요한 곳에서 사용)
+     */
+    public SecureRandom secureRandom() {
+        return RANDOM.get();
+    }
+
+    private static String random(int byteLength, Base64.Encoder encoder) {
+        byte[] bytes = BUFFERS.get().random(byteLength);
+        RANDOM.get().nextBytes(bytes);
+        return encode(bytes, encoder);
+    }
+
+    private static String encode(byte[] bytes, Base64.Encoder encoder) {
+        byte[] encoded = BUFFERS.get().encoded(4 * ((bytes.length + 2) / 3));
+        int length = encoder.encode(bytes, encoded);
+        return new String(encoded, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static SecureRandom newSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG", DrbgParameters.instantiation(256, RESEED_ONLY, null));
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /*
+     * 스레드별 재사용 버퍼 (키/토큰 크기는 설정값으로 고정되어 있어 재할당이 거의 없음)
+     */
+    private static final class Buffers {
+
+        private byte[] random = new byte[32];
+        private byte[] encoded = new byte[64];
+
+        byte[] random(int length) {
+            if (random.length != length) {
+                random = new byte[length];
+            }
+            return random;
+        }
+
+        byte[] encoded(int minLength) {
+            if (encoded.length < minLength) {
+                encoded = new byte[minLength];
+            }
+            return encoded;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.safeview.global.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 인터페이스 호출 시간 측정 프록시
+ *
+ * 대상 객체를 인터페이스 프록시로 감싸 모든 메서드 호출을 하나의 타이머 이름으로 기록하는 클래스
+ * 태그: method (메서드 이름), outcome (success | error), exception (예외 클래스 이름, 성공 시 none)
+ * 메서드별 타이머는 최초 호출 시 한 번만 조회하여 캐시 (Object 메서드는 측정하지 않음)
+ */
+public final class TimedProxy implements InvocationHandler {
+
+    private final Object target;
+    private final MeterRegistry registry;
+    private final String metricName;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+    private TimedProxy(Object target, MeterRegistry registry, String metricName) {
+        this.target = target;
+        this.registry = registry;
+        this.metricName = metricName;
+    }
+
+    /*
+     * 대상 객체를 측정 프록시로 감싸기
+     */
+    public static <T> T wrap(Class<T> type, T target, MeterRegistry registry, String metricName) {
+        Object proxy = Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[]{type}, new TimedProxy(target, registry, metricName));
+        return type.cast(proxy);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(target, args);
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = method.invoke(target, args);
+            successTimers.computeIfAbsent(method, m -> timer(m, "success", "none"))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            timer(method, "error", cause.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw cause;
+        }
+    }
+
+    private Timer timer(Method method, String outcome, String exception) {
+        return Timer.builder(metricName)
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(registry);
+    }
+}
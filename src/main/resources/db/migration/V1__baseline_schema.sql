@@ -0,0 +1,99 @@
+-- 기준 스키마 (V1)
+-- ddl-auto: update 로 생성되던 스키마와 동일 (제약 조건 이름 포함, 테이블 엔진은 MySQL 기본값 InnoDB)
+-- 기존 DB는 baseline-on-migrate로 V1을 건너뛰고 V2부터 적용하므로, 기존 DB에 이미 있는 테이블만 둠
+-- (새 테이블은 V2 이후 마이그레이션에서 생성)
+
+create table admin_requests (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    processed_at datetime(6),
+    processed_by bigint,
+    updated_at datetime(6) not null,
+    user_id bigint not null,
+    title varchar(100) not null,
+    admin_comment TEXT,
+    description TEXT,
+    status enum ('APPROVED','CANCELLED','PENDING','REJECTED') not null,
+    primary key (id)
+);
+
+create table blockchain_transactions (
+    gas_price decimal(38,2),
+    block_number bigint,
+    confirmed_at datetime(6),
+    created_at datetime(6) not null,
+    gas_used bigint,
+    tx_id bigint not null auto_increment,
+    updated_at datetime(6) not null,
+    error_message TEXT,
+    from_address varchar(255) not null,
+    status varchar(255) not null,
+    to_address varchar(255) not null,
+    tx_hash varchar(255) not null,
+    tx_type varchar(255) not null,
+    primary key (tx_id)
+);
+
+create table decryption_keys (
+    remaining_uses integer not null,
+    created_at datetime(6) not null,
+    expires_at datetime(6),
+    issued_at datetime(6) not null,
+    key_id bigint not null auto_increment,
+    last_used_at datetime(6),
+    revoked_at datetime(6),
+    updated_at datetime(6) not null,
+    user_id bigint not null,
+    access_token varchar(255),
+    blockchain_tx_hash varchar(255) not null,
+    encrypted_key TEXT not null,
+    key_hash varchar(255) not null,
+    key_type varchar(255) not null,
+    revocation_reason varchar(255),
+    status varchar(255) not null,
+    usage_history TEXT,
+    primary key (key_id)
+);
+
+create table users (
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    user_id bigint not null auto_increment,
+    email varchar(50) not null,
+    address varchar(255) not null,
+    birthday varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    phone varchar(255) not null,
+    gender enum ('FEMALE','MALE') not null,
+    role enum ('ADMIN','MODERATOR','USER') not null,
+    primary key (user_id)
+);
+
+create table video (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6) not null,
+    user_id bigint,
+    filename varchar(255),
+    s3_url varchar(255),
+    primary key (id)
+);
+
+alter table blockchain_transactions
+   add constraint UKep7oc4agxmx4ykki2orgr00qu unique (tx_hash);
+
+alter table decryption_keys
+   add constraint UK1pst1gbaohq2xyiloirvgs628 unique (access_token);
+
+alter table decryption_keys
+   add constraint UKc6ietwbgdkp9rk5uq61amlrwu unique (blockchain_tx_hash);
+
+alter table decryption_keys
+   add constraint UKfddp79ptc0c2bkgctkqhnumik unique (key_hash);
+
+alter table users
+   add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table users
+   add constraint UKdu5v5sr43g5bfnji4vb8hg5s3 unique (phone);
@@ -0,0 +1,18 @@
+-- 조회 쿼리용 인덱스 (V2)
+-- 각 인덱스가 담당하는 리포지토리 쿼리는 QueryPlanTest에서 EXPLAIN으로 검증
+
+-- 영상: 사용자별 목록(findAllByUserId), 파일명 조회(findByFilename)
+create index idx_video_user_id on video (user_id);
+create index idx_video_filename on video (filename);
+
+-- 권한 요청: 상태별 최신순 목록(findByStatusOrderByCreatedAtDesc), 전체 최신순 목록(findAllByOrderByCreatedAtDesc)
+create index idx_admin_requests_status_created_at on admin_requests (status, created_at);
+create index idx_admin_requests_created_at on admin_requests (created_at);
+
+-- 권한 요청: 사용자별 상태 조회/대기 건수(countPendingRequestsByUserId), 사용자별 최신순 목록(findByUserIdOrderByCreatedAtDesc)
+create index idx_admin_requests_user_id_status on admin_requests (user_id, status);
+create index idx_admin_requests_user_id_created_at on admin_requests (user_id, created_at);
+
+-- 복호화 키: 유효 키 조회(findFirstByUserIdAndStatusAndExpiresAtAfterAndRemainingUsesGreaterThanOrderByIssuedAtDesc)
+-- 조건 컬럼을 모두 포함해 행을 읽기 전에 인덱스에서 걸러냄, 사용자별 키 목록(findByUserId)도 선두 컬럼으로 처리
+create index idx_decryption_keys_valid_lookup on decryption_keys (user_id, status, expires_at, remaining_uses, issued_at);
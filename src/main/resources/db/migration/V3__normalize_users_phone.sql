@@ -0,0 +1,41 @@
+-- 전화번호 정규화와 users 고유 제약조건 이름 변경 (V3)
+-- 회원가입/정보 수정은 중복 확인 조회 없이 INSERT/UPDATE 하고, 제약조건 위반을 이름으로 구분해
+-- EMAIL_ALREADY_EXISTS / PHONE_ALREADY_EXISTS로 변환 (User.EMAIL_UNIQUE_CONSTRAINT, User.PHONE_UNIQUE_CONSTRAINT)
+
+-- 정규화하면 같은 번호가 되는 계정(하이픈 유무만 다른 중복 가입 등)은 고유 제약조건을 위반하므로
+-- 정규화하지 않고 원래 값을 유지한 채 users_phone_conflicts에 기록 (운영자가 확인 후 정리)
+create table users_phone_conflicts (
+    user_id bigint not null,
+    phone varchar(255) not null,
+    normalized_phone varchar(255) not null,
+    primary key (user_id)
+);
+
+insert into users_phone_conflicts (user_id, phone, normalized_phone)
+select u.user_id, u.phone, replace(replace(u.phone, '-', ''), ' ', '')
+  from users u
+ where replace(replace(u.phone, '-', ''), ' ', '') in (
+        select normalized_phone
+          from (select replace(replace(phone, '-', ''), ' ', '') as normalized_phone
+                  from users
+                 group by replace(replace(phone, '-', ''), ' ', '')
+                having count(*) > 1) duplicated);
+
+-- 나머지 전화번호를 애플리케이션과 같은 형식(하이픈, 공백 제거)으로 정규화
+update users
+   set phone = replace(replace(phone, '-', ''), ' ', '')
+ where (phone like '%-%' or phone like '% %')
+   and user_id not in (select user_id from users_phone_conflicts);
+
+-- 기존 제약조건을 먼저 삭제 (새 제약조건이 기존 인덱스를 재사용하면 위반 시 기존 이름이 보고됨)
+alter table users
+   drop constraint UK6dotkott2kjsp8vw4d0m25fb7;
+
+alter table users
+   add constraint uk_users_email unique (email);
+
+alter table users
+   drop constraint UKdu5v5sr43g5bfnji4vb8hg5s3;
+
+alter table users
+   add constraint uk_users_phone unique (phone);
@@ -0,0 +1,8 @@
+-- 관리자 권한 요청 목록 키셋 페이지네이션 (V4)
+-- 목록 정렬 키는 (created_at DESC, id DESC), InnoDB 보조 인덱스는 끝에 기본 키(id)를 포함하므로
+-- 조건 컬럼 + created_at 인덱스로 정렬 없이 커서 이후 행만 읽음 (AdminRequestRepositoryImpl.findSummaries)
+
+-- 사용자+상태 조건 목록: 기존 (user_id, status) 인덱스를 created_at까지 확장
+-- 사용자별 대기 건수(countPendingRequestsByUserId)는 선두 컬럼으로 계속 처리
+create index idx_admin_requests_user_id_status_created_at on admin_requests (user_id, status, created_at);
+drop index idx_admin_requests_user_id_status on admin_requests;
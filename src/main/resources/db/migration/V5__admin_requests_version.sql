@@ -0,0 +1,3 @@
+-- 권한 요청 낙관적 잠금 (V5)
+-- 승인/거절은 version을 조건으로 UPDATE 하므로, 두 관리자가 같은 요청을 동시에 처리하면 나중 쪽이 실패 (AdminRequest.version)
+alter table admin_requests add column version bigint not null default 0;
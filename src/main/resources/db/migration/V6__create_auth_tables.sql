@@ -0,0 +1,44 @@
+-- 인증 관련 테이블 (V6)
+-- 기준 스키마(V1) 이후 추가된 테이블, baseline-on-migrate로 V1을 건너뛴 기존 DB에도 생성됨
+-- - email_verifications: 이메일 인증번호 (JdbcEmailVerificationStore)
+-- - refresh_tokens: Refresh Token family 회전/폐기 (RefreshTokenServiceImpl)
+-- - access_token_denials: Access Token 차단 목록 (AccessTokenDenylist)
+
+create table email_verifications (
+    verified bit not null,
+    expires_at datetime(6) not null,
+    code varchar(10),
+    email varchar(50) not null,
+    primary key (email)
+);
+
+create index idx_email_verifications_expires_at
+   on email_verifications (expires_at);
+
+create table refresh_tokens (
+    expires_at datetime(6) not null,
+    issued_at datetime(6) not null,
+    user_id bigint not null,
+    family_id varchar(36) not null,
+    token_id varchar(36) not null,
+    status enum ('ACTIVE','REVOKED','ROTATED') not null,
+    primary key (token_id)
+);
+
+create index idx_refresh_tokens_family_id
+   on refresh_tokens (family_id);
+
+create index idx_refresh_tokens_expires_at
+   on refresh_tokens (expires_at);
+
+create table access_token_denials (
+    expires_at datetime(6) not null,
+    id bigint not null auto_increment,
+    not_before datetime(6),
+    user_id bigint not null,
+    token_id varchar(36),
+    primary key (id)
+);
+
+create index idx_access_token_denials_expires_at
+   on access_token_denials (expires_at);
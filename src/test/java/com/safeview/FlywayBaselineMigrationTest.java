@@ -0,0 +1,102 @@
+package com.safeview;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 기존 DB 기준선 등록 마이그레이션 검증
+ *
+ * ddl-auto로 만들어진 기존 DB(V1 테이블만 있고 이력 없음)에 baseline-on-migrate로 V1을 건너뛰고
+ * V2부터 적용해도 모든 마이그레이션이 성공하고 V1 이후 추가된 테이블이 생성되는지 확인
+ * 기존 데이터가 있는 상태에서 데이터 변경 마이그레이션이 제약조건을 위반하지 않는지 확인
+ */
+class FlywayBaselineMigrationTest {
+
+    @Test
+    void 기존_DB는_V1을_건너뛰고_이후_테이블까지_생성된다() throws SQLException {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:flyway-baseline;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+
+        // 기존 DB: V1 스키마만 있고 Flyway 이력 없음
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        execute(dataSource, "drop table \"flyway_schema_history\"");
+
+        // V1에는 Flyway 도입 전부터 운영 DB에 있던 테이블만 있어야 함
+        assertThat(tableNames(dataSource))
+                .containsExactlyInAnyOrder("users", "admin_requests", "blockchain_transactions", "decryption_keys", "video");
+
+        Flyway.configure().dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertThat(tableNames(dataSource))
+                .contains("users", "admin_requests", "blockchain_transactions", "decryption_keys", "video",
+                        "email_verifications", "refresh_tokens", "access_token_denials");
+    }
+
+    @Test
+    void 정규화하면_겹치는_전화번호는_그대로_두고_충돌_목록에_기록한다() throws SQLException {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:flyway-phone;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).target("2").load().migrate();
+
+        insertUser(dataSource, 1, "a@safeview.com", "010-1234-5678");
+        insertUser(dataSource, 2, "b@safeview.com", "01012345678");
+        insertUser(dataSource, 3, "c@safeview.com", "010 9999 0000");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertThat(query(dataSource, "select phone from users order by user_id"))
+                .containsExactly("010-1234-5678", "01012345678", "01099990000");
+        assertThat(query(dataSource, "select user_id from users_phone_conflicts order by user_id"))
+                .containsExactly("1", "2");
+    }
+
+    private void insertUser(DataSource dataSource, long userId, String email, String phone) throws SQLException {
+        execute(dataSource, "insert into users (user_id, created_at, updated_at, email, address, birthday, name, "
+                + "password, phone, gender, role) values (" + userId + ", now(), now(), '" + email + "', "
+                + "'addr', '2000-01-01', 'name', 'pw', '" + phone + "', 'MALE', 'USER')");
+    }
+
+    private List<String> query(DataSource dataSource, String sql) throws SQLException {
+        List<String> values = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+        }
+        return values;
+    }
+
+    private void execute(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private List<String> tableNames(DataSource dataSource) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet tables = connection.getMetaData().getTables(null, "public", "%", new String[]{"TABLE"})) {
+            while (tables.next()) {
+                names.add(tables.getString("TABLE_NAME"));
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,190 @@
+package com.safeview;
+
+import com.safeview.domain.administrator.dto.AdminRequestCursor;
+import com.safeview.domain.administrator.entity.AdminRequestStatus;
+import com.safeview.domain.administrator.repository.AdminRequestRepository;
+import com.safeview.domain.auth.repository.AccessTokenDenialRepository;
+import com.safeview.domain.auth.repository.RefreshTokenRepository;
+import com.safeview.domain.decryption.repository.BlockchainTransactionRepository;
+import com.safeview.domain.decryption.repository.DecryptionKeyRepository;
+import com.safeview.domain.user.repository.EmailVerificationRepository;
+import com.safeview.domain.user.repository.UserRepository;
+import com.safeview.domain.video.repository.VideoRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 리포지토리 쿼리 실행 계획 검증
+ *
+ * Flyway 마이그레이션으로 만든 스키마(임베디드 H2, MySQL 호환 모드)에서 서비스가 사용하는 쿼리를 실제로 실행해 SQL을 수집하고,
+ * 각 SQL을 EXPLAIN 해서 전체 테이블 스캔(tableScan)이 있으면 실패
+ * 새 쿼리를 추가하면 여기에도 추가하고, 필요한 인덱스는 db/migration에 마이그레이션으로 추가
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.safeview.QueryPlanTest$SqlCapture"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final AdminRequestCursor CURSOR = new AdminRequestCursor(NOW, 100L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private AdminRequestRepository adminRequestRepository;
+
+    @Autowired
+    private DecryptionKeyRepository decryptionKeyRepository;
+
+    @Autowired
+    private BlockchainTransactionRepository blockchainTransactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmailVerificationRepository emailVerificationRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private AccessTokenDenialRepository accessTokenDenialRepository;
+
+    @Test
+    void 영상_쿼리는_인덱스를_사용한다() {
+        assertNoFullScan(Map.of(
+                "findAllByUserId", () -> videoRepository.findAllByUserId(1L),
+                "findByFilename", () -> videoRepository.findByFilename("video_0.mp4"),
+                "countByUserId", () -> videoRepository.countByUserId(1L)));
+    }
+
+    @Test
+    void 권한_요청_쿼리는_인덱스를_사용한다() {
+        assertNoFullScan(Map.of(
+                "findByStatusOrderByCreatedAtDesc(page)", () -> adminRequestRepository.findByStatusOrderByCreatedAtDesc(
+                        AdminRequestStatus.PENDING, PageRequest.of(0, 10)),
+                "findByUserIdOrderByCreatedAtDesc", () -> adminRequestRepository.findByUserIdOrderByCreatedAtDesc(1L),
+                "countPendingRequestsByUserId", () -> adminRequestRepository.countPendingRequestsByUserId(1L),
+                "findSummaries", () -> adminRequestRepository.findSummaries(null, null, CURSOR, 21),
+                "findSummaries(status)", () -> adminRequestRepository.findSummaries(AdminRequestStatus.PENDING, null, CURSOR, 21),
+                "findSummaries(user)", () -> adminRequestRepository.findSummaries(null, 1L, CURSOR, 21),
+                "findSummaries(user, status)", () -> adminRequestRepository.findSummaries(
+                        AdminRequestStatus.PENDING, 1L, CURSOR, 21)));
+    }
+
+    @Test
+    void 복호화_키_쿼리는_인덱스를_사용한다() {
+        assertNoFullScan(Map.of(
+                "findFirstByUserIdAndStatus...", () -> decryptionKeyRepository
+                        .findFirstByUserIdAndStatusAndExpiresAtAfterAndRemainingUsesGreaterThanOrderByIssuedAtDesc(1L, "ACTIVE", NOW, 0),
+                "findByUserId", () -> decryptionKeyRepository.findByUserId(1L, PageRequest.of(0, 10, Sort.by("issuedAt").descending())),
+                "findByKeyHash", () -> decryptionKeyRepository.findByKeyHash("hash"),
+                "findByAccessToken", () -> decryptionKeyRepository.findByAccessToken("token"),
+                "findByTxHash", () -> blockchainTransactionRepository.findByTxHash("0x0")));
+    }
+
+    @Test
+    void 사용자와_인증_쿼리는_인덱스를_사용한다() {
+        assertNoFullScan(Map.of(
+                "findByEmail", () -> userRepository.findByEmail("user@safeview.com"),
+                "existsByEmail", () -> userRepository.existsByEmail("user@safeview.com"),
+                "findEmailsAfter", () -> userRepository.findEmailsAfter(0L, PageRequest.of(0, 1000)),
+                "existsByEmailAndVerifiedTrueAndExpiresAtAfter", () -> emailVerificationRepository
+                        .existsByEmailAndVerifiedTrueAndExpiresAtAfter("user@safeview.com", NOW),
+                "upsert", () -> emailVerificationRepository.upsert("user@safeview.com", "123456", NOW),
+                "markVerified", () -> emailVerificationRepository.markVerified("user@safeview.com", "123456", NOW, NOW),
+                "findExpiredEmails", () -> emailVerificationRepository.findExpiredEmails(NOW, PageRequest.of(0, 100)),
+                "deleteExpired(email)", () -> emailVerificationRepository.deleteExpired(List.of("user@safeview.com"), NOW)));
+    }
+
+    @Test
+    void 토큰_쿼리는_인덱스를_사용한다() {
+        assertNoFullScan(Map.of(
+                "markRotated", () -> refreshTokenRepository.markRotated("token", NOW),
+                "revokeFamily", () -> refreshTokenRepository.revokeFamily("family"),
+                "findExpiredTokenIds", () -> refreshTokenRepository.findExpiredTokenIds(NOW, PageRequest.of(0, 100)),
+                "deleteExpired(refresh)", () -> refreshTokenRepository.deleteExpired(List.of("token"), NOW),
+                "findActive", () -> accessTokenDenialRepository.findActive(NOW),
+                "findAddedAfter", () -> accessTokenDenialRepository.findAddedAfter(0L, PageRequest.of(0, 100)),
+                "findExpiredIds", () -> accessTokenDenialRepository.findExpiredIds(NOW, PageRequest.of(0, 100)),
+                "deleteExpired(denial)", () -> accessTokenDenialRepository.deleteExpired(List.of(1L), NOW)));
+    }
+
+    private void assertNoFullScan(Map<String, Runnable> queries) {
+        List<String> fullScans = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            SqlCapture.STATEMENTS.clear();
+            query.run();
+            assertThat(SqlCapture.STATEMENTS).as(name).isNotEmpty();
+            for (String sql : SqlCapture.STATEMENTS) {
+                String plan = explain(sql);
+                if (plan.contains(".tableScan")) {
+                    fullScans.add(name + "\n  " + plan.replace("\n", "\n  "));
+                }
+            }
+        });
+        assertThat(fullScans).as("전체 테이블 스캔 쿼리").isEmpty();
+    }
+
+    /*
+     * 바인딩 값 없이 실행 계획만 조회 (파라미터는 NULL로 채움, 인덱스 선택은 값과 무관)
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((java.sql.Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    /*
+     * Hibernate가 실행하는 SQL 수집
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.safeview.domain.administrator.repository;
+
+import com.safeview.domain.administrator.dto.AdminRequestCursor;
+import com.safeview.domain.administrator.dto.AdminRequestSummaryForAdminDto;
+import com.safeview.domain.administrator.entity.AdminRequestStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * 관리자 권한 요청 목록 키셋 페이지네이션 검증
+ *
+ * 생성일시가 같은 요청이 여러 건 있어도 (created_at, id) 커서로 빠짐/중복 없이 최신순으로 이어지는지 확인
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminRequestRepositoryPagingTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final AdminRequestStatus[] STATUSES = {
+            AdminRequestStatus.PENDING, AdminRequestStatus.APPROVED, AdminRequestStatus.REJECTED};
+
+    @Autowired
+    private AdminRequestRepository adminRequestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        adminRequestRepository.deleteAllInBatch();
+        // 25건, 생성일시는 3건씩 같은 값 (같은 생성일시 안에서는 ID로 순서 결정)
+        for (int i = 0; i < 25; i++) {
+            LocalDateTime createdAt = BASE.plusMinutes(i / 3);
+            jdbcTemplate.update("""
+                    INSERT INTO admin_requests (user_id, title, status, created_at, updated_at)
+                    VALUES (?, ?, ?, ?, ?)""", (long) (i % 2 + 1), "요청 " + i, STATUSES[i % 3].name(), createdAt, createdAt);
+        }
+    }
+
+    @Test
+    void 커서를_따라가면_전체_목록을_최신순으로_빠짐없이_한_번씩_읽는다() {
+        assertThat(walk(null, null, 4)).extracting(AdminRequestSummaryForAdminDto::getId)
+                .containsExactlyElementsOf(expected(null, null));
+    }
+
+    @Test
+    void 상태와_사용자_조건을_함께_적용한다() {
+        assertThat(walk(AdminRequestStatus.PENDING, null, 2)).extracting(AdminRequestSummaryForAdminDto::getId)
+                .containsExactlyElementsOf(expected(AdminRequestStatus.PENDING, null))
+                .hasSize(9);
+        assertThat(walk(null, 2L, 5)).extracting(AdminRequestSummaryForAdminDto::getId)
+                .containsExactlyElementsOf(expected(null, 2L));
+        assertThat(walk(AdminRequestStatus.APPROVED, 1L, 1))
+                .allSatisfy(request -> {
+                    assertThat(request.getStatus()).isEqualTo(AdminRequestStatus.APPROVED);
+                    assertThat(request.getUserId()).isEqualTo(1L);
+                })
+                .extracting(AdminRequestSummaryForAdminDto::getId)
+                .containsExactlyElementsOf(expected(AdminRequestStatus.APPROVED, 1L));
+    }
+
+    @Test
+    void 잘못된_커서는_거부한다() {
+        assertThatThrownBy(() -> AdminRequestCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /*
+     * 커서 문자열을 주고받으며 마지막 페이지까지 조회
+     */
+    private List<AdminRequestSummaryForAdminDto> walk(AdminRequestStatus status, Long userId, int size) {
+        List<AdminRequestSummaryForAdminDto> all = new ArrayList<>();
+        String cursor = null;
+        while (true) {
+            List<AdminRequestSummaryForAdminDto> page = adminRequestRepository.findSummaries(
+                    status, userId, cursor == null ? null : AdminRequestCursor.decode(cursor), size);
+            all.addAll(page);
+            if (page.size() < size) {
+                return all;
+            }
+            cursor = AdminRequestCursor.after(page.get(page.size() - 1)).encode();
+        }
+    }
+
+    private List<Long> expected(AdminRequestStatus status, Long userId) {
+        StringBuilder sql = new StringBuilder("SELECT id FROM admin_requests WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status.name());
+        }
+        if (userId != null) {
+            sql.append(" AND user_id = ?");
+            args.add(userId);
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC");
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+}
@@ -0,0 +1,139 @@
+package com.safeview.domain.administrator.service;
+
+import com.safeview.domain.administrator.entity.AdminRequestStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 관리자 대시보드 카운터 검증 (DB 집계로 보정, 커밋 후 증감 반영)
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "admin.dashboard.reconcile-interval-ms=3600000"
+})
+@Import(AdminDashboardCounters.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminDashboardCountersTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Autowired
+    private AdminDashboardCounters counters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM admin_requests");
+        jdbcTemplate.update("DELETE FROM video");
+        jdbcTemplate.update("DELETE FROM decryption_keys");
+        jdbcTemplate.update("DELETE FROM blockchain_transactions");
+
+        request(1L, AdminRequestStatus.PENDING);
+        request(2L, AdminRequestStatus.PENDING);
+        request(3L, AdminRequestStatus.APPROVED);
+        video(1L, "a.mp4");
+        video(1L, "b.mp4");
+        video(2L, "c.mp4");
+        key("ACTIVE", NOW.plusDays(1), 3);
+        key("ACTIVE", NOW.plusDays(1), 0);
+        key("ACTIVE", NOW.minusDays(1), 3);
+        key("REVOKED", NOW.plusDays(1), 3);
+        transaction("0x1", "PENDING");
+        transaction("0x2", "FAILED");
+        transaction("0x3", "CONFIRMED");
+        counters.reconcile();
+    }
+
+    @Test
+    void 보정하면_DB_집계와_같아진다() {
+        assertThat(counters.getPendingRequestCount()).isEqualTo(2);
+        assertThat(counters.getRequestCount(AdminRequestStatus.APPROVED)).isEqualTo(1);
+        assertThat(counters.getRequestCount(AdminRequestStatus.REJECTED)).isZero();
+        assertThat(counters.getTotalVideoCount()).isEqualTo(3);
+        // 만료, 사용 횟수 소진, 취소된 키는 제외
+        assertThat(counters.getActiveKeyCount()).isEqualTo(1);
+        assertThat(counters.getPendingTransactionCount()).isEqualTo(1);
+        assertThat(counters.getFailedTransactionCount()).isEqualTo(1);
+        assertThat(counters.getReconciledAt()).isNotNull();
+    }
+
+    @Test
+    void 트랜잭션_안의_증감은_커밋된_경우에만_반영한다() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            counters.adminRequestProcessed(AdminRequestStatus.REJECTED);
+            counters.videoSaved();
+            status.setRollbackOnly();
+        });
+        assertThat(counters.getPendingRequestCount()).isEqualTo(2);
+        assertThat(counters.getTotalVideoCount()).isEqualTo(3);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            counters.adminRequestProcessed(AdminRequestStatus.REJECTED);
+            counters.videoSaved();
+            // 커밋 전에는 반영하지 않음
+            assertThat(counters.getPendingRequestCount()).isEqualTo(2);
+        });
+        assertThat(counters.getPendingRequestCount()).isEqualTo(1);
+        assertThat(counters.getRequestCount(AdminRequestStatus.REJECTED)).isEqualTo(1);
+        assertThat(counters.getTotalVideoCount()).isEqualTo(4);
+    }
+
+    @Test
+    void DB에_없는_증감은_다음_보정에서_바로잡는다() {
+        counters.videoSaved();
+        counters.keyIssued();
+        counters.blockchainTransactionRecorded("PENDING");
+
+        counters.reconcile();
+
+        assertThat(counters.getTotalVideoCount()).isEqualTo(3);
+        assertThat(counters.getActiveKeyCount()).isEqualTo(1);
+        assertThat(counters.getPendingTransactionCount()).isEqualTo(1);
+    }
+
+    private void request(Long userId, AdminRequestStatus status) {
+        jdbcTemplate.update("""
+                INSERT INTO admin_requests (user_id, title, status, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?)""", userId, "권한 요청", status.name(), NOW, NOW);
+    }
+
+    private void video(Long userId, String filename) {
+        jdbcTemplate.update("""
+                INSERT INTO video (user_id, filename, s3_url, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?)""", userId, filename, "https://s3/" + filename, NOW, NOW);
+    }
+
+    private void key(String status, LocalDateTime expiresAt, int remainingUses) {
+        String hash = "hash-" + status + "-" + expiresAt + "-" + remainingUses;
+        jdbcTemplate.update("""
+                INSERT INTO decryption_keys (user_id, encrypted_key, key_hash, key_type, status, blockchain_tx_hash,
+                                             remaining_uses, issued_at, expires_at, created_at, updated_at)
+                VALUES (1, 'encrypted', ?, 'CCTV_AES256', ?, ?, ?, ?, ?, ?, ?)""",
+                hash, status, "0x" + hash, remainingUses, NOW, expiresAt, NOW, NOW);
+    }
+
+    private void transaction(String txHash, String status) {
+        jdbcTemplate.update("""
+                INSERT INTO blockchain_transactions (tx_hash, from_address, to_address, status, tx_type, created_at, updated_at)
+                VALUES (?, '0xfrom', '0xto', ?, 'CCTV_KEY_ISSUANCE', ?, ?)""", txHash, status, NOW, NOW);
+    }
+}
@@ -0,0 +1,179 @@
+package com.safeview.domain.administrator.service;
+
+import com.safeview.domain.administrator.dto.AdminRequestBulkResultDto;
+import com.safeview.domain.administrator.dto.AdminRequestProcessDto.ProcessType;
+import com.safeview.domain.administrator.entity.AdminRequest;
+import com.safeview.domain.administrator.entity.AdminRequestStatus;
+import com.safeview.domain.administrator.mapper.AdminRequestMapper;
+import com.safeview.domain.administrator.repository.AdminRequestRepository;
+import com.safeview.domain.user.entity.Gender;
+import com.safeview.domain.user.entity.Role;
+import com.safeview.domain.user.entity.User;
+import com.safeview.domain.user.repository.UserRepository;
+import com.safeview.domain.user.service.UserProfileCache;
+import com.safeview.global.exception.ApiException;
+import com.safeview.global.response.ErrorCode;
+import com.safeview.global.security.AccessTokenDenylist;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/*
+ * 권한 요청 일괄 승인/거절 검증 (요청별 결과, 역할 일괄 변경, 낙관적 잠금)
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.safeview.domain.administrator.service.AdminManagementServiceImplBulkTest$SqlCapture"
+})
+@Import({AdminManagementServiceImpl.class, AdminRequestMapper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminManagementServiceImplBulkTest {
+
+    @Autowired
+    private AdminManagementServiceImpl adminManagementService;
+
+    @Autowired
+    private AdminRequestRepository adminRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @MockitoBean
+    private UserProfileCache userProfileCache;
+
+    @MockitoBean
+    private AdminDashboardCounters adminDashboardCounters;
+
+    private Long adminId;
+    private Long userA;
+    private Long userB;
+    private Long moderator;
+
+    @BeforeEach
+    void setUp() {
+        adminRequestRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        adminId = userRepository.save(User.createAdmin("admin@safeview.com", "encoded", "관리자", "서울",
+                "01000000000", Gender.MALE, "1980-01-01")).getId();
+        userA = userRepository.save(User.createUser("a@safeview.com", "encoded", "사용자A", "서울",
+                "01011111111", Gender.MALE, "1990-01-01")).getId();
+        userB = userRepository.save(User.createUser("b@safeview.com", "encoded", "사용자B", "서울",
+                "01022222222", Gender.FEMALE, "1991-01-01")).getId();
+        moderator = userRepository.save(User.createModerator("m@safeview.com", "encoded", "중간관리자", "서울",
+                "01033333333", Gender.FEMALE, "1992-01-01")).getId();
+    }
+
+    @Test
+    void 대기중인_요청만_승인하고_요청자_역할은_UPDATE_한_번으로_변경한다() {
+        Long requestA = request(userA);
+        Long requestB = request(userB);
+        Long requestModerator = request(moderator);
+        Long rejected = request(userA);
+        adminManagementService.rejectRequest(rejected, adminId, "거절");
+
+        SqlCapture.STATEMENTS.clear();
+        List<AdminRequestBulkResultDto> results = adminManagementService.processRequests(
+                List.of(requestA, requestB, requestModerator, rejected, 999_999L, requestA), adminId, ProcessType.APPROVE, "승인");
+
+        assertThat(results).extracting(AdminRequestBulkResultDto::getRequestId)
+                .containsExactly(requestA, requestB, requestModerator, rejected, 999_999L);
+        assertThat(results).extracting(AdminRequestBulkResultDto::getResult).containsExactly(
+                AdminRequestBulkResultDto.Result.PROCESSED, AdminRequestBulkResultDto.Result.PROCESSED,
+                AdminRequestBulkResultDto.Result.PROCESSED, AdminRequestBulkResultDto.Result.ALREADY_PROCESSED,
+                AdminRequestBulkResultDto.Result.NOT_FOUND);
+        assertThat(results.get(3).getStatus()).isEqualTo(AdminRequestStatus.REJECTED);
+
+        // 요청은 IN 조회 한 번, 사용자 역할은 UPDATE 한 번
+        assertThat(statements("select")).filteredOn(sql -> sql.contains("admin_requests")).hasSize(1);
+        assertThat(statements("update")).filteredOn(sql -> sql.contains("users")).hasSize(1);
+
+        assertThat(userRepository.findById(userA).orElseThrow().getRole()).isEqualTo(Role.MODERATOR);
+        assertThat(userRepository.findById(userB).orElseThrow().getRole()).isEqualTo(Role.MODERATOR);
+        assertThat(adminRequestRepository.findById(requestA).orElseThrow().getStatus()).isEqualTo(AdminRequestStatus.APPROVED);
+        verify(accessTokenDenylist).denyAllForUser(userA);
+        verify(accessTokenDenylist).denyAllForUser(userB);
+        verify(accessTokenDenylist, never()).denyAllForUser(moderator);
+        verify(adminDashboardCounters, times(3)).adminRequestProcessed(AdminRequestStatus.APPROVED);
+    }
+
+    @Test
+    void 일괄_거절은_역할을_바꾸지_않는다() {
+        Long requestA = request(userA);
+
+        List<AdminRequestBulkResultDto> results = adminManagementService.processRequests(
+                List.of(requestA), adminId, ProcessType.REJECT, "거절");
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.getResult()).isEqualTo(AdminRequestBulkResultDto.Result.PROCESSED);
+            assertThat(result.getStatus()).isEqualTo(AdminRequestStatus.REJECTED);
+        });
+        assertThat(userRepository.findById(userA).orElseThrow().getRole()).isEqualTo(Role.USER);
+        verify(accessTokenDenylist, never()).denyAllForUser(userA);
+    }
+
+    @Test
+    void 먼저_읽은_요청이_다른_관리자에_의해_처리되었으면_반영하지_않는다() {
+        Long requestA = request(userA);
+        AdminRequest stale = adminRequestRepository.findById(requestA).orElseThrow();
+
+        adminManagementService.processRequests(List.of(requestA), adminId, ProcessType.APPROVE, "승인");
+
+        stale.reject("늦은 거절", adminId);
+        assertThatThrownBy(() -> adminRequestRepository.saveAndFlush(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(adminRequestRepository.findById(requestA).orElseThrow().getStatus()).isEqualTo(AdminRequestStatus.APPROVED);
+    }
+
+    @Test
+    void 처리_건수를_초과하면_거부한다() {
+        List<Long> ids = java.util.stream.LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThatThrownBy(() -> adminManagementService.processRequests(ids, adminId, ProcessType.APPROVE, null))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.BAD_REQUEST));
+    }
+
+    private Long request(Long userId) {
+        return adminRequestRepository.save(AdminRequest.builder()
+                .userId(userId).title("권한 요청").description("설명").build()).getId();
+    }
+
+    private List<String> statements(String prefix) {
+        return SqlCapture.STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith(prefix))
+                .toList();
+    }
+
+    /*
+     * Hibernate가 실행하는 SQL 수집
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
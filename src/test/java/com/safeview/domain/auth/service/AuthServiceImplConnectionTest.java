@@ -0,0 +1,142 @@
+package com.safeview.domain.auth.service;
+
+import com.safeview.domain.auth.dto.UserLoginRequestDto;
+import com.safeview.domain.auth.dto.UserLoginResult;
+import com.safeview.domain.auth.mapper.AuthMapper;
+import com.safeview.domain.user.entity.Gender;
+import com.safeview.domain.user.entity.Role;
+import com.safeview.domain.user.entity.User;
+import com.safeview.domain.user.repository.UserRepository;
+import com.safeview.domain.user.service.UserProfileCache;
+import com.safeview.global.config.TransactionConfig;
+import com.safeview.global.security.AccessTokenDenylist;
+import com.safeview.global.security.JwtTokenProvider;
+import com.safeview.global.security.PasswordHashingExecutor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/*
+ * 로그인 중 비밀번호 해시(해시 전용 풀 대기 모사) 동안 DB 커넥션과 트랜잭션을 점유하지 않는지 검증
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.datasource.url=jdbc:h2:mem:login-connection-test;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AuthServiceImpl.class, AuthMapper.class, TransactionConfig.class})
+@ImportAutoConfiguration(TransactionManagerCustomizationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthServiceImplConnectionTest {
+
+    private static final long HASHING_MILLIS = 200;
+
+    @Autowired
+    private AuthServiceImpl authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoBean
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+
+    @MockitoBean
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @MockitoBean
+    private UserProfileCache userProfileCache;
+
+    private final List<String> heldDuringHashing = new ArrayList<>();
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+
+        User user = User.builder()
+                .email("user@safeview.com").password("legacy").name("사용자")
+                .address("서울").phone("010-0000-0000").gender(Gender.MALE).birthday("1990-01-01")
+                .role(Role.USER)
+                .build();
+        userId = userRepository.save(user).getId();
+
+        when(passwordHashingExecutor.matches(anyString(), anyString())).thenAnswer(slowHashing(true));
+        when(passwordHashingExecutor.needsRehash(anyString())).thenReturn(true);
+        when(passwordHashingExecutor.encode(anyString())).thenAnswer(slowHashing("{bcrypt}rehashed"));
+        when(jwtTokenProvider.generateAccessToken(anyLong(), any())).thenReturn("access");
+        when(refreshTokenService.issue(anyLong())).thenAnswer(invocation -> {
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+            return "refresh";
+        });
+    }
+
+    @Test
+    void 로그인_중_비밀번호_해시는_커넥션을_점유하지_않는다() {
+        UserLoginRequestDto request = new UserLoginRequestDto();
+        request.setEmail("user@safeview.com");
+        request.setPassword("password");
+
+        UserLoginResult result = authService.login(request);
+
+        assertThat(heldDuringHashing).isEmpty();
+        assertThat(result.getRefreshToken()).isEqualTo("refresh");
+        assertThat(userRepository.findById(userId).orElseThrow().getPassword()).isEqualTo("{bcrypt}rehashed");
+    }
+
+    /*
+     * 해시 도중 트랜잭션이나 풀에서 빌린 커넥션이 있으면 기록하고, 지연 후 결과 반환
+     */
+    private <T> Answer<T> slowHashing(T result) {
+        return invocation -> {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                heldDuringHashing.add(invocation.getMethod().getName() + ": active transaction");
+            }
+            int active = activeConnections();
+            if (active > 0) {
+                heldDuringHashing.add(invocation.getMethod().getName() + ": " + active + " active connection(s)");
+            }
+            Thread.sleep(HASHING_MILLIS);
+            return result;
+        };
+    }
+
+    private int activeConnections() throws SQLException {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+    }
+}
@@ -0,0 +1,84 @@
+package com.safeview.domain.auth.service;
+
+import com.safeview.domain.auth.dto.RotatedRefreshToken;
+import com.safeview.domain.auth.entity.RefreshTokenStatus;
+import com.safeview.domain.auth.repository.RefreshTokenRepository;
+import com.safeview.global.exception.ApiException;
+import com.safeview.global.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "jwt.secret=test-secret-key-for-refresh-token-rotation-0123456789",
+        "jwt.expiration=3600000"
+})
+@Import({RefreshTokenServiceImpl.class, JwtTokenProvider.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RefreshTokenServiceImplTest {
+
+    @Autowired
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void rotationIssuesNewTokenInSameFamily() {
+        String first = refreshTokenService.issue(1L);
+
+        RotatedRefreshToken rotated = refreshTokenService.rotate(first);
+
+        assertThat(rotated.getUserId()).isEqualTo(1L);
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(first);
+        assertThat(refreshTokenRepository.findAll())
+                .extracting(token -> token.getStatus())
+                .containsExactlyInAnyOrder(RefreshTokenStatus.ROTATED, RefreshTokenStatus.ACTIVE);
+
+        // 새 토큰은 다시 회전 가능
+        assertThat(refreshTokenService.rotate(rotated.getRefreshToken()).getUserId()).isEqualTo(1L);
+    }
+
+    @Test
+    void reusingRotatedTokenRevokesWholeFamily() {
+        String stolen = refreshTokenService.issue(1L);
+        String legitimate = refreshTokenService.rotate(stolen).getRefreshToken();
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(stolen)).isInstanceOf(ApiException.class);
+
+        // 재사용 감지 후에는 정상 사용자의 최신 토큰도 폐기됨
+        assertThat(refreshTokenRepository.findAll())
+                .extracting(token -> token.getStatus())
+                .containsOnly(RefreshTokenStatus.REVOKED);
+        assertThatThrownBy(() -> refreshTokenService.rotate(legitimate)).isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void logoutRevokesFamilyAndOtherFamiliesStayValid() {
+        String loggedOut = refreshTokenService.issue(1L);
+        String otherDevice = refreshTokenService.issue(1L);
+
+        refreshTokenService.revoke(loggedOut);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(loggedOut)).isInstanceOf(ApiException.class);
+        assertThat(refreshTokenService.rotate(otherDevice).getUserId()).isEqualTo(1L);
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThatThrownBy(() -> refreshTokenService.rotate("not-a-jwt")).isInstanceOf(ApiException.class);
+    }
+}
@@ -0,0 +1,172 @@
+package com.safeview.domain.decryption.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safeview.domain.administrator.service.AdminDashboardCounters;
+import com.safeview.domain.decryption.config.DecryptionConfig;
+import com.safeview.domain.decryption.dto.KeyIssuanceResponseDto;
+import com.safeview.domain.decryption.dto.KeyRevocationRequestDto;
+import com.safeview.domain.decryption.mapper.DecryptionKeyMapper;
+import com.safeview.domain.decryption.repository.BlockchainTransactionRepository;
+import com.safeview.domain.decryption.repository.DecryptionKeyRepository;
+import com.safeview.domain.user.entity.Gender;
+import com.safeview.domain.user.entity.Role;
+import com.safeview.domain.user.entity.User;
+import com.safeview.domain.user.repository.UserRepository;
+import com.safeview.global.config.TransactionConfig;
+import com.safeview.global.util.CryptoUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/*
+ * 키 발급/취소 중 블록체인 호출(느린 원격 호출 모사) 동안 DB 커넥션과 트랜잭션을 점유하지 않는지 검증
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.datasource.url=jdbc:h2:mem:connection-test;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DecryptionServiceImpl.class, DecryptionKeyMapper.class, DecryptionConfig.class, DecryptionTokenSigner.class,
+        CryptoUtil.class, TransactionConfig.class, DecryptionServiceImplConnectionTest.Beans.class})
+@ImportAutoConfiguration(TransactionManagerCustomizationAutoConfiguration.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DecryptionServiceImplConnectionTest {
+
+    private static final long REMOTE_CALL_MILLIS = 200;
+
+    @TestConfiguration
+    static class Beans {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    @Autowired
+    private DecryptionServiceImpl decryptionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DecryptionKeyRepository decryptionKeyRepository;
+
+    @Autowired
+    private BlockchainTransactionRepository blockchainTransactionRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoBean
+    private BlockchainService blockchainService;
+
+    @MockitoBean
+    private AdminDashboardCounters adminDashboardCounters;
+
+    private final List<String> heldDuringRemoteCall = new ArrayList<>();
+
+    private Long moderatorId;
+
+    @BeforeEach
+    void setUp() {
+        decryptionKeyRepository.deleteAllInBatch();
+        blockchainTransactionRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        User moderator = User.builder()
+                .email("moderator@safeview.com").password("encoded").name("중간 관리자")
+                .address("서울").phone("010-0000-0000").gender(Gender.MALE).birthday("1990-01-01")
+                .role(Role.MODERATOR)
+                .build();
+        moderatorId = userRepository.save(moderator).getId();
+
+        when(blockchainService.registerKey(anyString(), anyLong(), anyLong(), anyInt(), anyString()))
+                .thenAnswer(slowRemoteCall("0xissue"));
+        when(blockchainService.revokeKey(anyString(), any())).thenAnswer(slowRemoteCall("0xrevoke"));
+    }
+
+    @Test
+    void 키_발급_중_블록체인_호출은_커넥션을_점유하지_않는다() {
+        KeyIssuanceResponseDto response = decryptionService.issueKey(moderatorId);
+
+        assertThat(heldDuringRemoteCall).isEmpty();
+        assertThat(response.getBlockchainTxHash()).isEqualTo("0xissue");
+        assertThat(decryptionKeyRepository.count()).isEqualTo(1);
+        assertThat(blockchainTransactionRepository.findByTxHash("0xissue")).isPresent();
+    }
+
+    @Test
+    void 키_취소_중_블록체인_호출은_커넥션을_점유하지_않는다() {
+        String accessToken = decryptionService.issueKey(moderatorId).getAccessToken();
+        heldDuringRemoteCall.clear();
+
+        KeyRevocationRequestDto request = new KeyRevocationRequestDto();
+        request.setAccessToken(accessToken);
+        request.setRevocationReason("테스트");
+        decryptionService.revokeKey(request, moderatorId);
+
+        assertThat(heldDuringRemoteCall).isEmpty();
+        assertThat(decryptionKeyRepository.findByAccessToken(accessToken).orElseThrow().getStatus()).isEqualTo("REVOKED");
+        assertThat(blockchainTransactionRepository.findByTxHash("0xrevoke")).isPresent();
+    }
+
+    /*
+     * 원격 호출 도중 트랜잭션이나 풀에서 빌린 커넥션이 있으면 기록하고, 지연 후 트랜잭션 해시 반환
+     */
+    private Answer<String> slowRemoteCall(String txHash) {
+        return invocation -> {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                heldDuringRemoteCall.add(invocation.getMethod().getName() + ": active transaction");
+            }
+            int active = activeConnections();
+            if (active > 0) {
+                heldDuringRemoteCall.add(invocation.getMethod().getName() + ": " + active + " active connection(s)");
+            }
+            Thread.sleep(REMOTE_CALL_MILLIS);
+            return txHash;
+        };
+    }
+
+    private int activeConnections() throws SQLException {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+    }
+}
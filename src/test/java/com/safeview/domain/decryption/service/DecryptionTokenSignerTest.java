@@ -0,0 +1,123 @@
+package com.safeview.domain.decryption.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safeview.domain.decryption.config.DecryptionConfig;
+import com.safeview.global.exception.ApiException;
+import com.safeview.global.util.CryptoUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DecryptionTokenSignerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DecryptionConfig config = new DecryptionConfig();
+    private final DecryptionTokenSigner signer = newSigner(config, "test");
+    private final DecryptionTokenVerifier verifier = new DecryptionTokenVerifier(signer.jwks());
+
+    @Test
+    void 서명한_토큰은_키ID_카메라ID_권한_만료를_담는다() {
+        String token = signer.sign(7L, "CAM-001", LocalDateTime.now().plusDays(30));
+
+        Map<String, Object> claims = verifier.verify(token);
+
+        assertThat(claims).containsEntry("sub", "7")
+                .containsEntry("cam", "CAM-001")
+                .containsEntry("scope", "video:decrypt")
+                .containsEntry("iss", "safeview");
+        long ttl = ((Number) claims.get("exp")).longValue() - ((Number) claims.get("iat")).longValue();
+        assertThat(ttl).isEqualTo(300);
+    }
+
+    @Test
+    void 토큰_만료는_키_만료를_넘지_않는다() {
+        LocalDateTime keyExpiresAt = LocalDateTime.now().plusSeconds(60);
+
+        Map<String, Object> claims = verifier.verify(signer.sign(7L, "CAM-001", keyExpiresAt));
+
+        long remaining = ((Number) claims.get("exp")).longValue() - Instant.now().getEpochSecond();
+        assertThat(remaining).isBetween(55L, 60L);
+    }
+
+    @Test
+    void 변조된_토큰과_다른_키로_서명한_토큰은_거부한다() {
+        String token = signer.sign(7L, "CAM-001", null);
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"8\",\"cam\":\"CAM-001\",\"exp\":9999999999}".getBytes(StandardCharsets.UTF_8));
+        DecryptionTokenSigner other = newSigner(new DecryptionConfig(), "test");
+
+        assertThatThrownBy(() -> verifier.verify(parts[0] + "." + forgedPayload + "." + parts[2]))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> verifier.verify(other.sign(7L, "CAM-001", null)))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> verifier.verify("not-a-token"))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void JWKS_공개키만으로_토큰_서명을_검증할_수_있다() throws Exception {
+        String[] parts = signer.sign(7L, "CAM-001", null).split("\\.");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> jwk = ((List<Map<String, Object>>) signer.jwks().get("keys")).get(0);
+
+        // AI 서버 측 검증과 같은 방식: JWK의 원시 공개키(x)로 공개키 복원 후 서명 확인
+        byte[] raw = Base64.getUrlDecoder().decode((String) jwk.get("x"));
+        byte[] x509 = HexFormat.of().parseHex("302a300506032b6570032100");
+        byte[] encoded = new byte[x509.length + raw.length];
+        System.arraycopy(x509, 0, encoded, 0, x509.length);
+        System.arraycopy(raw, 0, encoded, x509.length, raw.length);
+        PublicKey publicKey = KeyFactory.getInstance("Ed25519").generatePublic(new X509EncodedKeySpec(encoded));
+
+        Signature verifier = Signature.getInstance("Ed25519");
+        verifier.initVerify(publicKey);
+        verifier.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+
+        assertThat(verifier.verify(Base64.getUrlDecoder().decode(parts[2]))).isTrue();
+        assertThat(jwk).containsEntry("kty", "OKP").containsEntry("crv", "Ed25519").containsEntry("alg", "EdDSA");
+    }
+
+    @Test
+    void 설정한_키_쌍으로_서명하면_재기동_후에도_검증된다() throws Exception {
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        DecryptionConfig configured = new DecryptionConfig();
+        configured.getToken().setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        configured.getToken().setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+
+        String token = newSigner(configured).sign(7L, "CAM-001", null);
+
+        assertThat(new DecryptionTokenVerifier(newSigner(configured).jwks()).verify(token))
+                .containsEntry("sub", "7");
+    }
+
+    @Test
+    void 서명_키가_없으면_개발_테스트_프로필이_아닌_경우_기동하지_않는다() {
+        assertThatThrownBy(() -> newSigner(new DecryptionConfig()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cctv.decryption.token.private-key");
+        assertThatThrownBy(() -> newSigner(new DecryptionConfig(), "prod"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private DecryptionTokenSigner newSigner(DecryptionConfig decryptionConfig, String... profiles) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.setActiveProfiles(profiles);
+        return new DecryptionTokenSigner(decryptionConfig, objectMapper, new CryptoUtil(), environment);
+    }
+}
@@ -0,0 +1,92 @@
+package com.safeview.domain.decryption.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safeview.global.exception.ApiException;
+import com.safeview.global.response.ErrorCode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 복호화 토큰 검증기 (테스트용)
+ *
+ * AI 서버 검증 로직과 같은 규칙으로 JWKS 공개키만 사용해 kid, 서명, 만료를 확인
+ */
+class DecryptionTokenVerifier {
+
+    /*
+     * Ed25519 원시 공개키를 X.509 SubjectPublicKeyInfo로 감싸는 고정 접두사
+     */
+    private static final byte[] X509_PREFIX = HexFormat.of().parseHex("302a300506032b6570032100");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String keyId;
+    private final PublicKey publicKey;
+
+    DecryptionTokenVerifier(Map<String, Object> jwks) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> jwk = ((List<Map<String, Object>>) jwks.get("keys")).get(0);
+        this.keyId = (String) jwk.get("kid");
+
+        byte[] raw = Base64.getUrlDecoder().decode((String) jwk.get("x"));
+        byte[] encoded = new byte[X509_PREFIX.length + raw.length];
+        System.arraycopy(X509_PREFIX, 0, encoded, 0, X509_PREFIX.length);
+        System.arraycopy(raw, 0, encoded, X509_PREFIX.length, raw.length);
+        try {
+            this.publicKey = KeyFactory.getInstance("Ed25519").generatePublic(new X509EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /*
+     * 토큰 검증
+     *
+     * 예외: 형식 오류, 다른 키로 서명, 서명 불일치, 만료 (INVALID_DECRYPTION_TOKEN)
+     */
+    Map<String, Object> verify(String token) {
+        String[] parts = token == null ? new String[0] : token.split("\\.");
+        if (parts.length != 3) {
+            throw new ApiException(ErrorCode.INVALID_DECRYPTION_TOKEN);
+        }
+
+        try {
+            Map<String, Object> header = decode(parts[0]);
+            if (!"EdDSA".equals(header.get("alg")) || !keyId.equals(header.get("kid"))) {
+                throw new ApiException(ErrorCode.INVALID_DECRYPTION_TOKEN);
+            }
+
+            Signature verifier = Signature.getInstance("Ed25519");
+            verifier.initVerify(publicKey);
+            verifier.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+            if (!verifier.verify(Base64.getUrlDecoder().decode(parts[2]))) {
+                throw new ApiException(ErrorCode.INVALID_DECRYPTION_TOKEN);
+            }
+
+            Map<String, Object> claims = decode(parts[1]);
+            if (((Number) claims.get("exp")).longValue() <= Instant.now().getEpochSecond()) {
+                throw new ApiException(ErrorCode.INVALID_DECRYPTION_TOKEN, "만료된 복호화 토큰입니다.");
+            }
+            return claims;
+        } catch (ApiException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ApiException(ErrorCode.INVALID_DECRYPTION_TOKEN);
+        }
+    }
+
+    private Map<String, Object> decode(String part) throws IOException {
+        return objectMapper.readValue(Base64.getUrlDecoder().decode(part), new TypeReference<>() {});
+    }
+}
@@ -0,0 +1,123 @@
+package com.safeview.domain.user.repository;
+
+import com.safeview.domain.user.entity.Gender;
+import com.safeview.domain.user.entity.Role;
+import com.safeview.domain.user.entity.User;
+import com.safeview.global.config.EntityCacheConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 사용자 2차 캐시 검증 (요청 하나 = 트랜잭션 하나로 보고 요청당 실행한 SQL 수 비교)
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(EntityCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRepositoryCacheTest {
+
+    private static final String EMAIL = "user@safeview.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+        userId = userRepository.save(User.createUser(EMAIL, "encoded", "사용자", "서울",
+                "010-1234-5678", Gender.MALE, "1990-01-01")).getId();
+        entityManagerFactory.getCache().evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void ID_조회는_두_번째_요청부터_쿼리를_실행하지_않는다() {
+        assertThat(statementsPerRequest(() -> userRepository.findById(userId).orElseThrow())).isEqualTo(1);
+        assertThat(statementsPerRequest(() -> userRepository.findById(userId).orElseThrow())).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 이메일_조회는_자연_키_캐시로_쿼리를_실행하지_않는다() {
+        // 첫 요청: 이메일로 사용자를 조회해 자연 키 캐시와 엔티티 캐시를 함께 채움
+        assertThat(statementsPerRequest(() -> userRepository.findByEmail(EMAIL).orElseThrow())).isEqualTo(1);
+        assertThat(statementsPerRequest(() -> userRepository.findByEmail(EMAIL).orElseThrow())).isZero();
+        assertThat(statementsPerRequest(() -> userRepository.findById(userId).orElseThrow())).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void 없는_이메일은_빈_결과를_반환한다() {
+        assertThat(userRepository.findByEmail("none@safeview.com")).isEmpty();
+    }
+
+    @Test
+    void 역할_변경은_캐시에_반영된다() {
+        assertChangeVisible(user -> user.updateRole(Role.MODERATOR), user -> assertThat(user.getRole()).isEqualTo(Role.MODERATOR));
+    }
+
+    @Test
+    void 비밀번호_변경은_캐시에_반영된다() {
+        assertChangeVisible(user -> user.updatePassword("rehashed"), user -> assertThat(user.getPassword()).isEqualTo("rehashed"));
+    }
+
+    @Test
+    void 회원정보_변경은_캐시에_반영된다() {
+        assertChangeVisible(
+                user -> user.updateUserInfo("changed", "새 이름", "부산", "010-9999-9999", Gender.FEMALE, "1991-02-02"),
+                user -> assertThat(user).extracting(User::getName, User::getPhone).containsExactly("새 이름", "01099999999"));
+    }
+
+    /*
+     * 캐시를 채운 뒤 다른 요청에서 변경하고, 이후 ID/이메일 조회 모두 변경된 값을 보는지 확인
+     */
+    private void assertChangeVisible(Consumer<User> change, Consumer<User> verify) {
+        statementsPerRequest(() -> userRepository.findByEmail(EMAIL).orElseThrow());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                change.accept(userRepository.findById(userId).orElseThrow()));
+
+        TransactionTemplate readOnly = readOnlyTransaction();
+        verify.accept(readOnly.execute(status -> userRepository.findById(userId).orElseThrow()));
+        verify.accept(readOnly.execute(status -> userRepository.findByEmail(EMAIL).orElseThrow()));
+    }
+
+    private long statementsPerRequest(Runnable request) {
+        long before = statistics.getPrepareStatementCount();
+        readOnlyTransaction().executeWithoutResult(status -> request.run());
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
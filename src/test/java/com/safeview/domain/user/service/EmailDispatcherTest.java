@@ -0,0 +1,187 @@
+package com.safeview.domain.user.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.safeview.domain.user.config.EmailDispatchConfig;
+import com.safeview.global.exception.ApiException;
+import com.safeview.global.response.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Provider;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.URLName;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private JavaMailSenderImpl mailSender;
+    private EmailDispatchConfig config;
+    private EmailDispatcher dispatcher;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        meterRegistry = new SimpleMeterRegistry();
+        config = new EmailDispatchConfig();
+        config.setWorkers(2);
+        config.setInitialBackoffMs(10);
+        config.setMaxBackoffMs(50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    void enqueuedMailsAreDeliveredOverReusedConnections() throws Exception {
+        config.setWorkers(1);
+        dispatcher = new EmailDispatcher(mailSender, config, meterRegistry);
+        dispatcher.start();
+
+        for (int i = 0; i < 20; i++) {
+            dispatcher.enqueue("user" + i + "@safeview.com", createMessage("user" + i + "@safeview.com"));
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 20)).isTrue();
+        dispatcher.stop();
+
+        assertThat(dispatcher.getSentCount()).isEqualTo(20);
+        assertThat(dispatcher.getFailedCount()).isZero();
+        assertThat(dispatcher.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get("safeview.email.send").tag("outcome", "sent").timer().count()).isEqualTo(20);
+        // 워커 1개가 20건을 연결 하나로 발송
+        assertThat(dispatcher.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void enqueueFailsFastWhenQueueIsFull() throws Exception {
+        config.setQueueCapacity(1);
+        dispatcher = new EmailDispatcher(mailSender, config, meterRegistry);
+
+        // 워커를 시작하지 않아 큐가 비워지지 않는 상태
+        dispatcher.enqueue("first@safeview.com", createMessage("first@safeview.com"));
+
+        assertThatThrownBy(() -> dispatcher.enqueue("second@safeview.com", createMessage("second@safeview.com")))
+                .isInstanceOf(ApiException.class)
+                .extracting(e -> ((ApiException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EMAIL_QUEUE_FULL);
+        assertThat(dispatcher.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failedDeliveriesAreRetriedThenCounted() throws Exception {
+        mailSender.setPort(1);
+        config.setMaxAttempts(2);
+        dispatcher = new EmailDispatcher(mailSender, config, meterRegistry);
+        dispatcher.start();
+
+        dispatcher.enqueue("user@safeview.com", createMessage("user@safeview.com"));
+        dispatcher.stop();
+
+        assertThat(dispatcher.getRetryCount()).isEqualTo(1);
+        assertThat(dispatcher.getFailedCount()).isEqualTo(1);
+        assertThat(dispatcher.getSentCount()).isZero();
+        assertThat(meterRegistry.get("safeview.email.send").tag("outcome", "failed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedRecipientsFailWithoutRetry() throws Exception {
+        Session session = Session.getInstance(new Properties());
+        session.setProvider(new Provider(Provider.Type.TRANSPORT, "smtp", RejectingTransport.class.getName(), "test", null));
+        mailSender.setSession(session);
+        config.setMaxAttempts(3);
+        RejectingTransport.SENDS.set(0);
+        dispatcher = new EmailDispatcher(mailSender, config, meterRegistry);
+        dispatcher.start();
+
+        dispatcher.enqueue("unknown@safeview.com", createMessage("unknown@safeview.com"));
+        dispatcher.stop();
+
+        assertThat(RejectingTransport.SENDS).hasValue(1);
+        assertThat(dispatcher.getRetryCount()).isZero();
+        assertThat(dispatcher.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unexpectedErrorFailsOnlyThatMailAndWorkerKeepsRunning() throws Exception {
+        config.setWorkers(1);
+        dispatcher = new EmailDispatcher(mailSender, config, meterRegistry);
+        dispatcher.start();
+
+        MimeMessage broken = new MimeMessage(mailSender.getSession()) {
+            @Override
+            public Address[] getAllRecipients() {
+                throw new IllegalStateException("broken message");
+            }
+        };
+        broken.setFrom("noreply@safeview.com");
+        broken.setText("broken");
+        dispatcher.enqueue("broken@safeview.com", broken);
+        dispatcher.enqueue("user@safeview.com", createMessage("user@safeview.com"));
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        dispatcher.stop();
+
+        assertThat(dispatcher.getFailedCount()).isEqualTo(1);
+        assertThat(dispatcher.getSentCount()).isEqualTo(1);
+    }
+
+    private MimeMessage createMessage(String to) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(to);
+        helper.setFrom("noreply@safeview.com");
+        helper.setSubject("[SafeView] 테스트");
+        helper.setText("<p>test</p>", true);
+        return message;
+    }
+
+    /*
+     * 모든 수신자를 거부하는 SMTP 대체 Transport
+     */
+    public static class RejectingTransport extends Transport {
+
+        static final AtomicInteger SENDS = new AtomicInteger();
+
+        public RejectingTransport(Session session, URLName urlName) {
+            super(session, urlName);
+        }
+
+        @Override
+        protected boolean protocolConnect(String host, int port, String user, String password) {
+            return true;
+        }
+
+        @Override
+        public void sendMessage(Message message, Address[] addresses) throws MessagingException {
+            SENDS.incrementAndGet();
+            throw new SendFailedException("550 mailbox unavailable", null, new Address[0], new Address[0], addresses);
+        }
+    }
+}
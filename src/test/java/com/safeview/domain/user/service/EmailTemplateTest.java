@@ -0,0 +1,69 @@
+package com.safeview.domain.user.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * 사전 컴파일 이메일 템플릿 검증 (치환, HTML 이스케이프, 잘못된 치환자/값 개수)
+ */
+class EmailTemplateTest {
+
+    @Test
+    void substitutesPlaceholdersInFirstAppearanceOrder() {
+        EmailTemplate template = EmailTemplate.compile("<p>{{name}}님, 인증번호는 {{ code }}입니다. ({{name}})</p>");
+
+        assertThat(template.placeholders()).containsExactly("name", "code");
+        assertThat(template.render("홍길동", "123456"))
+                .isEqualTo("<p>홍길동님, 인증번호는 123456입니다. (홍길동)</p>");
+    }
+
+    @Test
+    void escapesHtmlInValuesButNotInTemplate() {
+        EmailTemplate template = EmailTemplate.compile("<b title=\"{{value}}\">{{value}}</b>");
+
+        assertThat(template.render("<script>alert('x')</script> & \"q\""))
+                .isEqualTo("<b title=\"&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; &quot;q&quot;\">"
+                        + "&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; &quot;q&quot;</b>");
+    }
+
+    @Test
+    void rendersNullValueAsEmptyAndTemplateWithoutPlaceholdersAsIs() {
+        assertThat(EmailTemplate.compile("[{{value}}]").render((String) null)).isEqualTo("[]");
+        assertThat(EmailTemplate.compile("<p>고정 문구</p>").render()).isEqualTo("<p>고정 문구</p>");
+    }
+
+    @Test
+    void rejectsMalformedPlaceholdersAtCompileTime() {
+        assertThatThrownBy(() -> EmailTemplate.compile("<p>{{name</p>"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("닫히지 않은");
+        assertThatThrownBy(() -> EmailTemplate.compile("<p>{{ }}</p>"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("비어 있습니다");
+    }
+
+    @Test
+    void rejectsMissingOrExtraValues() {
+        EmailTemplate template = EmailTemplate.compile("{{a}}-{{b}}");
+
+        assertThatThrownBy(() -> template.render("1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("기대=2, 실제=1");
+        assertThatThrownBy(() -> template.render("1", "2", "3"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("기대=2, 실제=3");
+    }
+
+    @Test
+    void bundledTemplatesExposeTheirPlaceholders() {
+        EmailTemplate verification = EmailTemplate.load("templates/email/verification-code.html");
+        EmailTemplate tempPassword = EmailTemplate.load("templates/email/temp-password.html");
+
+        assertThat(verification.placeholders()).containsExactly("verificationCode");
+        assertThat(verification.render("123456")).contains("123456").doesNotContain("{{");
+        assertThat(tempPassword.placeholders()).containsExactly("tempPassword");
+        assertThat(tempPassword.render("a<b")).contains("a&lt;b").doesNotContain("{{");
+    }
+}
@@ -0,0 +1,106 @@
+package com.safeview.domain.user.service;
+
+import com.safeview.domain.user.config.EmailVerificationConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryEmailVerificationStoreTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private EmailVerificationConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new EmailVerificationConfig();
+        config.setCodeTtlSeconds(300);
+        config.setVerifiedTtlSeconds(1800);
+        config.setMaxEntries(10_000);
+    }
+
+    @Test
+    void codeIsSingleUseAndMarksEmailVerified() {
+        InMemoryEmailVerificationStore store = new InMemoryEmailVerificationStore(config, now::get);
+        store.storeVerificationCode("user@safeview.com", "123456");
+
+        assertThat(store.verifyCode("user@safeview.com", "000000")).isFalse();
+        assertThat(store.verifyCode("user@safeview.com", "123456")).isTrue();
+        assertThat(store.verifyCode("user@safeview.com", "123456")).isFalse();
+        assertThat(store.isEmailVerified("user@safeview.com")).isTrue();
+    }
+
+    @Test
+    void expiredEntriesAreSweptWithoutLookup() {
+        InMemoryEmailVerificationStore store = new InMemoryEmailVerificationStore(config, now::get);
+        for (int i = 0; i < 100; i++) {
+            store.storeVerificationCode("user" + i + "@safeview.com", "123456");
+        }
+        store.verifyCode("user0@safeview.com", "123456");
+
+        now.addAndGet(301_000L);
+        store.sweepExpired();
+        assertThat(store.getPendingCodeCount()).isZero();
+        assertThat(store.getVerifiedEmailCount()).isEqualTo(1);
+        assertThat(store.verifyCode("user1@safeview.com", "123456")).isFalse();
+
+        now.addAndGet(1_800_000L);
+        store.sweepExpired();
+        assertThat(store.getVerifiedEmailCount()).isZero();
+        assertThat(store.getExpiredCount()).isEqualTo(100);
+    }
+
+    @Test
+    void sizeStaysBoundedUnderMillionEmailLoad() {
+        InMemoryEmailVerificationStore store = new InMemoryEmailVerificationStore(config, now::get);
+
+        for (int i = 0; i < 1_000_000; i++) {
+            store.storeVerificationCode("spam" + i + "@safeview.com", "123456");
+            if (i % 1000 == 0) {
+                now.incrementAndGet();
+            }
+        }
+
+        assertThat(store.getPendingCodeCount()).isEqualTo(10_000);
+        assertThat(store.getCapacityEvictionCount()).isEqualTo(990_000);
+        // 가장 최근 항목은 유지되고 오래된 항목은 제거됨
+        assertThat(store.verifyCode("spam999999@safeview.com", "123456")).isTrue();
+        assertThat(store.verifyCode("spam0@safeview.com", "123456")).isFalse();
+    }
+
+    @Test
+    void reissuingCodesForSameEmailDoesNotEvictOtherEmails() {
+        config.setMaxEntries(3);
+        InMemoryEmailVerificationStore store = new InMemoryEmailVerificationStore(config, now::get);
+        store.storeVerificationCode("victim@safeview.com", "111111");
+
+        // 한 이메일로 인증번호를 반복 요청해도 항목은 하나만 유지
+        for (int i = 0; i < 100; i++) {
+            store.storeVerificationCode("attacker@safeview.com", String.format("%06d", i));
+        }
+
+        assertThat(store.getPendingCodeCount()).isEqualTo(2);
+        assertThat(store.getCapacityEvictionCount()).isZero();
+        assertThat(store.verifyCode("attacker@safeview.com", "000098")).isFalse();
+        assertThat(store.verifyCode("victim@safeview.com", "111111")).isTrue();
+    }
+
+    @Test
+    void expiredEntriesAreRemovedBeforeValidOnesWhenFull() {
+        config.setMaxEntries(2);
+        InMemoryEmailVerificationStore store = new InMemoryEmailVerificationStore(config, now::get);
+        store.storeVerificationCode("expired@safeview.com", "111111");
+        now.addAndGet(200_000L);
+        store.storeVerificationCode("valid@safeview.com", "222222");
+        now.addAndGet(200_000L);
+
+        store.storeVerificationCode("new@safeview.com", "333333");
+
+        assertThat(store.getCapacityEvictionCount()).isZero();
+        assertThat(store.getExpiredCount()).isEqualTo(1);
+        assertThat(store.verifyCode("valid@safeview.com", "222222")).isTrue();
+        assertThat(store.verifyCode("new@safeview.com", "333333")).isTrue();
+    }
+}
@@ -0,0 +1,99 @@
+package com.safeview.domain.user.service;
+
+import com.safeview.domain.user.config.EmailVerificationConfig;
+import com.safeview.domain.user.repository.EmailVerificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 발급은 MySQL 전용 문장(INSERT ... ON DUPLICATE KEY UPDATE)이므로 H2 MySQL 호환 모드에서 실행
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:email-verification-store;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "email.verification.store=jdbc",
+        "email.verification.code-ttl-seconds=300",
+        "email.verification.purge-batch-size=2"
+})
+@Import({JdbcEmailVerificationStore.class, EmailVerificationConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcEmailVerificationStoreTest {
+
+    @Autowired
+    private JdbcEmailVerificationStore store;
+
+    @Autowired
+    private EmailVerificationRepository emailVerificationRepository;
+
+    @Autowired
+    private EmailVerificationConfig config;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        emailVerificationRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void codeIsSharedSingleUseAndReissuable() {
+        store.storeVerificationCode("user@safeview.com", "111111");
+        store.storeVerificationCode("user@safeview.com", "222222");
+
+        assertThat(store.verifyCode("user@safeview.com", "111111")).isFalse();
+        assertThat(store.verifyCode("user@safeview.com", "222222")).isTrue();
+        assertThat(store.verifyCode("user@safeview.com", "222222")).isFalse();
+        assertThat(store.isEmailVerified("user@safeview.com")).isTrue();
+        assertThat(emailVerificationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void storingInsideCallerTransactionReplacesRowWrittenByAnotherInstance() {
+        // 다른 인스턴스가 먼저 발급해 둔 행
+        store.storeVerificationCode("user@safeview.com", "111111");
+
+        // 호출자(인증번호 발송 서비스)의 트랜잭션 안에서 발급해도 커밋까지 성공
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                store.storeVerificationCode("user@safeview.com", "222222"));
+
+        assertThat(emailVerificationRepository.count()).isEqualTo(1);
+        assertThat(store.verifyCode("user@safeview.com", "111111")).isFalse();
+        assertThat(store.verifyCode("user@safeview.com", "222222")).isTrue();
+    }
+
+    @Test
+    void expiredRowsArePurgedInBatches() {
+        config.setCodeTtlSeconds(-1);
+        try {
+            for (int i = 0; i < 5; i++) {
+                store.storeVerificationCode("expired" + i + "@safeview.com", "123456");
+            }
+        } finally {
+            config.setCodeTtlSeconds(300);
+        }
+        store.storeVerificationCode("active@safeview.com", "123456");
+
+        assertThat(store.verifyCode("expired0@safeview.com", "123456")).isFalse();
+
+        store.purgeExpired();
+
+        assertThat(store.getPurgedCount()).isEqualTo(5);
+        assertThat(emailVerificationRepository.findAll())
+                .extracting(v -> v.getEmail())
+                .containsExactly("active@safeview.com");
+    }
+}
@@ -0,0 +1,153 @@
+package com.safeview.domain.user.service;
+
+import com.safeview.domain.user.config.RegisteredEmailFilterConfig;
+import com.safeview.domain.user.dto.UserSignUpRequestDto;
+import com.safeview.domain.user.entity.Gender;
+import com.safeview.domain.user.entity.User;
+import com.safeview.domain.user.mapper.UserMapper;
+import com.safeview.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 가입 이메일 필터와 이메일 중복 확인 검증 (필터 음성이면 DB 조회 없음, 다른 인스턴스 가입 동기화, 오탐률)
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "email.registered-filter.expected-emails=5000",
+        "email.registered-filter.sync-interval-ms=3600000"
+})
+@Import({UserServiceImpl.class, UserMapper.class, RegisteredEmailFilter.class, RegisteredEmailFilterConfig.class,
+        RegisteredEmailFilterTest.Beans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RegisteredEmailFilterTest {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @TestConfiguration
+    static class Beans {
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    @Autowired
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private EmailVerificationStore emailVerificationStore;
+
+    @MockitoBean
+    private UserProfileCache userProfileCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 미가입_이메일은_DB_조회_없이_사용_가능으로_응답한다() {
+        assertThat(userService.checkEmail("new@safeview.com").isAvailable()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void 가입한_이메일은_사용_불가로_응답한다() {
+        userService.signUp(signUpRequest("joined@safeview.com", "010-1000-0001"));
+
+        assertThat(userService.checkEmail("joined@safeview.com").isAvailable()).isFalse();
+        assertThat(registeredEmailFilter.mightContain(" Joined@SafeView.com")).isTrue();
+    }
+
+    @Test
+    void 다른_인스턴스에서_가입한_이메일은_동기화_후_반영된다() {
+        userRepository.save(User.createUser("other@safeview.com", "encoded", "사용자", "서울",
+                "010-2000-0002", Gender.MALE, "1990-01-01"));
+        assertThat(registeredEmailFilter.mightContain("other@safeview.com")).isFalse();
+
+        registeredEmailFilter.sync();
+
+        assertThat(userService.checkEmail("other@safeview.com").isAvailable()).isFalse();
+    }
+
+    @Test
+    void 오탐률은_목표_이하이고_오탐이면_DB로_재확인한다() {
+        int registered = 4000;
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < registered; i++) {
+            rows.add(new Object[]{"user" + i + "@safeview.com", "010" + String.format("%08d", i)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, password, name, address, phone, gender, birthday, role, created_at, updated_at) "
+                + "VALUES (?, 'encoded', '사용자', '서울', ?, 'MALE', '1990-01-01', 'USER', NOW(), NOW())", rows);
+        registeredEmailFilter.sync();
+
+        int lookups = 10000;
+        int falsePositives = 0;
+        for (int i = 0; i < lookups; i++) {
+            String email = UUID.randomUUID() + "@safeview.com";
+            if (registeredEmailFilter.mightContain(email)) {
+                falsePositives++;
+                assertThat(userService.checkEmail(email).isAvailable()).isTrue();
+            }
+        }
+
+        assertThat((double) falsePositives / lookups).isLessThanOrEqualTo(FALSE_POSITIVE_RATE);
+        assertThat(registeredEmailFilter.getExpectedFalsePositiveRate()).isLessThanOrEqualTo(FALSE_POSITIVE_RATE);
+        // 5000개 기준 1% 오탐률: 약 4.8만 비트 (6KB)
+        assertThat(registeredEmailFilter.getMemoryBytes()).isLessThan(8 * 1024);
+    }
+
+    private static UserSignUpRequestDto signUpRequest(String email, String phone) {
+        UserSignUpRequestDto dto = new UserSignUpRequestDto();
+        dto.setEmail(email);
+        dto.setPassword("password1!");
+        dto.setName("사용자");
+        dto.setAddress("서울");
+        dto.setPhone(phone);
+        dto.setGender(Gender.MALE);
+        dto.setBirthday("1990-01-01");
+        return dto;
+    }
+}
@@ -0,0 +1,91 @@
+package com.safeview.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safeview.domain.user.dto.UserInfoResponseDto;
+import com.safeview.global.util.CryptoUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 내 정보 응답 캐시 검증 (ETag 비교, 변경 시 무효화)
+ */
+class UserProfileCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UserProfileCache cache = new UserProfileCache(objectMapper, new CryptoUtil(), 100, 60);
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private String name = "홍길동";
+    private final Function<Long, UserInfoResponseDto> loader = id -> {
+        loads.incrementAndGet();
+        return new UserInfoResponseDto(id, "user@safeview.com", name, "서울", "01012345678",
+                null, "1990-01-01", "USER", null, null);
+    };
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 캐시_적중은_조회_없이_같은_본문과_ETag를_반환한다() throws Exception {
+        UserProfileCache.Profile first = cache.get(1L, loader);
+        UserProfileCache.Profile second = cache.get(1L, loader);
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(objectMapper.readTree(first.body()).path("data").path("name").asText()).isEqualTo("홍길동");
+        assertThat(objectMapper.readTree(first.body()).path("isSuccess").asBoolean()).isTrue();
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    void If_None_Match는_여러_값과_약한_ETag와_별표를_허용한다() {
+        UserProfileCache.Profile profile = cache.get(1L, loader);
+        String etag = profile.etag();
+
+        assertThat(profile.matches(etag)).isTrue();
+        assertThat(profile.matches("W/" + etag)).isTrue();
+        assertThat(profile.matches("\"other\", " + etag)).isTrue();
+        assertThat(profile.matches("*")).isTrue();
+        assertThat(profile.matches("\"other\"")).isFalse();
+        assertThat(profile.matches(null)).isFalse();
+    }
+
+    @Test
+    void 무효화하면_다시_조회하고_내용이_바뀌면_ETag도_바뀐다() {
+        String before = cache.get(1L, loader).etag();
+
+        name = "김철수";
+        cache.evict(1L);
+        UserProfileCache.Profile after = cache.get(1L, loader);
+
+        assertThat(loads).hasValue(2);
+        assertThat(after.etag()).isNotEqualTo(before);
+        assertThat(after.matches(before)).isFalse();
+    }
+
+    @Test
+    void 트랜잭션_안에서_무효화하면_완료_후에도_한_번_더_삭제한다() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evict(1L);
+
+        // 커밋 전 다른 요청이 이전 값을 다시 채움
+        cache.get(1L, loader);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        cache.get(1L, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -0,0 +1,176 @@
+package com.safeview.domain.user.service;
+
+import com.safeview.domain.user.config.RegisteredEmailFilterConfig;
+import com.safeview.domain.user.dto.UserInfoResponseDto;
+import com.safeview.domain.user.dto.UserSignUpRequestDto;
+import com.safeview.domain.user.dto.UserUpdateRequestDto;
+import com.safeview.domain.user.entity.Gender;
+import com.safeview.domain.user.mapper.UserMapper;
+import com.safeview.domain.user.repository.UserRepository;
+import com.safeview.global.exception.ApiException;
+import com.safeview.global.response.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * 회원가입/정보 수정 중복 처리 검증 (고유 제약조건 위반 -> 중복 오류 변환, 동시 가입)
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Import({UserServiceImpl.class, UserMapper.class, RegisteredEmailFilter.class, RegisteredEmailFilterConfig.class,
+        UserServiceImplSignUpTest.Beans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserServiceImplSignUpTest {
+
+    private static final int THREADS = 8;
+
+    @TestConfiguration
+    static class Beans {
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private EmailVerificationStore emailVerificationStore;
+
+    @MockitoBean
+    private UserProfileCache userProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 전화번호는_하이픈과_공백을_제거해_저장한다() {
+        Long userId = userService.signUp(signUpRequest("a@safeview.com", "010-1234-5678")).getId();
+
+        assertThat(userRepository.findById(userId).orElseThrow().getPhone()).isEqualTo("01012345678");
+        assertThatThrownBy(() -> userService.signUp(signUpRequest("b@safeview.com", "010 1234 5678")))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PHONE_ALREADY_EXISTS);
+    }
+
+    @Test
+    void 같은_이메일로_동시에_가입하면_한_건만_성공한다() throws Exception {
+        Map<String, Long> results = signUpConcurrently(i -> signUpRequest("same@safeview.com", "010-0000-000" + i));
+
+        assertThat(results).containsEntry("SUCCESS", 1L).containsEntry(ErrorCode.EMAIL_ALREADY_EXISTS.name(), (long) THREADS - 1);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 같은_전화번호로_동시에_가입하면_한_건만_성공한다() throws Exception {
+        String[] formats = {"010-1111-2222", "01011112222", "010 1111 2222"};
+        Map<String, Long> results = signUpConcurrently(i -> signUpRequest("user" + i + "@safeview.com", formats[i % formats.length]));
+
+        assertThat(results).containsEntry("SUCCESS", 1L).containsEntry(ErrorCode.PHONE_ALREADY_EXISTS.name(), (long) THREADS - 1);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 정보_수정도_전화번호를_정규화하고_중복을_거부한다() {
+        userService.signUp(signUpRequest("a@safeview.com", "010-1111-1111"));
+        Long userId = userService.signUp(signUpRequest("b@safeview.com", "010-2222-2222")).getId();
+
+        UserInfoResponseDto updated = userService.updateUserInfo(userId, updateRequest("010 3333-3333"));
+        assertThat(updated.getPhone()).isEqualTo("01033333333");
+
+        assertThatThrownBy(() -> userService.updateUserInfo(userId, updateRequest("010-1111-1111")))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PHONE_ALREADY_EXISTS);
+        assertThat(userRepository.findById(userId).orElseThrow().getPhone()).isEqualTo("01033333333");
+    }
+
+    /*
+     * 동시에 가입 요청을 보내고 결과(SUCCESS 또는 오류 코드)별 개수 반환
+     */
+    private Map<String, Long> signUpConcurrently(IntFunction<UserSignUpRequestDto> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                UserSignUpRequestDto dto = request.apply(i);
+                Callable<String> signUp = () -> {
+                    start.await();
+                    try {
+                        userService.signUp(dto);
+                        return "SUCCESS";
+                    } catch (ApiException e) {
+                        return e.getErrorCode().name();
+                    }
+                };
+                futures.add(executor.submit(signUp));
+            }
+            start.countDown();
+
+            List<String> results = new ArrayList<>();
+            for (Future<String> future : futures) {
+                results.add(future.get());
+            }
+            return results.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static UserSignUpRequestDto signUpRequest(String email, String phone) {
+        UserSignUpRequestDto dto = new UserSignUpRequestDto();
+        dto.setEmail(email);
+        dto.setPassword("password1!");
+        dto.setName("사용자");
+        dto.setAddress("서울");
+        dto.setPhone(phone);
+        dto.setGender(Gender.MALE);
+        dto.setBirthday("1990-01-01");
+        return dto;
+    }
+
+    private static UserUpdateRequestDto updateRequest(String phone) {
+        UserUpdateRequestDto dto = new UserUpdateRequestDto();
+        dto.setPassword("password1!");
+        dto.setName("사용자");
+        dto.setAddress("부산");
+        dto.setPhone(phone);
+        dto.setGender(Gender.FEMALE);
+        dto.setBirthday("1990-01-01");
+        return dto;
+    }
+}
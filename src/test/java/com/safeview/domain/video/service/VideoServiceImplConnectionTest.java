@@ -0,0 +1,122 @@
+package com.safeview.domain.video.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.safeview.domain.administrator.service.AdminDashboardCounters;
+import com.safeview.domain.video.dto.RecordingResponseDto;
+import com.safeview.domain.video.mapper.VideoMapper;
+import com.safeview.domain.video.repository.VideoRepository;
+import com.safeview.global.config.TransactionConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/*
+ * 녹화 중지 중 AI 서버 호출(느린 원격 호출 모사) 동안 DB 커넥션과 트랜잭션을 점유하지 않는지 검증
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.datasource.url=jdbc:h2:mem:video-connection-test;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "cloud.aws.s3.bucket=safeview-test"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({VideoServiceImpl.class, VideoMapper.class, TransactionConfig.class, VideoServiceImplConnectionTest.Beans.class})
+@ImportAutoConfiguration(TransactionManagerCustomizationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VideoServiceImplConnectionTest {
+
+    private static final long REMOTE_CALL_MILLIS = 200;
+
+    @TestConfiguration
+    static class Beans {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private VideoServiceImpl videoService;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoBean
+    private RestTemplate restTemplate;
+
+    @MockitoBean
+    private AmazonS3 amazonS3;
+
+    @MockitoBean
+    private AdminDashboardCounters adminDashboardCounters;
+
+    private final List<String> heldDuringRemoteCall = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        videoRepository.deleteAllInBatch();
+
+        when(restTemplate.postForObject(any(String.class), eq(null), eq(RecordingResponseDto.class)))
+                .thenAnswer(invocation -> {
+                    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                        heldDuringRemoteCall.add("stop_recording: active transaction");
+                    }
+                    int active = activeConnections();
+                    if (active > 0) {
+                        heldDuringRemoteCall.add("stop_recording: " + active + " active connection(s)");
+                    }
+                    Thread.sleep(REMOTE_CALL_MILLIS);
+
+                    RecordingResponseDto response = new RecordingResponseDto();
+                    response.setFilename("cam1.mp4");
+                    response.setS3Url("https://safeview-test.s3.amazonaws.com/recordings/cam1.mp4");
+                    response.setError("no error");
+                    return response;
+                });
+    }
+
+    @Test
+    void 녹화_중지_중_AI_서버_호출은_커넥션을_점유하지_않는다() {
+        RecordingResponseDto response = videoService.stopRecording(1L);
+
+        assertThat(heldDuringRemoteCall).isEmpty();
+        assertThat(response.getFilename()).isEqualTo("cam1.mp4");
+        assertThat(videoRepository.findByFilename("cam1.mp4")).isNotNull();
+    }
+
+    private int activeConnections() throws SQLException {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+    }
+}
@@ -0,0 +1,60 @@
+package com.safeview.domain.video.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.S3Object;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VideoServiceImplTest {
+
+    private AmazonS3 amazonS3;
+    private SimpleMeterRegistry meterRegistry;
+    private VideoServiceImpl videoService;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = mock(AmazonS3.class);
+        meterRegistry = new SimpleMeterRegistry();
+        videoService = new VideoServiceImpl(null, null, null, amazonS3, meterRegistry, null);
+        ReflectionTestUtils.setField(videoService, "bucketName", "safeview-test");
+    }
+
+    @Test
+    void streamVideoRecordsLatencyAndBytes() {
+        when(amazonS3.getObject("safeview-test", "recordings/cam1.mp4")).thenAnswer(invocation -> s3Object(1000));
+
+        ResponseEntity<byte[]> response = videoService.streamVideo("cam1.mp4", "bytes=100-399");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getBody()).hasSize(300);
+        assertThat(meterRegistry.get("safeview.video.stream").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("safeview.video.stream.bytes").summary().totalAmount()).isEqualTo(300);
+    }
+
+    @Test
+    void streamVideoFailureIsCountedAsError() {
+        when(amazonS3.getObject("safeview-test", "recordings/missing.mp4")).thenThrow(new IllegalStateException("no such key"));
+
+        assertThatThrownBy(() -> videoService.streamVideo("missing.mp4", null)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get("safeview.video.stream").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    private S3Object s3Object(int size) {
+        S3Object object = new S3Object();
+        object.getObjectMetadata().setContentLength(size);
+        object.setObjectContent(new ByteArrayInputStream(new byte[size]));
+        return object;
+    }
+}
@@ -0,0 +1,26 @@
+package com.safeview.global.config;
+
+import com.safeview.global.security.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsConfigTest {
+
+    @Test
+    void rateLimiterMetricsFollowLimiterState() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RateLimiter rateLimiter = new RateLimiter(new RateLimitConfig());
+        new MetricsConfig().rateLimiterMetrics(rateLimiter).bindTo(registry);
+
+        rateLimiter.tryAcquire("login:ip:10.0.0.1", 1, 1);
+        rateLimiter.tryAcquire("login:ip:10.0.0.1", 1, 1);
+
+        assertThat(registry.get("safeview.ratelimit.requests").tag("outcome", "allowed").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("safeview.ratelimit.requests").tag("outcome", "rejected").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("safeview.ratelimit.keys").gauge().value()).isEqualTo(1);
+    }
+}
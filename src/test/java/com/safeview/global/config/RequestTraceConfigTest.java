@@ -0,0 +1,48 @@
+package com.safeview.global.config;
+
+import com.safeview.domain.auth.entity.RefreshToken;
+import com.safeview.domain.auth.repository.RefreshTokenRepository;
+import com.safeview.global.trace.RequestTrace;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Import(RequestTraceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RequestTraceConfigTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void repositoryCallsAndCommitAreRecordedAsSpans() {
+        RequestTrace trace = RequestTrace.begin("POST", "/api/auth/login");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            refreshTokenRepository.save(RefreshToken.issue(
+                    UUID.randomUUID().toString(), UUID.randomUUID().toString(), 1L, now, now.plusDays(7)));
+            refreshTokenRepository.revokeFamily("family");
+        });
+        trace.finish();
+
+        String record = trace.toRecord(200);
+        assertThat(record)
+                .contains("\"db:RefreshTokenRepository.save\":{\"count\":1")
+                .contains("\"db:RefreshTokenRepository.revokeFamily\":{\"count\":1")
+                .contains("\"tx:commit\":{\"count\":1");
+    }
+}
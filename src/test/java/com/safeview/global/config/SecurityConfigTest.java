@@ -0,0 +1,43 @@
+package com.safeview.global.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityConfigTest {
+
+    private static final RequestMatcher ACTUATOR = request -> request.getRequestURI().startsWith("/actuator/");
+
+    @Test
+    void managementPortPermitsOnlyActuatorRequestsOnThatPort() {
+        RequestMatcher matcher = SecurityConfig.managementPortEndpoints(ACTUATOR, 8081, 8080);
+
+        assertThat(matcher.matches(request(8081, "/actuator/prometheus"))).isTrue();
+        assertThat(matcher.matches(request(8081, "/api/users/me"))).isFalse();
+        assertThat(matcher.matches(request(8080, "/actuator/prometheus"))).isFalse();
+    }
+
+    @Test
+    void managementPortEqualToServerPortPermitsNothing() {
+        RequestMatcher matcher = SecurityConfig.managementPortEndpoints(ACTUATOR, 8080, 8080);
+
+        assertThat(matcher.matches(request(8080, "/api/users/me"))).isFalse();
+        assertThat(matcher.matches(request(8080, "/api/admin/dashboard"))).isFalse();
+        assertThat(matcher.matches(request(8080, "/actuator/prometheus"))).isFalse();
+    }
+
+    @Test
+    void unsetManagementPortPermitsNothing() {
+        RequestMatcher matcher = SecurityConfig.managementPortEndpoints(ACTUATOR, -1, 8080);
+
+        assertThat(matcher.matches(request(8080, "/actuator/prometheus"))).isFalse();
+    }
+
+    private static MockHttpServletRequest request(int localPort, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setLocalPort(localPort);
+        return request;
+    }
+}
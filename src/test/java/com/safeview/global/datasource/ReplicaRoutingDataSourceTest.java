@@ -0,0 +1,121 @@
+package com.safeview.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 주 DB / 복제본 라우팅 검증 (임베디드 H2 두 개, 복제 지연은 하트비트 테이블로 모사)
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaLagMonitor lagMonitor;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate routed;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primaryDataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1");
+        DriverManagerDataSource replicaDataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        for (JdbcTemplate database : new JdbcTemplate[]{primary, replica}) {
+            database.execute("DROP ALL OBJECTS");
+            database.execute("CREATE TABLE node (name VARCHAR(20))");
+        }
+        primary.update("INSERT INTO node VALUES ('primary')");
+        replica.update("INSERT INTO node VALUES ('replica')");
+        replica.execute("CREATE TABLE replica_heartbeat (lag_seconds BIGINT)");
+        replica.update("INSERT INTO replica_heartbeat VALUES (0)");
+
+        lagMonitor = new ReplicaLagMonitor(replicaDataSource, "SELECT lag_seconds FROM replica_heartbeat", 5);
+        lagMonitor.check();
+        routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, lagMonitor);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        routed = new JdbcTemplate(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        lagMonitor.close();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_복제본으로_그_외는_주_DB로_보낸다() {
+        assertThat(readOnlyNode()).isEqualTo("replica");
+        assertThat(writeNode()).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+        assertThat(routingDataSource.getReplicaReadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 복제_지연이_허용치를_넘으면_주_DB에서_읽고_회복되면_복제본으로_돌아간다() {
+        replica.update("UPDATE replica_heartbeat SET lag_seconds = 30");
+        lagMonitor.check();
+
+        assertThat(lagMonitor.getLagSeconds()).isEqualTo(30);
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        assertThat(routingDataSource.getFallbackReadCount()).isEqualTo(1);
+
+        replica.update("UPDATE replica_heartbeat SET lag_seconds = 1");
+        lagMonitor.check();
+
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void 복제본_상태를_확인할_수_없으면_주_DB에서_읽는다() {
+        replica.execute("DROP TABLE replica_heartbeat");
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readOnlyNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void 같은_요청에서_쓰기_후의_읽기는_주_DB로_보낸다() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(readOnlyNode()).isEqualTo("replica");
+
+        writeTransaction.executeWithoutResult(status -> routed.update("INSERT INTO node VALUES ('written')"));
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        assertThat(routingDataSource.getStickyReadCount()).isEqualTo(1);
+
+        // 다음 요청은 다시 복제본에서 읽음
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    private String readOnlyNode() {
+        return readOnlyTransaction.execute(status -> currentNode());
+    }
+
+    private String writeNode() {
+        return writeTransaction.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return routed.queryForObject("SELECT name FROM node FETCH FIRST 1 ROWS ONLY", String.class);
+    }
+}
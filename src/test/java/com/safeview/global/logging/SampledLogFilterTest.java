@@ -0,0 +1,98 @@
+package com.safeview.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SampledLogFilterTest {
+
+    private LoggerContext context;
+    private SampledLogFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.getLogger("org.hibernate.SQL").setLevel(Level.DEBUG);
+        filter = new SampledLogFilter();
+        filter.setContext(context);
+        filter.setLoggerName("org.hibernate.SQL");
+        filter.setSampleRate(10);
+        filter.start();
+    }
+
+    @Test
+    void 대상_로거는_sampleRate_건마다_1건만_통과() {
+        Logger sql = context.getLogger("org.hibernate.SQL");
+
+        int passed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (filter.decide(null, sql, Level.DEBUG, "select 1", null, null) != FilterReply.DENY) {
+                passed++;
+            }
+        }
+
+        assertThat(passed).isEqualTo(10);
+    }
+
+    @Test
+    void 다른_로거와_비활성_레벨은_관여하지_않음() {
+        Logger other = context.getLogger("org.hibernate.SQLQuery");
+        Logger sql = context.getLogger("org.hibernate.SQL");
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(filter.decide(null, other, Level.INFO, "x", null, null)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(null, sql, Level.TRACE, "x", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        }
+        // 위 호출은 카운트되지 않았으므로 첫 DEBUG 로그는 통과
+        assertThat(filter.decide(null, sql, Level.DEBUG, "select 1", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, sql, Level.DEBUG, "select 1", null, null)).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void JBoss_Logging_경유_로그도_sampleRate_건마다_1건만_남음() {
+        // Hibernate는 JBoss Logging을 거쳐 로그 전 레벨 확인(isDebugEnabled)을 먼저 호출
+        LoggerContext root = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger sql = root.getLogger("org.hibernate.SQL");
+        Level previousLevel = sql.getLevel();
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        SampledLogFilter sampled = new SampledLogFilter();
+        sampled.setContext(root);
+        sampled.setLoggerName("org.hibernate.SQL");
+        sampled.setSampleRate(10);
+        sampled.start();
+
+        sql.setLevel(Level.DEBUG);
+        sql.addAppender(appender);
+        root.addTurboFilter(sampled);
+        try {
+            org.jboss.logging.Logger hibernateSql = org.jboss.logging.Logger.getLogger("org.hibernate.SQL");
+            for (int i = 0; i < 100; i++) {
+                hibernateSql.debug("select 1");
+            }
+        } finally {
+            root.getTurboFilterList().remove(sampled);
+            sql.detachAppender(appender);
+            sql.setLevel(previousLevel);
+        }
+
+        assertThat(appender.list).hasSize(10);
+    }
+
+    @Test
+    void loggerName_없으면_시작하지_않음() {
+        SampledLogFilter unnamed = new SampledLogFilter();
+        unnamed.setContext(context);
+        unnamed.start();
+
+        assertThat(unnamed.isStarted()).isFalse();
+    }
+}
@@ -0,0 +1,127 @@
+package com.safeview.global.security;
+
+import com.safeview.domain.auth.entity.AccessTokenDenial;
+import com.safeview.domain.auth.repository.AccessTokenDenialRepository;
+import com.safeview.domain.user.entity.Role;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "jwt.secret=test-secret-key-for-access-token-denylist-0123456789",
+        "jwt.expiration=3600000"
+})
+@Import({AccessTokenDenylist.class, JwtTokenProvider.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccessTokenDenylistTest {
+
+    @Autowired
+    private AccessTokenDenylist denylist;
+
+    @Autowired
+    private AccessTokenDenialRepository accessTokenDenialRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        accessTokenDenialRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deniedTokenIsRejectedAndOtherTokensPass() {
+        Claims loggedOut = jwtTokenProvider.getClaims(jwtTokenProvider.generateAccessToken(1L, Role.USER));
+        Claims otherDevice = jwtTokenProvider.getClaims(jwtTokenProvider.generateAccessToken(1L, Role.USER));
+
+        denylist.denyToken(loggedOut.getId(), 1L, loggedOut.getExpiration().toInstant());
+
+        assertThat(isDenied(loggedOut)).isTrue();
+        assertThat(isDenied(otherDevice)).isFalse();
+    }
+
+    @Test
+    void userDenialRejectsTokensIssuedBeforeIt() throws Exception {
+        Claims beforeRoleChange = jwtTokenProvider.getClaims(jwtTokenProvider.generateAccessToken(2L, Role.USER));
+        Claims otherUser = jwtTokenProvider.getClaims(jwtTokenProvider.generateAccessToken(3L, Role.USER));
+
+        // iat는 초 단위이므로 다음 초로 넘어간 뒤 차단
+        Thread.sleep(1100);
+        denylist.denyAllForUser(2L);
+        Claims afterRoleChange = jwtTokenProvider.getClaims(jwtTokenProvider.generateAccessToken(2L, Role.MODERATOR));
+
+        assertThat(isDenied(beforeRoleChange)).isTrue();
+        assertThat(isDenied(afterRoleChange)).isFalse();
+        assertThat(isDenied(otherUser)).isFalse();
+    }
+
+    @Test
+    void denialInsideTransactionIsAppliedOnlyAfterCommit() throws Exception {
+        Claims rolledBack = jwtTokenProvider.getClaims(jwtTokenProvider.generateAccessToken(6L, Role.USER));
+        Claims committed = jwtTokenProvider.getClaims(jwtTokenProvider.generateAccessToken(7L, Role.USER));
+        Thread.sleep(1100);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // 롤백된 역할 변경은 메모리 목록에 남지 않음
+        transaction.executeWithoutResult(status -> {
+            denylist.denyAllForUser(6L);
+            status.setRollbackOnly();
+        });
+        assertThat(isDenied(rolledBack)).isFalse();
+
+        // 커밋 전에는 반영하지 않고, 커밋 후에 반영
+        transaction.executeWithoutResult(status -> {
+            denylist.denyAllForUser(7L);
+            assertThat(isDenied(committed)).isFalse();
+        });
+        assertThat(isDenied(committed)).isTrue();
+    }
+
+    @Test
+    void denialsWrittenByAnotherInstanceAreLoadedFromTable() {
+        Claims token = jwtTokenProvider.getClaims(jwtTokenProvider.generateAccessToken(4L, Role.USER));
+        accessTokenDenialRepository.save(
+                AccessTokenDenial.ofToken(token.getId(), 4L, LocalDateTime.now().plusHours(1)));
+
+        // 새로 기동한 인스턴스와 같은 상태에서 테이블 반영
+        AccessTokenDenylist restarted = new AccessTokenDenylist(accessTokenDenialRepository, jwtTokenProvider);
+        assertThat(restarted.isDenied(token.getId(), 4L, token.getIssuedAt().toInstant())).isFalse();
+
+        restarted.sync();
+
+        assertThat(restarted.isDenied(token.getId(), 4L, token.getIssuedAt().toInstant())).isTrue();
+    }
+
+    @Test
+    void expiredDenialsArePurged() {
+        accessTokenDenialRepository.save(
+                AccessTokenDenial.ofToken("expired-token", 5L, LocalDateTime.now().minusMinutes(1)));
+        denylist.sync();
+        assertThat(denylist.isDenied("expired-token", 5L, Instant.now())).isTrue();
+
+        denylist.purgeExpired();
+
+        assertThat(denylist.isDenied("expired-token", 5L, Instant.now())).isFalse();
+        assertThat(accessTokenDenialRepository.count()).isZero();
+    }
+
+    private boolean isDenied(Claims claims) {
+        return denylist.isDenied(claims.getId(), Long.parseLong(claims.getSubject()), claims.getIssuedAt().toInstant());
+    }
+}
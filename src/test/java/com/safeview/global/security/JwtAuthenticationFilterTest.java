@@ -0,0 +1,87 @@
+package com.safeview.global.security;
+
+import com.safeview.domain.auth.entity.AccessTokenDenial;
+import com.safeview.domain.user.entity.Role;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private AccessTokenDenylist denylist;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "test-secret-key-for-jwt-authentication-filter-0123456789");
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpirationTime", 3_600_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenExpirationTime", 604_800_000L);
+        jwtTokenProvider.init();
+
+        // 메모리 차단 목록만 사용 (테이블 연동 없음)
+        denylist = new AccessTokenDenylist(null, jwtTokenProvider);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, denylist, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesAccessTokenAndRecordsFilterTime() throws Exception {
+        String token = jwtTokenProvider.generateAccessToken(1L, Role.MODERATOR);
+
+        Authentication authentication = filter(token);
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isEqualTo(1L);
+        assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_MODERATOR");
+        assertThat(filterTimerCount("authenticated")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsRefreshAndDeniedTokens() throws Exception {
+        String refreshToken = jwtTokenProvider.generateRefreshToken(1L, "token-id", "family-id");
+        String accessToken = jwtTokenProvider.generateAccessToken(1L, Role.USER);
+        Claims claims = jwtTokenProvider.getClaims(accessToken);
+        denylist.apply(AccessTokenDenial.ofToken(claims.getId(), 1L, LocalDateTime.now().plusHours(1)));
+
+        assertThat(filter(refreshToken)).isNull();
+        assertThat(filter(accessToken)).isNull();
+        assertThat(filter(null)).isNull();
+
+        assertThat(filterTimerCount("rejected")).isEqualTo(2);
+        assertThat(filterTimerCount("anonymous")).isEqualTo(1);
+    }
+
+    private Authentication filter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/videos");
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private long filterTimerCount(String outcome) {
+        return meterRegistry.get("safeview.security.jwt.filter").tag("outcome", outcome).timer().count();
+    }
+}
@@ -0,0 +1,129 @@
+package com.safeview.global.security;
+
+import com.safeview.global.config.PasswordHashingConfig;
+import com.safeview.global.exception.ApiException;
+import com.safeview.global.response.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor hashingExecutor;
+
+    @AfterEach
+    void tearDown() {
+        if (hashingExecutor != null) {
+            hashingExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void legacyAndWeakerHashesAreFlaggedForRehash() {
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        config.setBcryptStrength(11);
+        hashingExecutor = new PasswordHashingExecutor(config.passwordEncoder(), config);
+
+        String legacy = new BCryptPasswordEncoder(10).encode("admin123");
+        assertThat(hashingExecutor.matches("admin123", legacy)).isTrue();
+        assertThat(hashingExecutor.needsRehash(legacy)).isTrue();
+
+        String weaker = "{bcrypt}" + new BCryptPasswordEncoder(10).encode("admin123");
+        assertThat(hashingExecutor.needsRehash(weaker)).isTrue();
+
+        String current = hashingExecutor.encode("admin123");
+        assertThat(current).startsWith("{bcrypt}$2a$11$");
+        assertThat(hashingExecutor.matches("admin123", current)).isTrue();
+        assertThat(hashingExecutor.needsRehash(current)).isFalse();
+    }
+
+    @Test
+    void loginStormFailsFastAndLeavesOtherRequestsResponsive() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        config.setQueueCapacity(cores);
+        hashingExecutor = new PasswordHashingExecutor(config.passwordEncoder(), config);
+        String hash = hashingExecutor.encode("password");
+
+        // 로그인 폭주: 코어 수의 8배 요청 스레드가 동시에 로그인
+        int loginThreads = cores * 8;
+        ExecutorService requestThreads = Executors.newFixedThreadPool(loginThreads + 2);
+        AtomicInteger busy = new AtomicInteger();
+        List<Long> loginLatencies = Collections.synchronizedList(new ArrayList<>());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        List<Future<?>> workers = new ArrayList<>();
+
+        for (int i = 0; i < loginThreads; i++) {
+            workers.add(requestThreads.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        hashingExecutor.matches("password", hash);
+                        loginLatencies.add(System.nanoTime() - start);
+                    } catch (ApiException e) {
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AUTH_BUSY);
+                        busy.incrementAndGet();
+                        sleepQuietly(20); // 503 응답 후 클라이언트 재시도 간격
+                    }
+                }
+            }));
+        }
+
+        // 로그인 외 요청: 짧은 CPU 작업의 응답 시간 측정
+        List<Long> otherLatencies = Collections.synchronizedList(new ArrayList<>());
+        workers.add(requestThreads.submit(() -> {
+            while (System.nanoTime() < deadline) {
+                long start = System.nanoTime();
+                long acc = 0;
+                for (int i = 0; i < 10_000; i++) {
+                    acc += Integer.toString(i).hashCode();
+                }
+                if (acc != 42) {
+                    otherLatencies.add(System.nanoTime() - start);
+                }
+                Thread.sleep(5);
+            }
+            return null;
+        }));
+
+        requestThreads.shutdown();
+        assertThat(requestThreads.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        // 작업 스레드 안의 단언 실패를 테스트 실패로 전달
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+
+        assertThat(busy.get()).isPositive();
+        assertThat(hashingExecutor.getRejectedCount()).isEqualTo(busy.get());
+        assertThat(loginLatencies).isNotEmpty();
+        // 해시 작업이 코어를 모두 쓰는 동안에도 로그인 외 요청은 지연되지 않음
+        assertThat(otherLatencies).isNotEmpty();
+        assertThat(p99Millis(otherLatencies)).isLessThan(200);
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double p99Millis(List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return sorted.isEmpty() ? 0 : sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,215 @@
+package com.safeview.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safeview.global.config.RateLimitConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private RateLimitConfig config;
+    private RateLimiter rateLimiter;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitConfig.Rule rule = new RateLimitConfig.Rule();
+        rule.setName("login");
+        rule.setPath("/api/auth/login");
+        rule.setIpCapacity(20);
+        rule.setIpRefillPerMinute(20);
+        rule.setEmailCapacity(5);
+        rule.setEmailRefillPerMinute(5);
+
+        config = new RateLimitConfig();
+        config.setRules(List.of(rule));
+        rateLimiter = new RateLimiter(config);
+        filter = new RateLimitFilter(config, rateLimiter, new ObjectMapper());
+    }
+
+    @Test
+    void rejectsByEmailAndKeepsBodyReadableForController() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = send("10.0.0." + i, "Victim@SafeView.com", chain);
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            String forwardedBody = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(forwardedBody).contains("Victim@SafeView.com");
+        }
+
+        // IP가 달라도 같은 이메일(대소문자 무시)이면 제한
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse rejected = send("10.0.0.99", "victim@safeview.com", chain);
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isNotNull();
+        assertThat(rejected.getContentAsString()).contains("\"code\":\"429\"");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void legitimateTrafficIsUnaffectedDuringAbusiveBurst() throws Exception {
+        int attackerThreads = 8;
+        int attackerRequestsPerThread = 5_000;
+        int legitimateUsers = 500;
+
+        ExecutorService pool = Executors.newFixedThreadPool(attackerThreads + 8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger attackerAllowed = new AtomicInteger();
+        AtomicInteger legitimateRejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // 공격자: 단일 IP에서 무작위 이메일로 로그인 폭주
+        for (int t = 0; t < attackerThreads; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < attackerRequestsPerThread; i++) {
+                    MockHttpServletResponse response =
+                            send("203.0.113.7", "spam" + thread + "-" + i + "@safeview.com", new MockFilterChain());
+                    if (response.getStatus() == 200) {
+                        attackerAllowed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // 정상 사용자: 각자 IP에서 로그인 2회 (비밀번호 오타 1회 포함)
+        for (int t = 0; t < 8; t++) {
+            int offset = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int u = offset; u < legitimateUsers; u += 8) {
+                    for (int attempt = 0; attempt < 2; attempt++) {
+                        MockHttpServletResponse response =
+                                send("198.51.100." + (u % 250) + "-" + u, "user" + u + "@safeview.com", new MockFilterChain());
+                        if (response.getStatus() != 200) {
+                            legitimateRejected.incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        pool.shutdown();
+
+        assertThat(legitimateRejected.get()).isZero();
+        // 버킷 크기(20) + 테스트 시간 동안 충전된 토큰만 허용
+        assertThat(attackerAllowed.get()).isLessThanOrEqualTo(20 + (int) (elapsedMs / 3000) + 1);
+        assertThat(rateLimiter.getTrackedKeyCount()).isLessThanOrEqualTo(config.getMaxKeys());
+    }
+
+    @Test
+    void admitsNewKeysByEvictingIdleKeysWhenKeyLimitIsReached() throws Exception {
+        AtomicLong clock = useClock();
+        config.setMaxKeys(3);
+
+        // IP 키 1개 + 이메일 키 2개로 상한 도달
+        assertThat(send("10.0.0.1", "a@safeview.com", new MockFilterChain()).getStatus()).isEqualTo(200);
+        assertThat(send("10.0.0.1", "b@safeview.com", new MockFilterChain()).getStatus()).isEqualTo(200);
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        // 새 키는 거부하지 않고 유휴 키를 밀어내고 추적
+        MockFilterChain chain = new MockFilterChain();
+        assertThat(send("10.0.0.2", "c@safeview.com", chain).getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(rateLimiter.getEvictedCount()).isEqualTo(2);
+        assertThat(rateLimiter.getTrackedKeyCount()).isEqualTo(3);
+    }
+
+    @Test
+    void keyLimitDoesNotLockOutNewUsersOrReleaseLimitedKeys() throws Exception {
+        useClock();
+        config.setMaxKeys(30);
+
+        // 공격자: 단일 IP의 버킷을 소진 (IP 키 1개 + 이메일 키 20개)
+        for (int i = 0; i < 20; i++) {
+            assertThat(send("203.0.113.7", "spam" + i + "@safeview.com", new MockFilterChain()).getStatus()).isEqualTo(200);
+        }
+
+        // 정상 사용자: 유휴 키가 없는 상태에서 상한을 넘겨도 새 사용자는 허용
+        for (int u = 0; u < 20; u++) {
+            assertThat(send("198.51.100." + u, "user" + u + "@safeview.com", new MockFilterChain()).getStatus())
+                    .isEqualTo(200);
+        }
+
+        // 제한 중인 키는 밀려나지 않아 공격자는 계속 거부
+        assertThat(send("203.0.113.7", "spam99@safeview.com", new MockFilterChain()).getStatus()).isEqualTo(429);
+        assertThat(rateLimiter.getTrackedKeyCount()).isEqualTo(30);
+        assertThat(rateLimiter.getEvictedCount()).isPositive();
+    }
+
+    @Test
+    void spoofedForwardedForEntriesDoNotBypassIpLimit() throws Exception {
+        config.setTrustForwardedFor(true);
+
+        // 클라이언트가 왼쪽에 넣은 임의 IP는 무시하고 프록시가 추가한 IP 기준으로 제한
+        for (int i = 0; i < 20; i++) {
+            MockHttpServletResponse response =
+                    send("10.0.0.1", "203.0.113." + i + ", 198.51.100.1", "user" + i + "@safeview.com", new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+        MockHttpServletResponse rejected =
+                send("10.0.0.1", "203.0.113.99, 198.51.100.1", "user99@safeview.com", new MockFilterChain());
+        assertThat(rejected.getStatus()).isEqualTo(429);
+
+        // 프록시 2단: 오른쪽에서 두 번째 항목이 클라이언트 IP
+        config.setTrustedProxyCount(2);
+        assertThat(send("10.0.0.1", "198.51.100.1, 10.0.0.2", "user100@safeview.com", new MockFilterChain()).getStatus())
+                .isEqualTo(429);
+        assertThat(send("10.0.0.1", "198.51.100.2, 10.0.0.2", "user101@safeview.com", new MockFilterChain()).getStatus())
+                .isEqualTo(200);
+    }
+
+    /*
+     * 시각을 직접 조정하는 제한기로 교체 (정리 작업 없음)
+     */
+    private AtomicLong useClock() {
+        AtomicLong clock = new AtomicLong();
+        rateLimiter = new RateLimiter(config, clock::get);
+        filter = new RateLimitFilter(config, rateLimiter, new ObjectMapper());
+        return clock;
+    }
+
+    private MockHttpServletResponse send(String ip, String email, MockFilterChain chain) throws Exception {
+        return send(ip, null, email, chain);
+    }
+
+    private MockHttpServletResponse send(String ip, String forwardedFor, String email, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(ip);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\",\"password\":\"pw\"}").getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
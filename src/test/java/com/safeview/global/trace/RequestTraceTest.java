@@ -0,0 +1,64 @@
+package com.safeview.global.trace;
+
+import com.safeview.domain.decryption.service.BlockchainService;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestTraceTest {
+
+    @Test
+    void spansAreMergedByNameAndWrittenAsOneRecord() {
+        RequestTrace trace = RequestTrace.begin("POST", "/api/decryption/keys/verify/ai");
+
+        RequestTrace.endSpan("db:DecryptionKeyRepository.findByAccessToken", RequestTrace.startSpan());
+        RequestTrace.endSpan("chain:BlockchainService.isKeyValid", RequestTrace.startSpan());
+        RequestTrace.endSpan("db:DecryptionKeyRepository.findByAccessToken", RequestTrace.startSpan());
+        trace.finish();
+
+        assertThat(trace.getSpanCount("db:DecryptionKeyRepository.findByAccessToken")).isEqualTo(2);
+        assertThat(trace.getSpanCount("chain:BlockchainService.isKeyValid")).isEqualTo(1);
+        assertThat(trace.toRecord(200))
+                .startsWith("{\"method\":\"POST\",\"uri\":\"/api/decryption/keys/verify/ai\",\"status\":200,\"totalMs\":")
+                .contains("\"db:DecryptionKeyRepository.findByAccessToken\":{\"count\":2,\"ms\":")
+                .contains("\"otherMs\":");
+    }
+
+    @Test
+    void nothingIsRecordedOutsideRequest() {
+        assertThat(RequestTrace.startSpan()).isEqualTo(RequestTrace.NOT_TRACING);
+
+        RequestTrace trace = RequestTrace.begin("GET", "/api/videos");
+        trace.finish();
+        RequestTrace.endSpan("db:VideoRepository.findAll", System.nanoTime());
+
+        assertThat(trace.getSpanCount("db:VideoRepository.findAll")).isZero();
+    }
+
+    @Test
+    void interceptorRecordsProxiedCalls() {
+        BlockchainService target = mock(BlockchainService.class);
+        when(target.isKeyValid("key")).thenReturn(true);
+        BlockchainService service = RequestTraceInterceptor.wrap(BlockchainService.class, target, "chain", "BlockchainService");
+
+        RequestTrace trace = RequestTrace.begin("POST", "/api/decryption/keys/verify/ai");
+        assertThat(service.isKeyValid("key")).isTrue();
+        trace.finish();
+
+        assertThat(trace.getSpanCount("chain:BlockchainService.isKeyValid")).isEqualTo(1);
+    }
+
+    @Test
+    void spansBeyondLimitAreMergedIntoOther() {
+        RequestTrace trace = RequestTrace.begin("GET", "/api/admin/videos");
+        for (int i = 0; i < 40; i++) {
+            RequestTrace.endSpan("db:Repository.call" + i, RequestTrace.startSpan());
+        }
+        trace.finish();
+
+        assertThat(trace.getSpanCount("db:Repository.call0")).isEqualTo(1);
+        assertThat(trace.getSpanCount("other")).isEqualTo(9);
+    }
+}
@@ -0,0 +1,54 @@
+package com.safeview.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CryptoUtilTest {
+
+    private final CryptoUtil cryptoUtil = new CryptoUtil();
+
+    @Test
+    void 표준_Base64_난수는_지정한_바이트_수로_디코딩된다() {
+        String value = cryptoUtil.randomBase64(32);
+
+        assertThat(Base64.getDecoder().decode(value)).hasSize(32);
+    }
+
+    @Test
+    void URL_safe_토큰은_패딩과_URL_예약문자가_없다() {
+        for (int i = 0; i < 1000; i++) {
+            String token = cryptoUtil.randomUrlSafe(32);
+
+            assertThat(token).hasSize(43).doesNotContain("+", "/", "=");
+            assertThat(Base64.getUrlDecoder().decode(token)).hasSize(32);
+        }
+    }
+
+    @Test
+    void 버퍼를_재사용해도_이전_결과가_바뀌지_않는다() {
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            tokens.add(cryptoUtil.randomUrlSafe(16));
+            tokens.add(cryptoUtil.randomBase64(24));
+        }
+
+        assertThat(tokens).hasSize(2000);
+    }
+
+    @Test
+    void SHA_256_해시는_JDK_구현과_같다() throws Exception {
+        String rawKey = "키-원본-값";
+        String expected = Base64.getEncoder().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(rawKey.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(cryptoUtil.sha256Base64(rawKey)).isEqualTo(expected);
+        assertThat(cryptoUtil.sha256Base64(rawKey)).isEqualTo(expected);
+    }
+}
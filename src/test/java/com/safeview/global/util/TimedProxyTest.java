@@ -0,0 +1,36 @@
+package com.safeview.global.util;
+
+import com.safeview.domain.decryption.service.BlockchainService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TimedProxyTest {
+
+    @Test
+    void recordsCallsByMethodAndOutcome() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BlockchainService target = mock(BlockchainService.class);
+        when(target.isKeyValid("valid-key")).thenReturn(true);
+        when(target.useKey("broken-key")).thenThrow(new IllegalStateException("rpc down"));
+
+        BlockchainService service = TimedProxy.wrap(BlockchainService.class, target, registry, "safeview.blockchain.calls");
+
+        assertThat(service.isKeyValid("valid-key")).isTrue();
+        assertThat(service.isKeyValid("valid-key")).isTrue();
+        // 원래 예외가 그대로 전달됨
+        assertThatThrownBy(() -> service.useKey("broken-key"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("rpc down");
+
+        assertThat(registry.get("safeview.blockchain.calls")
+                .tags("method", "isKeyValid", "outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(registry.get("safeview.blockchain.calls")
+                .tags("method", "useKey", "outcome", "error", "exception", "IllegalStateException").timer().count())
+                .isEqualTo(1);
+    }
+}